@@ -0,0 +1,83 @@
+package com.kruger.backend.config;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.kruger.backend.utils.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces Boot's single data source when read replicas are configured: the
+ * primary pool is still built from {@code spring.datasource.*}, and every
+ * replica pool copies its settings with the replica's URL and credentials.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replicas.urls:}'.isBlank()")
+public class DataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+			@Value("${app.datasource.replicas.urls}") String urls,
+			@Value("${app.datasource.replicas.username:}") String username,
+			@Value("${app.datasource.replicas.password:}") String password,
+			@Value("${app.datasource.replicas.maximum-pool-size:0}") int maximumPoolSize,
+			@Value("${app.datasource.read-your-writes-ms:5000}") long readYourWritesMs,
+			@Value("${app.datasource.read-your-writes-max-users:10000}") int maxTrackedUsers,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		List<DataSource> replicas = new ArrayList<>();
+		List<String> replicaUrls = Arrays.stream(urls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+		for (int i = 0; i < replicaUrls.size(); i++) {
+			HikariDataSource replica = new HikariDataSource();
+			primaryDataSource.copyStateTo(replica);
+			replica.setJdbcUrl(replicaUrls.get(i));
+			replica.setPoolName("replica-" + i);
+			replica.setReadOnly(true);
+			if (!username.isEmpty()) {
+				replica.setUsername(username);
+				replica.setPassword(password);
+			}
+			if (maximumPoolSize > 0) {
+				replica.setMaximumPoolSize(maximumPoolSize);
+			}
+			// Boot only instruments Hikari pools that are beans themselves
+			meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+			replicas.add(replica);
+		}
+		return new ReadWriteRoutingDataSource(primaryDataSource, replicas, readYourWritesMs, maxTrackedUsers);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+		LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routingDataSource);
+		// known up front so that opening a transaction does not borrow a connection to ask
+		proxy.setDefaultAutoCommit(true);
+		proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		return proxy;
+	}
+}
@@ -0,0 +1,82 @@
+package com.kruger.backend.config;
+
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kruger.backend.utils.metrics.HandlerObservationConvention;
+import com.kruger.backend.utils.metrics.HibernateRequestCounter;
+import com.kruger.backend.utils.metrics.RequestQueryMetricsFilter;
+import com.kruger.backend.utils.metrics.TimedJackson2HttpMessageConverter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Request-path instrumentation on top of what Boot already publishes:
+ * {@code http.server.requests} tagged with the controller method, per-request
+ * Hibernate statement and entity-load counts, and JSON write timing.
+ * Connection-pool wait time comes from Boot's Hikari metrics
+ * ({@code hikaricp.connections.acquire}).
+ */
+@Configuration
+public class MetricsConfig {
+
+	private static final HibernateRequestCounter HIBERNATE_COUNTER = new HibernateRequestCounter();
+
+	@Bean
+	public HandlerObservationConvention handlerObservationConvention() {
+		return new HandlerObservationConvention();
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernateRequestCounterCustomizer() {
+		Integrator integrator = new Integrator() {
+			@Override
+			public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+					SessionFactoryImplementor sessionFactory) {
+				sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class)
+						.appendListeners(EventType.POST_LOAD, HIBERNATE_COUNTER);
+			}
+
+			@Override
+			public void disintegrate(SessionFactoryImplementor sessionFactory,
+					SessionFactoryServiceRegistry serviceRegistry) {
+			}
+		};
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, HIBERNATE_COUNTER);
+			properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(integrator));
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<RequestQueryMetricsFilter> requestQueryMetricsFilter(MeterRegistry meterRegistry) {
+		FilterRegistrationBean<RequestQueryMetricsFilter> registration = new FilterRegistrationBean<>(
+				new RequestQueryMetricsFilter(meterRegistry));
+		// outside the security chain, so authentication lookups are counted
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+		return registration;
+	}
+
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+			MeterRegistry meterRegistry) {
+		return new TimedJackson2HttpMessageConverter(objectMapper, meterRegistry);
+	}
+
+}
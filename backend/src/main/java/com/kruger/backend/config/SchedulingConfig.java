@@ -0,0 +1,24 @@
+package com.kruger.backend.config;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	/**
+	 * The calendar that decides when a day starts, for jobs that work in whole
+	 * days such as the overdue task detector.
+	 */
+	@Bean
+	public Clock clock(@Value("${app.tasks.overdue.zone:}") String zone) {
+		return zone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(zone));
+	}
+
+}
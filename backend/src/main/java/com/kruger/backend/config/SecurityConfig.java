@@ -1,7 +1,12 @@
 package com.kruger.backend.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -17,6 +22,10 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.kruger.backend.security.JwtAuthEntryPoint;
 import com.kruger.backend.security.JwtFilter;
+import com.kruger.backend.security.RateLimitFilter;
+import com.kruger.backend.utils.pagination.CursorPagination;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableMethodSecurity
@@ -26,21 +35,52 @@ public class SecurityConfig {
 
 	private JwtAuthEntryPoint jwtAuthenticationEntryPoint;
 
-	public SecurityConfig(JwtFilter jwtAuthenticationFilter, JwtAuthEntryPoint jwtAuthenticationEntryPoint) {
+	private RateLimitFilter rateLimitFilter;
+
+	public SecurityConfig(JwtFilter jwtAuthenticationFilter, JwtAuthEntryPoint jwtAuthenticationEntryPoint,
+			RateLimitFilter rateLimitFilter) {
 		this.jwtAuthenticationFilter = jwtAuthenticationFilter;
 		this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
+		this.rateLimitFilter = rateLimitFilter;
 	}
 	
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http, Environment environment) throws Exception {
+		// actuator is only left open when it listens on its own port, which is not published
+		boolean separateManagementPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
 		return http.csrf(csrf -> csrf.disable())
 				.cors(Customizer.withDefaults())
 				.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-				.authorizeHttpRequests(auth -> auth
-						.requestMatchers("/auth/**", "/swagger-ui.html", "/v3/api-docs/**", "/swagger-ui/**")
-						.permitAll().anyRequest().authenticated())
+				.authorizeHttpRequests(auth -> {
+					// async dispatches resume a request that was already authorized (SSE, streaming exports)
+					auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+					if (separateManagementPort) {
+						auth.requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll();
+					} else {
+						auth.requestMatchers(EndpointRequest.to("health")).permitAll()
+								.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN");
+					}
+					auth.requestMatchers("/auth/**", "/swagger-ui.html", "/v3/api-docs/**", "/swagger-ui/**")
+							.permitAll().anyRequest().authenticated();
+				})
 				.exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint)
-				).addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class).build();
+				).addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+				.addFilterAfter(rateLimitFilter, JwtFilter.class).build();
+	}
+
+	@Bean
+	public FilterRegistrationBean<JwtFilter> jwtFilterRegistration(JwtFilter filter) {
+		// JwtFilter only runs inside the security chain; keep Boot from also adding it to the servlet chain
+		FilterRegistrationBean<JwtFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.setEnabled(false);
+		return registration;
+	}
+
+	@Bean
+	public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+		FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.setEnabled(false);
+		return registration;
 	}
 
 	@Bean
@@ -58,8 +98,10 @@ public class SecurityConfig {
 		return new WebMvcConfigurer() {
 			@Override
 			public void addCorsMappings(CorsRegistry registry) {
-				registry.addMapping("/**").allowedOrigins("*").allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-						.allowedHeaders("*");
+				registry.addMapping("/**").allowedOrigins("*").allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+						.allowedHeaders("*").exposedHeaders(CursorPagination.NEXT_CURSOR_HEADER, HttpHeaders.ETAG,
+								HttpHeaders.RETRY_AFTER, RateLimitFilter.LIMIT_HEADER, RateLimitFilter.REMAINING_HEADER,
+								RateLimitFilter.RESET_HEADER);
 			}
 		};
 	}
@@ -1,12 +1,15 @@
 package com.kruger.backend.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.kruger.backend.dto.request.LoginRequest;
+import com.kruger.backend.dto.request.RefreshTokenRequest;
 import com.kruger.backend.dto.response.LoginResponse;
 import com.kruger.backend.service.AuthService;
 
@@ -30,4 +33,19 @@ public class AuthController {
 	public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest request) {
 		return ResponseEntity.ok(authService.login(request));
 	}
+
+	@PostMapping("/refresh")
+	@Operation(summary = "Refresh tokens", description = "Exchanges a refresh token, which is revoked, for a new access and refresh token")
+	public ResponseEntity<LoginResponse> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+		return ResponseEntity.ok(authService.refresh(request));
+	}
+
+	@PostMapping("/logout")
+	@Operation(summary = "Logout user", description = "Revokes the bearer access token and the refresh token in the body, if any")
+	public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+			@RequestBody(required = false) RefreshTokenRequest request) {
+		String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+		authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+		return ResponseEntity.noContent().build();
+	}
 }
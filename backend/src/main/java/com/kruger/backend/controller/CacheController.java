@@ -0,0 +1,33 @@
+package com.kruger.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kruger.backend.dto.response.CacheStatsResponse;
+import com.kruger.backend.service.CacheStatsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/admin/cache")
+@Tag(name = "Cache Management", description = "Operations related to the entity cache")
+public class CacheController {
+
+	private CacheStatsService cacheStatsService;
+
+	public CacheController(CacheStatsService cacheStatsService) {
+		this.cacheStatsService = cacheStatsService;
+	}
+
+	@GetMapping("/stats")
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(summary = "Get hit/miss statistics per second-level cache region")
+	public ResponseEntity<CacheStatsResponse> getStats() {
+		return ResponseEntity.ok(cacheStatsService.secondLevelCacheStats());
+	}
+
+}
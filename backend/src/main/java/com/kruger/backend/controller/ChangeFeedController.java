@@ -0,0 +1,36 @@
+package com.kruger.backend.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.kruger.backend.service.ChangeFeedService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/changes")
+@Tag(name = "Change Feed", description = "Server-Sent Events stream of task and project changes")
+public class ChangeFeedController {
+
+	private ChangeFeedService changeFeedService;
+
+	public ChangeFeedController(ChangeFeedService changeFeedService) {
+		this.changeFeedService = changeFeedService;
+	}
+
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Stream changes of the user's tasks and projects, and of every task of a project they own")
+	public SseEmitter stream(Principal principal, @RequestParam(required = false) Long projectId,
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+		return changeFeedService.subscribe(principal.getName(), projectId, lastEventId);
+	}
+
+}
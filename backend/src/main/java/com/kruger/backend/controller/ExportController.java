@@ -0,0 +1,68 @@
+package com.kruger.backend.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.kruger.backend.service.ExportService;
+import com.kruger.backend.utils.enums.ExportFormat;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/exports")
+@Tag(name = "Export", description = "Streaming bulk export of tasks and projects as NDJSON or CSV")
+public class ExportController {
+
+	private ExportService exportService;
+
+	public ExportController(ExportService exportService) {
+		this.exportService = exportService;
+	}
+
+	@GetMapping("/tasks")
+	@Operation(summary = "Export all tasks of the authenticated user")
+	public ResponseEntity<StreamingResponseBody> exportUserTasks(Principal principal,
+			@RequestParam(required = false) String format) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		String email = principal.getName();
+		return stream(exportFormat, "tasks", out -> exportService.exportUserTasks(email, exportFormat, out));
+	}
+
+	@GetMapping("/projects/{projectId}/tasks")
+	@Operation(summary = "Export all tasks of a project")
+	public ResponseEntity<StreamingResponseBody> exportProjectTasks(@PathVariable Long projectId,
+			@RequestParam(required = false) String format) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		return stream(exportFormat, "project-" + projectId + "-tasks",
+				out -> exportService.exportProjectTasks(projectId, exportFormat, out));
+	}
+
+	@GetMapping("/projects")
+	@Operation(summary = "Export all projects of the authenticated user")
+	public ResponseEntity<StreamingResponseBody> exportUserProjects(Principal principal,
+			@RequestParam(required = false) String format) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		String email = principal.getName();
+		return stream(exportFormat, "projects", out -> exportService.exportUserProjects(email, exportFormat, out));
+	}
+
+	private ResponseEntity<StreamingResponseBody> stream(ExportFormat format, String name,
+			StreamingResponseBody body) {
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+				.body(body);
+	}
+
+}
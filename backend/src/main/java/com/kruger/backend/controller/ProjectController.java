@@ -3,19 +3,30 @@ package com.kruger.backend.controller;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kruger.backend.dto.request.ProjectPatchRequest;
+import com.kruger.backend.dto.response.ProjectDeletionResponse;
 import com.kruger.backend.dto.response.ProjectResponse;
 import com.kruger.backend.entity.Project;
 import com.kruger.backend.service.ProjectService;
+import com.kruger.backend.service.ScopeVersionService;
+import com.kruger.backend.utils.enums.DeletionStatus;
+import com.kruger.backend.utils.etag.ETags;
+import com.kruger.backend.utils.etag.ScopeTag;
+import com.kruger.backend.utils.pagination.CursorPagination;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,8 +39,11 @@ public class ProjectController {
 
 	private ProjectService projectService;
 
-	public ProjectController(ProjectService projectService) {
+	private ScopeVersionService scopeVersionService;
+
+	public ProjectController(ProjectService projectService, ScopeVersionService scopeVersionService) {
 		this.projectService = projectService;
+		this.scopeVersionService = scopeVersionService;
 	}
 	
 
@@ -41,8 +55,15 @@ public class ProjectController {
 
 	@GetMapping
 	@Operation(summary = "Get all projects for the authenticated user")
-	public ResponseEntity<List<ProjectResponse>> getUserProjects(Principal principal) {
-		return ResponseEntity.ok(projectService.findProjectsByUser(principal));
+	public ResponseEntity<List<ProjectResponse>> getUserProjects(Principal principal,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		ScopeTag tag = scopeVersionService.userProjectsTag(principal.getName());
+		if (ETags.matches(ifNoneMatch, tag.getEtag())) {
+			return ETags.notModified(tag.getEtag());
+		}
+		return CursorPagination.toResponse(tag.read(() -> projectService.findProjectsByUser(principal, cursor, size)),
+				tag.getEtag());
 	}
 
 	@PutMapping("/{id}")
@@ -51,11 +72,26 @@ public class ProjectController {
 		return ResponseEntity.ok(projectService.update(project, id));
 	}
 
+	@PatchMapping("/{id}")
+	@Operation(summary = "Update only the given fields of a project if it is still at the given version")
+	public ResponseEntity<ProjectResponse> patch(@RequestBody ProjectPatchRequest patch, @PathVariable Long id) {
+		return ResponseEntity.ok(projectService.patch(patch, id));
+	}
+
 	@DeleteMapping("/{id}")
 	@Operation(summary = "Delete a project by ID")
-	public ResponseEntity<Void> delete(@PathVariable Long id) {
-		projectService.delete(id);
-		return ResponseEntity.noContent().build();
+	public ResponseEntity<ProjectDeletionResponse> delete(@PathVariable Long id) {
+		ProjectDeletionResponse deletion = projectService.delete(id);
+		if (deletion.getStatus() == DeletionStatus.COMPLETED) {
+			return ResponseEntity.noContent().build();
+		}
+		return ResponseEntity.accepted().body(deletion);
+	}
+
+	@GetMapping("/{id}/deletion")
+	@Operation(summary = "Get the progress of a project deletion")
+	public ResponseEntity<ProjectDeletionResponse> getDeletionStatus(@PathVariable Long id) {
+		return ResponseEntity.ok(projectService.deletionStatus(id));
 	}
 
 }
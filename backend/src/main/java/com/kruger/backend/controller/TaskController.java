@@ -3,19 +3,34 @@ package com.kruger.backend.controller;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kruger.backend.dto.request.TaskBulkRequest;
+import com.kruger.backend.dto.request.TaskPatchRequest;
+import com.kruger.backend.dto.response.TaskBulkResponse;
 import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.dto.response.TaskStatsResponse;
 import com.kruger.backend.entity.Task;
+import com.kruger.backend.service.OverdueTaskService;
+import com.kruger.backend.service.ScopeVersionService;
+import com.kruger.backend.service.TaskSearchService;
 import com.kruger.backend.service.TaskService;
+import com.kruger.backend.service.TaskStatsService;
+import com.kruger.backend.utils.etag.ETags;
+import com.kruger.backend.utils.etag.ScopeTag;
+import com.kruger.backend.utils.pagination.CursorPagination;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,9 +42,23 @@ import jakarta.validation.Valid;
 public class TaskController {
 
 	private TaskService taskService;
+
+	private TaskStatsService taskStatsService;
+
+	private ScopeVersionService scopeVersionService;
+
+	private TaskSearchService taskSearchService;
+
+	private OverdueTaskService overdueTaskService;
 	
-	public TaskController(TaskService taskService) {
+	public TaskController(TaskService taskService, TaskStatsService taskStatsService,
+			ScopeVersionService scopeVersionService, TaskSearchService taskSearchService,
+			OverdueTaskService overdueTaskService) {
 		this.taskService = taskService;
+		this.taskStatsService = taskStatsService;
+		this.scopeVersionService = scopeVersionService;
+		this.taskSearchService = taskSearchService;
+		this.overdueTaskService = overdueTaskService;
 	}
 
 	@PostMapping
@@ -38,16 +67,63 @@ public class TaskController {
 		return ResponseEntity.ok(taskService.create(task,principal.getName()));
 	}
 
+	@PostMapping("/bulk")
+	@Operation(summary = "Create, update and delete many tasks in one batched request")
+	public ResponseEntity<TaskBulkResponse> bulk(@Valid @RequestBody TaskBulkRequest request, Principal principal) {
+		return ResponseEntity.ok(taskService.bulk(request, principal.getName()));
+	}
+
 	@GetMapping
 	@Operation(summary = "Get all tasks for the authenticated user")
-	public ResponseEntity<List<TaskResponse>> getUserTasks(Principal principal) {
-		return ResponseEntity.ok(taskService.findProjectByParameters(principal.getName()));
+	public ResponseEntity<List<TaskResponse>> getUserTasks(Principal principal,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		ScopeTag tag = scopeVersionService.userTasksTag(principal.getName());
+		if (ETags.matches(ifNoneMatch, tag.getEtag())) {
+			return ETags.notModified(tag.getEtag());
+		}
+		return CursorPagination.toResponse(
+				tag.read(() -> taskService.findProjectByParameters(principal.getName(), cursor, size)), tag.getEtag());
 	}
 
 	@GetMapping("/project/{projectId}")
 	@Operation(summary = "Get all tasks for a specific project")
-	public ResponseEntity<List<TaskResponse>> getByProject(@PathVariable Long projectId) {
-		return ResponseEntity.ok(taskService.findProjectById(projectId));
+	public ResponseEntity<List<TaskResponse>> getByProject(@PathVariable Long projectId,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		ScopeTag tag = scopeVersionService.projectTasksTag(projectId);
+		if (ETags.matches(ifNoneMatch, tag.getEtag())) {
+			return ETags.notModified(tag.getEtag());
+		}
+		return CursorPagination.toResponse(tag.read(() -> taskService.findProjectById(projectId, cursor, size)),
+				tag.getEtag());
+	}
+
+	@GetMapping("/search")
+	@Operation(summary = "Search the titles and descriptions of the tasks visible to the authenticated user")
+	public ResponseEntity<List<TaskResponse>> search(Principal principal, @RequestParam String q,
+			@RequestParam(required = false) Long projectId, @RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		return CursorPagination.toResponse(taskSearchService.search(principal.getName(), q, projectId, cursor, size));
+	}
+
+	@GetMapping("/overdue")
+	@Operation(summary = "Get the authenticated user's open tasks past their due date, oldest first")
+	public ResponseEntity<List<TaskResponse>> getOverdue(Principal principal,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		return CursorPagination.toResponse(overdueTaskService.overdueForUser(principal.getName(), cursor, size));
+	}
+
+	@GetMapping("/stats")
+	@Operation(summary = "Count the authenticated user's tasks by status")
+	public ResponseEntity<TaskStatsResponse> getUserStats(Principal principal) {
+		return ResponseEntity.ok(taskStatsService.countsForUser(principal.getName()));
+	}
+
+	@GetMapping("/stats/project/{projectId}")
+	@Operation(summary = "Count the tasks of a project by status")
+	public ResponseEntity<TaskStatsResponse> getProjectStats(@PathVariable Long projectId) {
+		return ResponseEntity.ok(taskStatsService.countsForProject(projectId));
 	}
 
 	@PutMapping("/{id}")
@@ -56,6 +132,12 @@ public class TaskController {
 		return ResponseEntity.ok(taskService.update(task, id));
 	}
 
+	@PatchMapping("/{id}")
+	@Operation(summary = "Update only the given fields of a task if it is still at the given version")
+	public ResponseEntity<TaskResponse> patch(@RequestBody TaskPatchRequest patch, @PathVariable Long id) {
+		return ResponseEntity.ok(taskService.patch(patch, id));
+	}
+
 	@DeleteMapping("/{id}")
 	@Operation(summary = "Delete a task by ID")
 	public ResponseEntity<Void> delete(@PathVariable Long id){
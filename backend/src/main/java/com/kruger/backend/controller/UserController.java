@@ -1,7 +1,9 @@
 package com.kruger.backend.controller;
 
+import java.io.InputStream;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,13 +11,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.kruger.backend.dto.request.UserRequest;
+import com.kruger.backend.dto.response.UserImportResponse;
 import com.kruger.backend.dto.response.UserResponse;
 import com.kruger.backend.entity.User;
 import com.kruger.backend.mapper.UserMapper;
+import com.kruger.backend.service.UserImportService;
 import com.kruger.backend.service.UserService;
+import com.kruger.backend.utils.pagination.CursorPagination;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,14 +34,18 @@ public class UserController {
 	
 	private UserService userService;
 
-	public UserController(UserService userService) {
+	private UserImportService userImportService;
+
+	public UserController(UserService userService, UserImportService userImportService) {
 		this.userService = userService;
+		this.userImportService = userImportService;
 	}
 
 	@GetMapping
 	@Operation(summary = "List all users")
-	public ResponseEntity<List<UserResponse>> listAll() {
-		return ResponseEntity.ok(userService.getAllUsers());
+	public ResponseEntity<List<UserResponse>> listAll(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		return CursorPagination.toResponse(userService.getAllUsers(cursor, size));
 	}
 
 	@GetMapping("/{id}")
@@ -52,4 +62,11 @@ public class UserController {
 	public ResponseEntity<UserResponse> register(@RequestBody @Valid UserRequest user) {
 		return ResponseEntity.ok(UserMapper.toResponse(userService.createUser(user)));
 	}
+
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Import many users from a JSON array, reporting the rows that could not be created")
+	public ResponseEntity<UserImportResponse> importUsers(InputStream body) {
+		return ResponseEntity.ok(userImportService.importUsers(body));
+	}
 }
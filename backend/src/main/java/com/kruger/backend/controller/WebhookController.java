@@ -0,0 +1,53 @@
+package com.kruger.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kruger.backend.dto.request.WebhookEndpointRequest;
+import com.kruger.backend.dto.response.WebhookEndpointResponse;
+import com.kruger.backend.service.WebhookService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/admin/webhooks")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Webhook Management", description = "Endpoints notified of task and project changes")
+public class WebhookController {
+
+	private WebhookService webhookService;
+
+	public WebhookController(WebhookService webhookService) {
+		this.webhookService = webhookService;
+	}
+
+	@PostMapping
+	@Operation(summary = "Register a webhook endpoint")
+	public ResponseEntity<WebhookEndpointResponse> register(@RequestBody WebhookEndpointRequest request) {
+		return ResponseEntity.ok(webhookService.register(request));
+	}
+
+	@GetMapping
+	@Operation(summary = "List webhook endpoints with their pending and dead deliveries")
+	public ResponseEntity<List<WebhookEndpointResponse>> findAll() {
+		return ResponseEntity.ok(webhookService.findAll());
+	}
+
+	@DeleteMapping("/{id}")
+	@Operation(summary = "Delete a webhook endpoint and its pending deliveries")
+	public ResponseEntity<Void> delete(@PathVariable Long id) {
+		webhookService.delete(id);
+		return ResponseEntity.noContent().build();
+	}
+
+}
@@ -0,0 +1,13 @@
+package com.kruger.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectOwner {
+
+	private Long projectId;
+
+	private Long ownerId;
+}
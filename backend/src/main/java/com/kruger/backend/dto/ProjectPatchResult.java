@@ -0,0 +1,15 @@
+package com.kruger.backend.dto;
+
+import com.kruger.backend.dto.response.ProjectResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectPatchResult {
+
+	private Long ownerId;
+
+	private ProjectResponse project;
+}
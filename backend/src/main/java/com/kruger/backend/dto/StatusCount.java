@@ -0,0 +1,17 @@
+package com.kruger.backend.dto;
+
+import com.kruger.backend.utils.enums.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StatusCount {
+
+	private Long scopeId;
+
+	private TaskStatus status;
+
+	private Long count;
+}
@@ -0,0 +1,19 @@
+package com.kruger.backend.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskDue {
+
+	private Long taskId;
+
+	private Long assignedToId;
+
+	private Long projectId;
+
+	private LocalDate dueDate;
+}
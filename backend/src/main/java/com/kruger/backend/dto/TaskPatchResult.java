@@ -0,0 +1,18 @@
+package com.kruger.backend.dto;
+
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.event.TaskSnapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskPatchResult {
+
+	private TaskSnapshot before;
+
+	private TaskSnapshot after;
+
+	private TaskResponse task;
+}
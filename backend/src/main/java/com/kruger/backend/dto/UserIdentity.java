@@ -0,0 +1,19 @@
+package com.kruger.backend.dto;
+
+import com.kruger.backend.utils.enums.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+
+	private Long id;
+
+	private String username;
+
+	private String email;
+
+	private Role role;
+}
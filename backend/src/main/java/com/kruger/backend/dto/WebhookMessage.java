@@ -0,0 +1,31 @@
+package com.kruger.backend.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A claimed delivery together with the outbox event it carries.
+ * {@code payload} is the event serialized as JSON when it was recorded.
+ */
+@Getter
+@AllArgsConstructor
+public class WebhookMessage {
+
+	private Long deliveryId;
+
+	private int attempts;
+
+	private Long eventId;
+
+	private String aggregateType;
+
+	private Long aggregateId;
+
+	private String eventType;
+
+	private String payload;
+
+	private LocalDateTime createdAt;
+}
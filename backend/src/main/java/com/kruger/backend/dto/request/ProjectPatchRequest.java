@@ -0,0 +1,23 @@
+package com.kruger.backend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial project update. Only non-null fields are applied; {@code version}
+ * must be the version the client last read.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectPatchRequest {
+
+	private Long version;
+
+	private String name;
+
+	private String description;
+}
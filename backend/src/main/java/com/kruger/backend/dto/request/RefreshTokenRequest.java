@@ -0,0 +1,15 @@
+package com.kruger.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+	@NotBlank(message = "The refresh token must not be blank")
+	private String refreshToken;
+}
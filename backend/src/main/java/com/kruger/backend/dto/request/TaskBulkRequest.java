@@ -0,0 +1,26 @@
+package com.kruger.backend.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kruger.backend.entity.Task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkRequest {
+
+	@Valid
+	private List<Task> create = new ArrayList<>();
+
+	@Valid
+	private List<Task> update = new ArrayList<>();
+
+	private List<@NotNull Long> delete = new ArrayList<>();
+}
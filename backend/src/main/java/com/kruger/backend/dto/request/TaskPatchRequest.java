@@ -0,0 +1,31 @@
+package com.kruger.backend.dto.request;
+
+import java.time.LocalDate;
+
+import com.kruger.backend.utils.enums.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial task update. Only non-null fields are applied; {@code version} must
+ * be the version the client last read.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPatchRequest {
+
+	private Long version;
+
+	private String title;
+
+	private String description;
+
+	private TaskStatus status;
+
+	private LocalDate dueDate;
+}
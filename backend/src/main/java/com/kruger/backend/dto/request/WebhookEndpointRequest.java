@@ -0,0 +1,19 @@
+package com.kruger.backend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WebhookEndpointRequest {
+
+	private String url;
+
+	private String secret;
+
+	private Integer maxInFlight;
+}
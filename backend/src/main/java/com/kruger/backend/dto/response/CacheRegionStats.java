@@ -0,0 +1,25 @@
+package com.kruger.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheRegionStats {
+
+	private String region;
+
+	private long hits;
+
+	private long misses;
+
+	private long puts;
+
+	private double hitRatio;
+
+	private long elementsInMemory;
+}
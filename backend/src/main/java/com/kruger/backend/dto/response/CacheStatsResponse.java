@@ -0,0 +1,19 @@
+package com.kruger.backend.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsResponse {
+
+	private boolean enabled;
+
+	private List<CacheRegionStats> regions;
+}
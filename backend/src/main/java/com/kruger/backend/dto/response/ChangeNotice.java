@@ -0,0 +1,21 @@
+package com.kruger.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeNotice {
+
+	private String entity;
+
+	private String change;
+
+	private Long id;
+
+	private Long projectId;
+}
@@ -12,4 +12,11 @@ import lombok.NoArgsConstructor;
 public class LoginResponse {
 
 	private String token;
+
+	private String refreshToken;
+
+	/**
+	 * Seconds until the access token expires.
+	 */
+	private long expiresIn;
 }
@@ -0,0 +1,23 @@
+package com.kruger.backend.dto.response;
+
+import com.kruger.backend.utils.enums.DeletionStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectDeletionResponse {
+
+	private Long projectId;
+
+	private DeletionStatus status;
+
+	private long totalTasks;
+
+	private long deletedTasks;
+}
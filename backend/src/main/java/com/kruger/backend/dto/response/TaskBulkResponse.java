@@ -0,0 +1,21 @@
+package com.kruger.backend.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkResponse {
+
+	private List<TaskResponse> created;
+
+	private List<TaskResponse> updated;
+
+	private List<Long> deleted;
+}
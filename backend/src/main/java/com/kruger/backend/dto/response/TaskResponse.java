@@ -31,4 +31,6 @@ public class TaskResponse {
 	private LocalDate dueDate;
 	
 	private LocalDateTime createdAt;
+
+	private Long version;
 }
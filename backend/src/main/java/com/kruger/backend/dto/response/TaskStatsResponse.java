@@ -0,0 +1,21 @@
+package com.kruger.backend.dto.response;
+
+import java.util.Map;
+
+import com.kruger.backend.utils.enums.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatsResponse {
+
+	private Map<TaskStatus, Long> counts;
+
+	private long total;
+}
@@ -0,0 +1,19 @@
+package com.kruger.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportFailure {
+
+	private int index;
+
+	private String email;
+
+	private String reason;
+}
@@ -0,0 +1,28 @@
+package com.kruger.backend.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResponse {
+
+	private int received;
+
+	private int created;
+
+	private int failed;
+
+	private List<UserImportFailure> failures;
+
+	/**
+	 * Set when the input stopped being valid JSON; rows before it were imported.
+	 */
+	private String error;
+}
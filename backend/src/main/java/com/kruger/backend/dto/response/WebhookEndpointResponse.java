@@ -0,0 +1,29 @@
+package com.kruger.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WebhookEndpointResponse {
+
+	private Long id;
+
+	private String url;
+
+	private int maxInFlight;
+
+	private boolean active;
+
+	private LocalDateTime createdAt;
+
+	private long pendingDeliveries;
+
+	private long deadDeliveries;
+}
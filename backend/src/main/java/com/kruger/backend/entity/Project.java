@@ -2,18 +2,28 @@ package com.kruger.backend.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.CACHE_REGION)
 @Data
 @Table(name = "project")
 @EqualsAndHashCode(callSuper = false)
@@ -21,8 +31,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Project extends GeneralFields {
 
+	public static final String CACHE_REGION = "projects";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+	@SequenceGenerator(name = "project_seq", sequenceName = "project_id_seq", allocationSize = 50)
 	private Long id;
 
 	private String name;
@@ -34,4 +47,10 @@ public class Project extends GeneralFields {
 	@ManyToOne
 	private User owner;
 
+	@JsonIgnore
+	private LocalDateTime deletedAt;
+
+	@Version
+	private Long version;
+
 }
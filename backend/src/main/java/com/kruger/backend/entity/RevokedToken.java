@@ -0,0 +1,28 @@
+package com.kruger.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@Table(name = "revoked_token")
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+
+	@Id
+	private String jti;
+
+	private String subject;
+
+	private LocalDateTime expiresAt;
+
+	private LocalDateTime revokedAt;
+
+}
@@ -12,7 +12,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -27,7 +29,8 @@ import lombok.NoArgsConstructor;
 public class Task extends GeneralFields {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+	@SequenceGenerator(name = "task_seq", sequenceName = "task_id_seq", allocationSize = 50)
 	private Long id;
 
 	private String title;
@@ -47,4 +50,7 @@ public class Task extends GeneralFields {
 	
 	private LocalDateTime createdAt = LocalDateTime.now();
 
+	@Version
+	private Long version;
+
 }
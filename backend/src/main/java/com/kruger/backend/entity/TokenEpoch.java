@@ -0,0 +1,26 @@
+package com.kruger.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@Table(name = "token_epoch")
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenEpoch {
+
+	@Id
+	private String subject;
+
+	private LocalDateTime revokedBefore;
+
+	private LocalDateTime updatedAt;
+
+}
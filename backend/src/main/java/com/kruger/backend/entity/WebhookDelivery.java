@@ -0,0 +1,45 @@
+package com.kruger.backend.entity;
+
+import java.time.LocalDateTime;
+
+import com.kruger.backend.utils.enums.DeliveryStatus;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pending delivery of one outbox event to one endpoint. Rows are created and
+ * claimed by SQL in the dispatcher and deleted once delivered.
+ */
+@Entity
+@Data
+@Table(name = "webhook_delivery")
+@AllArgsConstructor
+@NoArgsConstructor
+public class WebhookDelivery {
+
+	@Id
+	private Long id;
+
+	private Long endpointId;
+
+	private Long eventId;
+
+	private String aggregateKey;
+
+	@Enumerated(EnumType.STRING)
+	private DeliveryStatus status;
+
+	private int attempts;
+
+	private LocalDateTime nextAttemptAt;
+
+	private String lastError;
+
+}
@@ -0,0 +1,40 @@
+package com.kruger.backend.entity;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@Table(name = "webhook_endpoint")
+@AllArgsConstructor
+@NoArgsConstructor
+public class WebhookEndpoint {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "webhook_endpoint_seq")
+	@SequenceGenerator(name = "webhook_endpoint_seq", sequenceName = "webhook_endpoint_id_seq", allocationSize = 50)
+	private Long id;
+
+	private String url;
+
+	@JsonIgnore
+	private String secret;
+
+	private int maxInFlight;
+
+	private boolean active = true;
+
+	private LocalDateTime createdAt = LocalDateTime.now();
+
+}
@@ -0,0 +1,21 @@
+package com.kruger.backend.event;
+
+import com.kruger.backend.utils.enums.ChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the project services after every write. A DELETED event is
+ * published when the project is marked deleted, while its tasks still exist.
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+	private ChangeType type;
+
+	private Long projectId;
+
+	private Long ownerId;
+}
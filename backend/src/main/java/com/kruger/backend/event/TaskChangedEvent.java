@@ -0,0 +1,33 @@
+package com.kruger.backend.event;
+
+import com.kruger.backend.utils.enums.ChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the task service after every write. {@code before} is null for
+ * creations and {@code after} is null for deletions.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskChangedEvent {
+
+	private ChangeType type;
+
+	private TaskSnapshot before;
+
+	private TaskSnapshot after;
+
+	public static TaskChangedEvent created(TaskSnapshot after) {
+		return new TaskChangedEvent(ChangeType.CREATED, null, after);
+	}
+
+	public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+		return new TaskChangedEvent(ChangeType.UPDATED, before, after);
+	}
+
+	public static TaskChangedEvent deleted(TaskSnapshot before) {
+		return new TaskChangedEvent(ChangeType.DELETED, before, null);
+	}
+}
@@ -0,0 +1,22 @@
+package com.kruger.backend.event;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published once when an open task passes its due date without being done.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskOverdueEvent {
+
+	private Long taskId;
+
+	private Long assignedToId;
+
+	private Long projectId;
+
+	private LocalDate dueDate;
+}
@@ -0,0 +1,39 @@
+package com.kruger.backend.event;
+
+import java.time.LocalDate;
+
+import com.kruger.backend.entity.Task;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable copy of the task columns that listeners of {@link TaskChangedEvent}
+ * care about, taken before the entity can change again.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSnapshot {
+
+	private Long id;
+
+	private Long assignedToId;
+
+	private Long projectId;
+
+	private TaskStatus status;
+
+	private String title;
+
+	private String description;
+
+	private LocalDate dueDate;
+
+	public static TaskSnapshot of(Task task) {
+		return new TaskSnapshot(task.getId(),
+				task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+				task.getProject() != null ? task.getProject().getId() : null,
+				task.getStatus(), task.getTitle(), task.getDescription(), task.getDueDate());
+	}
+}
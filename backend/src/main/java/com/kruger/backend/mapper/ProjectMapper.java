@@ -6,12 +6,17 @@ import com.kruger.backend.entity.Project;
 public class ProjectMapper {
 
 	public static ProjectResponse toResponse(Project project) {
+        return toResponse(project, project.getOwner().getUsername());
+    }
+
+	public static ProjectResponse toResponse(Project project, String owner) {
         ProjectResponse dto = new ProjectResponse();
         dto.setId(project.getId());
         dto.setName(project.getName());
         dto.setDescription(project.getDescription());
         dto.setCreatedAt(project.getCreatedAt());
-        dto.setOwner(project.getOwner().getUsername());
+        dto.setOwner(owner);
+        dto.setVersion(project.getVersion());
         return dto;
     }
 
@@ -6,6 +6,10 @@ import com.kruger.backend.entity.Task;
 public class TaskMapper {
 
 	public static TaskResponse toResponse(Task task) {
+        return toResponse(task, task.getAssignedTo().getUsername());
+    }
+
+	public static TaskResponse toResponse(Task task, String assignedTo) {
         TaskResponse dto = new TaskResponse();
         dto.setId(task.getId());
         dto.setTitle(task.getTitle());
@@ -13,8 +17,9 @@ public class TaskMapper {
         dto.setStatus(task.getStatus());
         dto.setDueDate(task.getDueDate());
         dto.setCreatedAt(task.getCreatedAt());
-        dto.setAssignedTo(task.getAssignedTo().getUsername());
-        dto.setProject(task.getProject().getId());
+        dto.setAssignedTo(assignedTo);
+        dto.setProject(task.getProject() != null ? task.getProject().getId() : null);
+        dto.setVersion(task.getVersion());
         return dto;
     }
 
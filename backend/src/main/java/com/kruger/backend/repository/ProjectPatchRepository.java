@@ -0,0 +1,17 @@
+package com.kruger.backend.repository;
+
+import java.util.Optional;
+
+import com.kruger.backend.dto.ProjectPatchResult;
+import com.kruger.backend.dto.request.ProjectPatchRequest;
+
+public interface ProjectPatchRepository {
+
+	/**
+	 * Applies the non-null fields of {@code patch} if the project still has
+	 * {@code patch.getVersion()}. Empty when the project is missing, deleted or
+	 * was modified in between.
+	 */
+	Optional<ProjectPatchResult> patch(Long id, ProjectPatchRequest patch);
+
+}
@@ -0,0 +1,84 @@
+package com.kruger.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kruger.backend.dto.ProjectPatchResult;
+import com.kruger.backend.dto.request.ProjectPatchRequest;
+import com.kruger.backend.dto.response.ProjectResponse;
+import com.kruger.backend.entity.Project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Conditional partial update in a single statement, returning the updated row
+ * with its owner's username. The statement bypasses Hibernate, so the cached
+ * entity is evicted here and again after commit, and cached query results
+ * over the table are invalidated.
+ */
+class ProjectPatchRepositoryImpl implements ProjectPatchRepository {
+
+	private static final String PATCH = "WITH prev AS ("
+			+ "SELECT id, owner_id FROM project "
+			+ "WHERE id = :id AND version = :version AND deleted_at IS NULL) "
+			+ "UPDATE project p SET "
+			+ "name = COALESCE(CAST(:name AS varchar), p.name), "
+			+ "description = COALESCE(CAST(:description AS varchar), p.description), "
+			+ "version = p.version + 1 "
+			+ "FROM prev LEFT JOIN users o ON o.id = prev.owner_id "
+			+ "WHERE p.id = prev.id AND p.version = :version AND p.deleted_at IS NULL "
+			+ "RETURNING p.id, p.name, p.description, p.created_at, o.username, p.version, prev.owner_id";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<ProjectPatchResult> patch(Long id, ProjectPatchRequest patch) {
+		List<Object[]> rows = entityManager.createNativeQuery(PATCH)
+				.setParameter("id", id)
+				.setParameter("version", patch.getVersion())
+				.setParameter("name", patch.getName())
+				.setParameter("description", patch.getDescription())
+				.unwrap(NativeQuery.class)
+				.addSynchronizedEntityClass(Project.class)
+				.addScalar("id", StandardBasicTypes.LONG)
+				.addScalar("name", StandardBasicTypes.STRING)
+				.addScalar("description", StandardBasicTypes.STRING)
+				.addScalar("created_at", StandardBasicTypes.LOCAL_DATE_TIME)
+				.addScalar("username", StandardBasicTypes.STRING)
+				.addScalar("version", StandardBasicTypes.LONG)
+				.addScalar("owner_id", StandardBasicTypes.LONG)
+				.getResultList();
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		}
+		evict(id);
+		QuerySpaces.invalidate(entityManager, "project");
+
+		Object[] row = rows.get(0);
+		ProjectResponse project = new ProjectResponse((Long) row[0], (String) row[1], (String) row[2],
+				(LocalDateTime) row[3], (String) row[4], (Long) row[5]);
+		return Optional.of(new ProjectPatchResult((Long) row[6], project));
+	}
+
+	private void evict(Long id) {
+		entityManager.getEntityManagerFactory().getCache().evict(Project.class, id);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					entityManager.getEntityManagerFactory().getCache().evict(Project.class, id);
+				}
+			});
+		}
+	}
+
+}
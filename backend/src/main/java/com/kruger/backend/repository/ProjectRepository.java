@@ -1,17 +1,66 @@
 package com.kruger.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.kruger.backend.dto.ProjectOwner;
+import com.kruger.backend.dto.response.ProjectResponse;
 import com.kruger.backend.entity.Project;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+import jakarta.persistence.QueryHint;
 
-	@Query("SELECT p FROM Project p "
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectPatchRepository {
+
+	String PROJECT_RESPONSE = "SELECT new com.kruger.backend.dto.response.ProjectResponse("
+			+ "p.id, p.name, p.description, p.createdAt, o.username, p.version) ";
+
+	@Query(PROJECT_RESPONSE
+			+ "FROM Project p JOIN p.owner o "
 			+ "WHERE p.owner.id = :userId "
+			+ "AND p.deletedAt IS NULL "
+			+ "AND p.id > :afterId "
+			+ "ORDER BY p.id ASC")
+    List<ProjectResponse> findByUserId(Long userId, Long afterId, Pageable pageable);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query(PROJECT_RESPONSE
+			+ "FROM Project p JOIN p.owner o "
+			+ "WHERE p.owner.id = :ownerId "
+			+ "AND p.deletedAt IS NULL "
 			+ "ORDER BY p.id ASC")
-    List<Project> findByUserId(Long userId);
+	Stream<ProjectResponse> streamByOwner(Long ownerId);
+
+	@Query("SELECT p FROM Project p WHERE p.id = :id AND p.deletedAt IS NULL")
+	Optional<Project> findActiveById(Long id);
+
+	@Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND p.deletedAt IS NULL")
+	List<Long> findActiveIds(Collection<Long> ids);
+
+	@Query("SELECT new com.kruger.backend.dto.ProjectOwner(p.id, p.owner.id) FROM Project p "
+			+ "WHERE p.deletedAt IS NULL")
+	List<ProjectOwner> findActiveOwners();
+
+	@Query("SELECT p.owner.id FROM Project p WHERE p.id = :id")
+	Long findOwnerId(Long id);
+
+	@Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.id = :id AND p.deletedAt IS NOT NULL")
+	boolean existsDeletedById(Long id);
+
+	@Query("SELECT p.id FROM Project p WHERE p.deletedAt IS NOT NULL ORDER BY p.id ASC")
+	List<Long> findDeletedIds();
+
+	@Modifying
+	@Query("UPDATE Project p SET p.deletedAt = :deletedAt WHERE p.id = :id AND p.deletedAt IS NULL")
+	int markDeleted(Long id, LocalDateTime deletedAt);
 
 }
@@ -0,0 +1,37 @@
+package com.kruger.backend.repository;
+
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Hibernate only invalidates cached query results after its own updates; a
+ * native UPDATE ... RETURNING runs as a query and goes unnoticed. Its tables
+ * are invalidated here the way Hibernate does for a bulk update: when the
+ * statement runs and again once the transaction completes.
+ */
+final class QuerySpaces {
+
+	private QuerySpaces() {
+	}
+
+	static void invalidate(EntityManager entityManager, String... spaces) {
+		SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+		TimestampsCache timestamps = session.getFactory().getCache().getTimestampsCache();
+		timestamps.preInvalidate(spaces, session);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					timestamps.invalidate(spaces, session);
+				}
+			});
+		} else {
+			timestamps.invalidate(spaces, session);
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.kruger.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.kruger.backend.entity.RevokedToken;
+
+import jakarta.transaction.Transactional;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+	/**
+	 * Returns 0 when the token was already revoked, which for a refresh token
+	 * means it is being reused.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO revoked_token (jti, subject, expires_at, revoked_at) "
+			+ "VALUES (:jti, :subject, :expiresAt, :revokedAt) ON CONFLICT (jti) DO NOTHING", nativeQuery = true)
+	int insertIfAbsent(String jti, String subject, LocalDateTime expiresAt, LocalDateTime revokedAt);
+
+	@Query("SELECT r.jti FROM RevokedToken r WHERE r.expiresAt > :now")
+	List<String> findActiveIds(LocalDateTime now);
+
+	@Query("SELECT r.jti FROM RevokedToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+	List<String> findActiveIdsRevokedSince(LocalDateTime since, LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+	int deleteExpired(LocalDateTime now);
+
+}
@@ -0,0 +1,17 @@
+package com.kruger.backend.repository;
+
+import java.util.Optional;
+
+import com.kruger.backend.dto.TaskPatchResult;
+import com.kruger.backend.dto.request.TaskPatchRequest;
+
+public interface TaskPatchRepository {
+
+	/**
+	 * Applies the non-null fields of {@code patch} if the task still has
+	 * {@code patch.getVersion()}. Empty when the task is missing, belongs to a
+	 * deleted project or was modified in between.
+	 */
+	Optional<TaskPatchResult> patch(Long id, TaskPatchRequest patch);
+
+}
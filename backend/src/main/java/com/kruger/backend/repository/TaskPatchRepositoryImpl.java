@@ -0,0 +1,95 @@
+package com.kruger.backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import com.kruger.backend.dto.TaskPatchResult;
+import com.kruger.backend.dto.request.TaskPatchRequest;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.entity.Task;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Conditional partial update in a single statement. The CTE captures the row
+ * as it was, the UPDATE re-checks the version against the locked row, and
+ * RETURNING hands back both states so no entity is loaded.
+ */
+class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+	private static final String PATCH = "WITH prev AS ("
+			+ "SELECT t.id, t.title, t.description, t.status, t.assigned_to_id, t.project_id, t.due_date "
+			+ "FROM task t LEFT JOIN project p ON p.id = t.project_id "
+			+ "WHERE t.id = :id AND t.version = :version AND p.deleted_at IS NULL) "
+			+ "UPDATE task t SET "
+			+ "title = COALESCE(CAST(:title AS varchar), t.title), "
+			+ "description = COALESCE(CAST(:description AS varchar), t.description), "
+			+ "status = COALESCE(CAST(:status AS varchar), t.status), "
+			+ "due_date = COALESCE(CAST(:dueDate AS date), t.due_date), "
+			+ "version = t.version + 1 "
+			+ "FROM prev LEFT JOIN users a ON a.id = prev.assigned_to_id "
+			+ "WHERE t.id = prev.id AND t.version = :version "
+			+ "RETURNING t.id, t.title, t.description, t.status, a.username, t.project_id, t.due_date, "
+			+ "t.created_at, t.version, prev.assigned_to_id AS prev_assigned_to_id, prev.title AS prev_title, "
+			+ "prev.description AS prev_description, prev.status AS prev_status, prev.due_date AS prev_due_date";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<TaskPatchResult> patch(Long id, TaskPatchRequest patch) {
+		List<Object[]> rows = entityManager.createNativeQuery(PATCH)
+				.setParameter("id", id)
+				.setParameter("version", patch.getVersion())
+				.setParameter("title", patch.getTitle())
+				.setParameter("description", patch.getDescription())
+				.setParameter("status", patch.getStatus() != null ? patch.getStatus().name() : null)
+				.setParameter("dueDate", patch.getDueDate())
+				.unwrap(NativeQuery.class)
+				.addSynchronizedEntityClass(Task.class)
+				.addScalar("id", StandardBasicTypes.LONG)
+				.addScalar("title", StandardBasicTypes.STRING)
+				.addScalar("description", StandardBasicTypes.STRING)
+				.addScalar("status", StandardBasicTypes.STRING)
+				.addScalar("username", StandardBasicTypes.STRING)
+				.addScalar("project_id", StandardBasicTypes.LONG)
+				.addScalar("due_date", StandardBasicTypes.LOCAL_DATE)
+				.addScalar("created_at", StandardBasicTypes.LOCAL_DATE_TIME)
+				.addScalar("version", StandardBasicTypes.LONG)
+				.addScalar("prev_assigned_to_id", StandardBasicTypes.LONG)
+				.addScalar("prev_title", StandardBasicTypes.STRING)
+				.addScalar("prev_description", StandardBasicTypes.STRING)
+				.addScalar("prev_status", StandardBasicTypes.STRING)
+				.addScalar("prev_due_date", StandardBasicTypes.LOCAL_DATE)
+				.getResultList();
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		}
+		QuerySpaces.invalidate(entityManager, "task");
+
+		Object[] row = rows.get(0);
+		Long projectId = (Long) row[5];
+		Long assignedToId = (Long) row[9];
+		TaskResponse task = new TaskResponse((Long) row[0], (String) row[1], (String) row[2], status(row[3]),
+				(String) row[4], projectId, (LocalDate) row[6], (LocalDateTime) row[7], (Long) row[8]);
+		TaskSnapshot before = new TaskSnapshot(id, assignedToId, projectId, status(row[12]), (String) row[10],
+				(String) row[11], (LocalDate) row[13]);
+		TaskSnapshot after = new TaskSnapshot(id, assignedToId, projectId, task.getStatus(), task.getTitle(),
+				task.getDescription(), task.getDueDate());
+		return Optional.of(new TaskPatchResult(before, after, task));
+	}
+
+	private static TaskStatus status(Object value) {
+		return value != null ? TaskStatus.valueOf((String) value) : null;
+	}
+
+}
@@ -1,23 +1,132 @@
 package com.kruger.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.kruger.backend.dto.StatusCount;
+import com.kruger.backend.dto.TaskDue;
+import com.kruger.backend.dto.response.TaskResponse;
 import com.kruger.backend.entity.Task;
+import com.kruger.backend.event.TaskSnapshot;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+import jakarta.persistence.QueryHint;
 
-	@Query("SELECT t FROM Task t " 
-			+ "WHERE t.assignedTo.email = :username " 
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskPatchRepository {
+
+	String TASK_RESPONSE = "SELECT new com.kruger.backend.dto.response.TaskResponse("
+			+ "t.id, t.title, t.description, t.status, a.username, t.project.id, t.dueDate, t.createdAt, t.version) ";
+
+	@Query(TASK_RESPONSE 
+			+ "FROM Task t JOIN t.assignedTo a LEFT JOIN t.project p " 
+			+ "WHERE a.email = :username " 
+			+ "AND p.deletedAt IS NULL " 
+			+ "AND t.id > :afterId " 
 			+ "ORDER BY t.id ASC")
-	List<Task> findByParameters(@Param("username") String username);
+	List<TaskResponse> findByParameters(@Param("username") String username, @Param("afterId") Long afterId,
+			Pageable pageable);
 
-	@Query("SELECT t FROM Task t " 
-			+ "WHERE t.project.id = :projectId " 
+	long countByProjectId(Long projectId);
+
+	@Query("SELECT COUNT(t) > 0 FROM Task t LEFT JOIN t.project p WHERE t.id = :id AND p.deletedAt IS NULL")
+	boolean existsActiveById(Long id);
+
+	@Query("SELECT t FROM Task t LEFT JOIN t.project p WHERE t.id = :id AND p.deletedAt IS NULL")
+	Optional<Task> findActiveById(Long id);
+
+	@Query("SELECT t FROM Task t LEFT JOIN t.project p WHERE t.id IN :ids AND p.deletedAt IS NULL")
+	List<Task> findAllActiveById(Collection<Long> ids);
+
+	@Query(TASK_RESPONSE 
+			+ "FROM Task t LEFT JOIN t.assignedTo a LEFT JOIN t.project p " 
+			+ "WHERE t.id IN :ids " 
+			+ "AND p.deletedAt IS NULL")
+	List<TaskResponse> findResponsesByIds(Collection<Long> ids);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new com.kruger.backend.event.TaskSnapshot(" 
+			+ "t.id, t.assignedTo.id, p.id, t.status, t.title, t.description, t.dueDate) " 
+			+ "FROM Task t LEFT JOIN t.project p " 
+			+ "WHERE p.deletedAt IS NULL")
+	Stream<TaskSnapshot> streamSnapshots();
+
+	@Query("SELECT new com.kruger.backend.event.TaskSnapshot(" 
+			+ "t.id, t.assignedTo.id, p.id, t.status, t.title, t.description, t.dueDate) " 
+			+ "FROM Task t LEFT JOIN t.project p " 
+			+ "WHERE t.id IN :ids " 
+			+ "AND p.deletedAt IS NULL")
+	List<TaskSnapshot> findSnapshotsByIds(Collection<Long> ids);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new com.kruger.backend.dto.TaskDue(t.id, t.assignedTo.id, p.id, t.dueDate) " 
+			+ "FROM Task t LEFT JOIN t.project p " 
+			+ "WHERE t.dueDate IS NOT NULL " 
+			+ "AND t.status <> com.kruger.backend.utils.enums.TaskStatus.DONE " 
+			+ "AND p.deletedAt IS NULL")
+	Stream<TaskDue> streamOpenWithDueDate();
+
+	@Query(TASK_RESPONSE 
+			+ "FROM Task t JOIN t.project p LEFT JOIN t.assignedTo a " 
+			+ "WHERE p.id = :projectId " 
+			+ "AND p.deletedAt IS NULL " 
+			+ "AND t.id > :afterId " 
 			+ "ORDER BY t.id ASC")
-	List<Task> findProjectById(Long projectId);
+	List<TaskResponse> findProjectById(Long projectId, Long afterId, Pageable pageable);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query(TASK_RESPONSE 
+			+ "FROM Task t JOIN t.assignedTo a LEFT JOIN t.project p " 
+			+ "WHERE a.email = :username " 
+			+ "AND p.deletedAt IS NULL " 
+			+ "ORDER BY t.id ASC")
+	Stream<TaskResponse> streamByAssignee(String username);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query(TASK_RESPONSE 
+			+ "FROM Task t JOIN t.project p LEFT JOIN t.assignedTo a " 
+			+ "WHERE p.id = :projectId " 
+			+ "AND p.deletedAt IS NULL " 
+			+ "ORDER BY t.id ASC")
+	Stream<TaskResponse> streamByProject(Long projectId);
+
+	@Query("SELECT new com.kruger.backend.dto.StatusCount(t.assignedTo.id, t.status, COUNT(t)) " 
+			+ "FROM Task t LEFT JOIN t.project p " 
+			+ "WHERE p.deletedAt IS NULL " 
+			+ "GROUP BY t.assignedTo.id, t.status")
+	List<StatusCount> countByAssigneeAndStatus();
+
+	@Query("SELECT new com.kruger.backend.dto.StatusCount(t.assignedTo.id, t.status, COUNT(t)) FROM Task t " 
+			+ "WHERE t.project.id = :projectId " 
+			+ "GROUP BY t.assignedTo.id, t.status")
+	List<StatusCount> countByAssigneeAndStatusForProject(Long projectId);
+
+	@Query("SELECT new com.kruger.backend.dto.StatusCount(t.assignedTo.id, t.status, COUNT(t)) " 
+			+ "FROM Task t JOIN t.project p " 
+			+ "WHERE p.id = :projectId " 
+			+ "AND p.deletedAt IS NULL " 
+			+ "GROUP BY t.assignedTo.id, t.status")
+	List<StatusCount> countByAssigneeAndStatusForActiveProject(Long projectId);
+
+	@Query("SELECT new com.kruger.backend.dto.StatusCount(p.id, t.status, COUNT(t)) " 
+			+ "FROM Task t JOIN t.project p " 
+			+ "WHERE p.deletedAt IS NULL " 
+			+ "GROUP BY p.id, t.status")
+	List<StatusCount> countByProjectAndStatus();
+
+	// declare the touched table so the native delete does not invalidate every cache region
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task"))
+	@Query(value = "DELETE FROM task WHERE id IN " 
+			+ "(SELECT id FROM task WHERE project_id = :projectId LIMIT :limit)", nativeQuery = true)
+	int deleteChunkByProjectId(Long projectId, int limit);
 
 }
@@ -0,0 +1,38 @@
+package com.kruger.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.kruger.backend.entity.TokenEpoch;
+
+import jakarta.transaction.Transactional;
+
+public interface TokenEpochRepository extends JpaRepository<TokenEpoch, String> {
+
+	/**
+	 * Raises the subject's epoch; an older epoch never replaces a newer one.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO token_epoch (subject, revoked_before, updated_at) "
+			+ "VALUES (:subject, :revokedBefore, :updatedAt) ON CONFLICT (subject) DO UPDATE "
+			+ "SET revoked_before = GREATEST(token_epoch.revoked_before, EXCLUDED.revoked_before), "
+			+ "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+	int raise(String subject, LocalDateTime revokedBefore, LocalDateTime updatedAt);
+
+	@Query("SELECT t FROM TokenEpoch t WHERE t.revokedBefore > :oldestRelevant")
+	List<TokenEpoch> findRelevant(LocalDateTime oldestRelevant);
+
+	@Query("SELECT t FROM TokenEpoch t WHERE t.updatedAt >= :since AND t.revokedBefore > :oldestRelevant")
+	List<TokenEpoch> findRelevantUpdatedSince(LocalDateTime since, LocalDateTime oldestRelevant);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM TokenEpoch t WHERE t.revokedBefore <= :oldestRelevant")
+	int deleteIrrelevant(LocalDateTime oldestRelevant);
+
+}
@@ -0,0 +1,23 @@
+package com.kruger.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.kruger.backend.entity.User;
+
+public interface UserImportRepository {
+
+	/**
+	 * The given emails that already belong to a user.
+	 */
+	Set<String> findExistingEmails(Collection<String> emails);
+
+	/**
+	 * Inserts the users in JDBC batches, with ids taken from users_id_seq the
+	 * same way Hibernate's pooled generator takes them. Users whose email was
+	 * taken in the meantime are skipped; returns the users actually inserted.
+	 */
+	List<User> insertAll(List<User> users);
+
+}
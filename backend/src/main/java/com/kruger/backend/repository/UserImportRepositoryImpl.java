@@ -0,0 +1,87 @@
+package com.kruger.backend.repository;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.kruger.backend.entity.User;
+
+/**
+ * Plain JDBC inserts for the bulk import. Ids are allocated in blocks of the
+ * entity's allocationSize: Hibernate's pooled optimizer treats each sequence
+ * value as the last id of a block, so ids handed out here never collide with
+ * the ones it hands out.
+ */
+class UserImportRepositoryImpl implements UserImportRepository {
+
+	private static final int ID_BLOCK = 50;
+
+	private static final int INSERT_BATCH = 500;
+
+	private static final String INSERT = "INSERT INTO users (id, username, email, password, role) "
+			+ "VALUES (?, ?, ?, ?, ?) ON CONFLICT (email) DO NOTHING";
+
+	private JdbcTemplate jdbcTemplate;
+
+	public UserImportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public Set<String> findExistingEmails(Collection<String> emails) {
+		if (emails.isEmpty()) {
+			return new HashSet<>();
+		}
+		return new HashSet<>(jdbcTemplate.query("SELECT email FROM users WHERE email = ANY (?)",
+				statement -> statement.setArray(1, statement.getConnection().createArrayOf("varchar", emails.toArray())),
+				(rows, index) -> rows.getString(1)));
+	}
+
+	@Override
+	public List<User> insertAll(List<User> users) {
+		if (users.isEmpty()) {
+			return users;
+		}
+		List<Long> ids = allocateIds(users.size());
+		for (int i = 0; i < users.size(); i++) {
+			users.get(i).setId(ids.get(i));
+		}
+		jdbcTemplate.batchUpdate(INSERT, users, INSERT_BATCH, (statement, user) -> {
+			statement.setLong(1, user.getId());
+			statement.setString(2, user.getUsername());
+			statement.setString(3, user.getEmail());
+			statement.setString(4, user.getPassword());
+			statement.setString(5, user.getRole().name());
+		});
+
+		// rewritten batches do not report per-row counts, so look the rows up
+		Set<Long> inserted = new HashSet<>(jdbcTemplate.query("SELECT id FROM users WHERE id = ANY (?)", statement -> {
+			Array array = statement.getConnection().createArrayOf("bigint", ids.subList(0, users.size()).toArray());
+			statement.setArray(1, array);
+		}, (rows, index) -> rows.getLong(1)));
+		return users.stream().filter(user -> inserted.contains(user.getId())).toList();
+	}
+
+	private List<Long> allocateIds(int count) {
+		List<Long> ids = new ArrayList<>(count);
+		while (ids.size() < count) {
+			int blocks = (count - ids.size() + ID_BLOCK - 1) / ID_BLOCK;
+			for (Long last : jdbcTemplate.queryForList("SELECT nextval('users_id_seq') FROM generate_series(1, ?)",
+					Long.class, blocks)) {
+				// the first value of a fresh sequence does not end a block
+				if (last < ID_BLOCK) {
+					continue;
+				}
+				for (long id = last - ID_BLOCK + 1; id <= last; id++) {
+					ids.add(id);
+				}
+			}
+		}
+		return ids;
+	}
+}
@@ -1,13 +1,32 @@
 package com.kruger.backend.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.dto.response.UserResponse;
 import com.kruger.backend.entity.User;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+import jakarta.persistence.QueryHint;
 
+public interface UserRepository extends JpaRepository<User, Long>, UserImportRepository {
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Optional<User> findByEmail(String email);
 
+	@Query("SELECT new com.kruger.backend.dto.UserIdentity(u.id, u.username, u.email, u.role) FROM User u "
+			+ "WHERE u.email = :email")
+	Optional<UserIdentity> findIdentityByEmail(String email);
+
+	@Query("SELECT new com.kruger.backend.dto.response.UserResponse(u.id, u.username, u.email, u.role) FROM User u "
+			+ "WHERE u.id > :afterId "
+			+ "ORDER BY u.id ASC")
+	List<UserResponse> findResponsesAfter(Long afterId, Pageable pageable);
+
 }
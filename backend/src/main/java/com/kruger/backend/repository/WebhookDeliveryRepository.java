@@ -0,0 +1,31 @@
+package com.kruger.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.kruger.backend.entity.WebhookDelivery;
+import com.kruger.backend.utils.enums.DeliveryStatus;
+
+public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long>, WebhookDispatchRepository {
+
+	long countByEndpointIdAndStatus(Long endpointId, DeliveryStatus status);
+
+	@Modifying
+	@Query("UPDATE WebhookDelivery d SET d.nextAttemptAt = :nextAttemptAt, d.lastError = :lastError "
+			+ "WHERE d.id = :id")
+	int reschedule(Long id, LocalDateTime nextAttemptAt, String lastError);
+
+	@Modifying
+	@Query("UPDATE WebhookDelivery d SET d.status = com.kruger.backend.utils.enums.DeliveryStatus.DEAD, "
+			+ "d.lastError = :lastError WHERE d.id = :id")
+	int markDead(Long id, String lastError);
+
+	@Modifying
+	@Query(value = "DELETE FROM outbox_event o WHERE o.fanned_out AND o.created_at < :before "
+			+ "AND NOT EXISTS (SELECT 1 FROM webhook_delivery d WHERE d.event_id = o.id)", nativeQuery = true)
+	int pruneOutbox(LocalDateTime before);
+
+}
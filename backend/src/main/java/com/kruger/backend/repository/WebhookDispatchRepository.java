@@ -0,0 +1,24 @@
+package com.kruger.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.kruger.backend.dto.WebhookMessage;
+
+public interface WebhookDispatchRepository {
+
+	/**
+	 * Copies up to {@code limit} outbox events, oldest first, into one pending
+	 * delivery per active endpoint and marks them fanned out. Returns the
+	 * number of events taken.
+	 */
+	int fanOut(int limit, LocalDateTime now);
+
+	/**
+	 * Leases up to {@code limit} due deliveries of an endpoint until
+	 * {@code leaseUntil}. Only the oldest pending delivery of each aggregate is
+	 * eligible, so events of one task or project go out in order.
+	 */
+	List<WebhookMessage> claim(Long endpointId, int limit, LocalDateTime now, LocalDateTime leaseUntil);
+
+}
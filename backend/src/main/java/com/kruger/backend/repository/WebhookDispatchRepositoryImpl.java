@@ -0,0 +1,89 @@
+package com.kruger.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import com.kruger.backend.dto.WebhookMessage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Fan-out and claim each run as one statement. Both skip rows locked by a
+ * concurrent dispatcher, so several instances can drain the same outbox.
+ */
+class WebhookDispatchRepositoryImpl implements WebhookDispatchRepository {
+
+	private static final String FAN_OUT = "WITH batch AS ("
+			+ "SELECT id FROM outbox_event WHERE NOT fanned_out ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED), "
+			+ "marked AS ("
+			+ "UPDATE outbox_event o SET fanned_out = true FROM batch WHERE o.id = batch.id "
+			+ "RETURNING o.id, o.aggregate_type, o.aggregate_id), "
+			+ "fanned AS ("
+			+ "INSERT INTO webhook_delivery (endpoint_id, event_id, aggregate_key, next_attempt_at) "
+			+ "SELECT e.id, m.id, m.aggregate_type || ':' || m.aggregate_id, :now "
+			+ "FROM marked m CROSS JOIN webhook_endpoint e WHERE e.active "
+			+ "RETURNING 1) "
+			+ "SELECT count(*) AS taken FROM marked";
+
+	private static final String CLAIM = "UPDATE webhook_delivery d "
+			+ "SET next_attempt_at = :leaseUntil, attempts = d.attempts + 1 "
+			+ "FROM outbox_event o "
+			+ "WHERE o.id = d.event_id AND d.id IN ("
+			+ "SELECT c.id FROM webhook_delivery c "
+			+ "WHERE c.endpoint_id = :endpointId AND c.status = 'PENDING' AND c.next_attempt_at <= :now "
+			+ "AND NOT EXISTS (SELECT 1 FROM webhook_delivery p "
+			+ "WHERE p.endpoint_id = c.endpoint_id AND p.aggregate_key = c.aggregate_key "
+			+ "AND p.status = 'PENDING' AND p.event_id < c.event_id) "
+			+ "ORDER BY c.event_id LIMIT :limit FOR UPDATE SKIP LOCKED) "
+			+ "RETURNING d.id, d.attempts, o.id AS event_id, o.aggregate_type, o.aggregate_id, o.event_type, "
+			+ "o.payload, o.created_at";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public int fanOut(int limit, LocalDateTime now) {
+		Object taken = entityManager.createNativeQuery(FAN_OUT)
+				.setParameter("limit", limit)
+				.setParameter("now", now)
+				.unwrap(NativeQuery.class)
+				.addScalar("taken", StandardBasicTypes.INTEGER)
+				.getSingleResult();
+		return (Integer) taken;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<WebhookMessage> claim(Long endpointId, int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+		List<Object[]> rows = entityManager.createNativeQuery(CLAIM)
+				.setParameter("endpointId", endpointId)
+				.setParameter("limit", limit)
+				.setParameter("now", now)
+				.setParameter("leaseUntil", leaseUntil)
+				.unwrap(NativeQuery.class)
+				.addScalar("id", StandardBasicTypes.LONG)
+				.addScalar("attempts", StandardBasicTypes.INTEGER)
+				.addScalar("event_id", StandardBasicTypes.LONG)
+				.addScalar("aggregate_type", StandardBasicTypes.STRING)
+				.addScalar("aggregate_id", StandardBasicTypes.LONG)
+				.addScalar("event_type", StandardBasicTypes.STRING)
+				.addScalar("payload", StandardBasicTypes.STRING)
+				.addScalar("created_at", StandardBasicTypes.LOCAL_DATE_TIME)
+				.getResultList();
+		List<WebhookMessage> messages = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			messages.add(new WebhookMessage((Long) row[0], (Integer) row[1], (Long) row[2], (String) row[3],
+					(Long) row[4], (String) row[5], (String) row[6], (LocalDateTime) row[7]));
+		}
+		// RETURNING does not keep the ORDER BY of the subquery
+		messages.sort(Comparator.comparing(WebhookMessage::getEventId));
+		return messages;
+	}
+
+}
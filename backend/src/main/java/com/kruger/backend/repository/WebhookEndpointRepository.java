@@ -0,0 +1,13 @@
+package com.kruger.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kruger.backend.entity.WebhookEndpoint;
+
+public interface WebhookEndpointRepository extends JpaRepository<WebhookEndpoint, Long> {
+
+	List<WebhookEndpoint> findByActiveTrueOrderByIdAsc();
+
+}
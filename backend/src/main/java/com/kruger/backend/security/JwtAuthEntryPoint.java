@@ -16,7 +16,7 @@ public class JwtAuthEntryPoint implements AuthenticationEntryPoint{
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setContentType("application/json");
         response.getWriter().write("{\"error\": \"Access denied: Missing or invalid token\"}");
     }
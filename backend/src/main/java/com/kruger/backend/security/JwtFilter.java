@@ -2,32 +2,73 @@ package com.kruger.backend.security;
 
 import java.io.IOException;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
-import com.kruger.backend.service.impl.UserDetailServiceImpl;
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+import com.kruger.backend.utils.exception.ServiceOverloadedException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.GenericFilter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Authenticates bearer tokens. Outside stateless mode the principal comes
+ * from the cached identity lookup, which goes through admission control, so
+ * a slow database queues or sheds requests here instead of piling up threads
+ * in the filter chain. Token verification and revocation checks stay outside
+ * the limiter; only a Bloom-filter hit on a revocation reaches the database.
+ */
 @Component
 public class JwtFilter extends GenericFilter {
 
 	private JwtProvider jwtProvider;
 
-	private UserDetailServiceImpl userDetailsService;
-   
-	
-	public JwtFilter(JwtProvider jwtProvider, UserDetailServiceImpl userDetailsService) {
+	private UserIdentityService userIdentityService;
+
+	private TokenEpochRegistry tokenEpochRegistry;
+
+	private TokenRevocationRegistry tokenRevocationRegistry;
+
+	@Value("${app.security.stateless-auth:false}")
+	private boolean statelessAuth;
+
+	private Timer verifyValid;
+
+	private Timer verifyInvalid;
+
+	private Timer lookupToken;
+
+	private Timer lookupIdentity;
+
+	private HandlerExceptionResolver exceptionResolver;
+
+	public JwtFilter(JwtProvider jwtProvider, UserIdentityService userIdentityService,
+			TokenEpochRegistry tokenEpochRegistry, TokenRevocationRegistry tokenRevocationRegistry,
+			MeterRegistry meterRegistry, @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
 		this.jwtProvider = jwtProvider;
-		this.userDetailsService = userDetailsService;
+		this.userIdentityService = userIdentityService;
+		this.tokenEpochRegistry = tokenEpochRegistry;
+		this.tokenRevocationRegistry = tokenRevocationRegistry;
+		this.exceptionResolver = exceptionResolver;
+		this.verifyValid = timer(meterRegistry, "auth.jwt.verify", "JWT verification, cached or not", "result", "valid");
+		this.verifyInvalid = timer(meterRegistry, "auth.jwt.verify", "JWT verification, cached or not", "result", "invalid");
+		this.lookupToken = timer(meterRegistry, "auth.user.lookup", "Principal resolution after JWT verification", "source", "token");
+		this.lookupIdentity = timer(meterRegistry, "auth.user.lookup", "Principal resolution after JWT verification", "source", "identity");
 	}
  
     @Override
@@ -39,9 +80,28 @@ public class JwtFilter extends GenericFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (jwtProvider.validateToken(token)) {
-                String username = jwtProvider.getUsernameFromToken(token);
-                var userDetails = userDetailsService.loadUserByUsername(username);
+            Timer.Sample verify = Timer.start();
+            TokenClaims claims = jwtProvider.getVerifiedClaims(token);
+            verify.stop(claims != null ? verifyValid : verifyInvalid);
+            // refresh tokens are only accepted by /auth/refresh
+            if (claims != null && !claims.isRefresh()
+                    && tokenEpochRegistry.isCurrent(claims.getSubject(), claims.getIssuedAt())
+                    && !tokenRevocationRegistry.isRevoked(claims)) {
+                Timer.Sample lookup = Timer.start();
+                UserDetails userDetails;
+                try {
+                    userDetails = loadUserDetails(claims);
+                } catch (ServiceOverloadedException e) {
+                    // filters are outside the controller advice, so hand it the exception for the usual 503
+                    exceptionResolver.resolveException(http, (HttpServletResponse) response, null, e);
+                    return;
+                } finally {
+                    lookup.stop(statelessAuth && claims.getRole() != null ? lookupToken : lookupIdentity);
+                }
+                if (userDetails == null) {
+                    chain.doFilter(request, response);
+                    return;
+                }
 
                 var auth = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities()
@@ -54,4 +114,30 @@ public class JwtFilter extends GenericFilter {
         chain.doFilter(request, response);
     }
 
+    private UserDetails loadUserDetails(TokenClaims claims) {
+        if (statelessAuth && claims.getRole() != null) {
+            return org.springframework.security.core.userdetails.User
+                    .withUsername(claims.getSubject())
+                    .password("")
+                    .roles(claims.getRole())
+                    .build();
+        }
+        UserIdentity identity;
+        try {
+            identity = userIdentityService.resolve(claims.getSubject());
+        } catch (ResourceNotFoundException e) {
+            return null;
+        }
+        return org.springframework.security.core.userdetails.User
+                .withUsername(identity.getEmail())
+                .password("")
+                .roles(identity.getRole().name())
+                .build();
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, String tag, String value) {
+        return Timer.builder(name).description(description).tag(tag, value).publishPercentileHistogram()
+                .register(registry);
+    }
+
 }
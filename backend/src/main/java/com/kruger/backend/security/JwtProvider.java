@@ -1,50 +1,141 @@
 package com.kruger.backend.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.kruger.backend.dto.UserIdentity;
 import com.kruger.backend.entity.User;
+import com.kruger.backend.utils.cache.ExpiringCache;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtProvider {
 
+	public static final String ACCESS = "access";
+
+	public static final String REFRESH = "refresh";
+
 	@Value("${app.jwt.secret}")
 	private String jwtSecret;
 
 	@Value("${app.jwt.expiration}")
 	private long jwtExpirationMs;
 
+	@Value("${app.jwt.refresh-expiration:1209600000}")
+	private long refreshExpirationMs;
+
+	@Value("${app.jwt.cache.max-size:10000}")
+	private int cacheMaxSize;
+
+	@Value("${app.jwt.cache.ttl-ms:300000}")
+	private long cacheTtlMs;
+
+	private SecretKey key;
+
+	private JwtParser parser;
+
+	private ExpiringCache<String, TokenClaims> verifiedTokens;
+
+	@PostConstruct
+	void init() {
+		this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+		this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+		this.verifiedTokens = new ExpiringCache<>(cacheMaxSize);
+	}
+
 	public String createToken(User user) {
+		return createToken(user.getEmail(), user.getRole().name(), ACCESS, jwtExpirationMs);
+	}
+
+	public String createToken(UserIdentity user) {
+		return createToken(user.getEmail(), user.getRole().name(), ACCESS, jwtExpirationMs);
+	}
+
+	/**
+	 * Long-lived token only accepted by /auth/refresh, which revokes it and
+	 * hands out a new pair.
+	 */
+	public String createRefreshToken(UserIdentity user) {
+		return createToken(user.getEmail(), user.getRole().name(), REFRESH, refreshExpirationMs);
+	}
+
+	public long getAccessExpirationMs() {
+		return jwtExpirationMs;
+	}
+
+	private String createToken(String subject, String role, String type, long expirationMs) {
 		Date now = new Date();
-		Date expiry = new Date(now.getTime() + jwtExpirationMs);
+		Date expiry = new Date(now.getTime() + expirationMs);
 
-		return Jwts.builder().setSubject(user.getEmail()).claim("role", user.getRole().name()).setIssuedAt(now)
-				.setExpiration(expiry).signWith(getKey(), SignatureAlgorithm.HS256).compact();
+		return Jwts.builder().setId(UUID.randomUUID().toString()).setSubject(subject).claim("role", role)
+				.claim("type", type).setIssuedAt(now).setExpiration(expiry).signWith(key, SignatureAlgorithm.HS256)
+				.compact();
 	}
 
-	public boolean validateToken(String token) {
+	/**
+	 * Verifies the token once and returns its claims, or {@code null} when the
+	 * token is malformed, badly signed or expired. Verified tokens are remembered
+	 * until their {@code exp} claim (capped by the cache TTL), so repeated calls
+	 * with the same token skip parsing and HMAC verification.
+	 */
+	public TokenClaims getVerifiedClaims(String token) {
+		String digest = digest(token);
+		TokenClaims cached = verifiedTokens.get(digest);
+		if (cached != null) {
+			return cached;
+		}
+
+		Claims claims;
 		try {
-			Jwts.parserBuilder().setSigningKey(getKey()).build().parseClaimsJws(token);
-			return true;
-		} catch (JwtException e) {
-			return false;
+			claims = parser.parseClaimsJws(token).getBody();
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+
+		TokenClaims verified = new TokenClaims(claims.getId(), claims.getSubject(), claims.get("role", String.class),
+				claims.get("type", String.class), claims.getIssuedAt(), claims.getExpiration());
+		long cacheUntil = System.currentTimeMillis() + cacheTtlMs;
+		if (verified.getExpiration() != null) {
+			cacheUntil = Math.min(cacheUntil, verified.getExpiration().getTime());
 		}
+		verifiedTokens.put(digest, verified, cacheUntil);
+		return verified;
+	}
+
+	public boolean validateToken(String token) {
+		return getVerifiedClaims(token) != null;
 	}
 
 	public String getUsernameFromToken(String token) {
-		return Jwts.parserBuilder().setSigningKey(getKey()).build().parseClaimsJws(token).getBody().getSubject();
+		TokenClaims claims = getVerifiedClaims(token);
+		if (claims == null) {
+			throw new JwtException("Invalid JWT token");
+		}
+		return claims.getSubject();
 	}
 
-	private SecretKey getKey() {
-		return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
 	}
 }
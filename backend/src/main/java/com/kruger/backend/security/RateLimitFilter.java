@@ -0,0 +1,136 @@
+package com.kruger.backend.security;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.kruger.backend.utils.ratelimit.RateLimitDecision;
+import com.kruger.backend.utils.ratelimit.RateLimitRule;
+import com.kruger.backend.utils.exception.RateLimitExceededException;
+import com.kruger.backend.utils.ratelimit.RateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-route rate limits, placed right after {@link JwtFilter} so requests
+ * are keyed by the authenticated subject. Login and other /auth routes, and
+ * requests without a valid token, are keyed by client address.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	public static final String LIMIT_HEADER = "RateLimit-Limit";
+
+	public static final String REMAINING_HEADER = "RateLimit-Remaining";
+
+	public static final String RESET_HEADER = "RateLimit-Reset";
+
+	@Value("${app.rate-limit.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.rate-limit.rules:}")
+	private String rulesSpec;
+
+	@Value("${app.rate-limit.max-buckets:100000}")
+	private int maxBuckets;
+
+	private MeterRegistry meterRegistry;
+
+	private HandlerExceptionResolver exceptionResolver;
+
+	private List<RateLimitRule> rules;
+
+	private RateLimiter rateLimiter;
+
+	public RateLimitFilter(MeterRegistry meterRegistry,
+			@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+		this.meterRegistry = meterRegistry;
+		this.exceptionResolver = exceptionResolver;
+	}
+
+	@PostConstruct
+	void init() {
+		this.rules = RateLimitRule.parse(rulesSpec);
+		this.rateLimiter = new RateLimiter(maxBuckets);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || rules.isEmpty();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		RateLimitRule rule = match(request.getMethod(), path);
+		if (rule == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		RateLimitDecision decision = rateLimiter.tryAcquire(rule, key(request, path));
+		response.setHeader(LIMIT_HEADER, String.valueOf(decision.getLimit()));
+		response.setHeader(REMAINING_HEADER, String.valueOf(decision.getRemaining()));
+		response.setHeader(RESET_HEADER, String.valueOf(seconds(decision.getResetNanos())));
+		if (!decision.isAllowed()) {
+			Counter.builder("app.rate.limit.rejected")
+					.description("Requests refused by the rate limiter")
+					.tag("rule", rule.getId())
+					.register(meterRegistry)
+					.increment();
+			// filters are outside the controller advice, so hand it the exception for the usual error body
+			exceptionResolver.resolveException(request, response, null, new RateLimitExceededException(
+					"Too many requests, retry later", Math.max(1, seconds(decision.getRetryAfterNanos()))));
+			return;
+		}
+		chain.doFilter(request, response);
+	}
+
+	@Scheduled(fixedDelayString = "${app.rate-limit.evict-interval-ms:60000}")
+	public void evictIdleBuckets() {
+		if (rateLimiter != null) {
+			rateLimiter.evictIdle();
+		}
+	}
+
+	private RateLimitRule match(String method, String path) {
+		for (RateLimitRule rule : rules) {
+			if (rule.matches(method, path)) {
+				return rule;
+			}
+		}
+		return null;
+	}
+
+	private String key(HttpServletRequest request, String path) {
+		if (!path.startsWith("/auth/")) {
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			if (authentication != null && authentication.isAuthenticated()
+					&& !(authentication instanceof AnonymousAuthenticationToken)) {
+				return "user:" + authentication.getName();
+			}
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	private static long seconds(long nanos) {
+		return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,30 @@
+package com.kruger.backend.security;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+	private String id;
+
+	private String subject;
+
+	private String role;
+
+	private String type;
+
+	private Date issuedAt;
+
+	private Date expiration;
+
+	/**
+	 * Tokens issued before refresh tokens existed carry no type and are access tokens.
+	 */
+	public boolean isRefresh() {
+		return JwtProvider.REFRESH.equals(type);
+	}
+}
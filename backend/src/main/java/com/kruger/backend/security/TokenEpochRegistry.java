@@ -0,0 +1,123 @@
+package com.kruger.backend.security;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kruger.backend.entity.TokenEpoch;
+import com.kruger.backend.repository.TokenEpochRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Per-user token epochs: a token is only accepted when it was issued at or after
+ * the epoch of its subject. Bumping the epoch revokes every outstanding token of
+ * that user without a database lookup on the request path.
+ * <p>
+ * Epochs are stored in token_epoch and mirrored in memory; epochs raised by
+ * other instances are picked up every sync interval. Refreshing a token reads
+ * the stored epoch, so a revoked token family cannot be renewed on any
+ * instance in the meantime.
+ */
+@Component
+public class TokenEpochRegistry {
+
+	// updated_at comes from each instance's clock; read a little behind the last sync
+	private static final long SYNC_OVERLAP_MS = 60000;
+
+	@Value("${app.jwt.expiration}")
+	private long jwtExpirationMs;
+
+	@Value("${app.jwt.refresh-expiration:1209600000}")
+	private long refreshExpirationMs;
+
+	private TokenEpochRepository tokenEpochRepository;
+
+	private final ConcurrentHashMap<String, Long> epochs = new ConcurrentHashMap<>();
+
+	private volatile LocalDateTime lastSync;
+
+	public TokenEpochRegistry(TokenEpochRepository tokenEpochRepository) {
+		this.tokenEpochRepository = tokenEpochRepository;
+	}
+
+	@PostConstruct
+	void init() {
+		LocalDateTime now = LocalDateTime.now();
+		merge(tokenEpochRepository.findRelevant(oldestRelevant(now)));
+		lastSync = now;
+	}
+
+	public boolean isCurrent(String subject, Date issuedAt) {
+		Long epoch = epochs.get(subject);
+		if (epoch == null) {
+			return true;
+		}
+		return issuedAt != null && issuedAt.getTime() >= epoch;
+	}
+
+	/**
+	 * Same as {@link #isCurrent} after reading the subject's stored epoch, for
+	 * checks that must not miss a revocation made by another instance.
+	 */
+	public boolean isCurrentConfirmed(String subject, Date issuedAt) {
+		tokenEpochRepository.findById(subject).ifPresent(this::merge);
+		return isCurrent(subject, issuedAt);
+	}
+
+	public void revokeIssuedBefore(String subject, long epochMillis) {
+		// JWT iat has second precision, so the epoch is truncated to whole seconds
+		long epoch = epochMillis - epochMillis % 1000;
+		tokenEpochRepository.raise(subject, toLocal(epoch), LocalDateTime.now());
+		epochs.merge(subject, epoch, Math::max);
+	}
+
+	public void revokeAll(String subject) {
+		revokeIssuedBefore(subject, System.currentTimeMillis());
+	}
+
+	@Scheduled(fixedDelayString = "${app.jwt.revocation.sync-ms:30000}")
+	public void sync() {
+		LocalDateTime now = LocalDateTime.now();
+		merge(tokenEpochRepository.findRelevantUpdatedSince(lastSync.minusNanos(SYNC_OVERLAP_MS * 1_000_000),
+				oldestRelevant(now)));
+		lastSync = now;
+	}
+
+	@Scheduled(fixedDelayString = "${app.jwt.revocation.purge-ms:3600000}",
+			initialDelayString = "${app.jwt.revocation.purge-ms:3600000}")
+	public void purge() {
+		LocalDateTime oldestRelevant = oldestRelevant(LocalDateTime.now());
+		tokenEpochRepository.deleteIrrelevant(oldestRelevant);
+		long oldest = toMillis(oldestRelevant);
+		epochs.values().removeIf(epoch -> epoch <= oldest);
+	}
+
+	private void merge(List<TokenEpoch> stored) {
+		stored.forEach(this::merge);
+	}
+
+	private void merge(TokenEpoch stored) {
+		epochs.merge(stored.getSubject(), toMillis(stored.getRevokedBefore()), Math::max);
+	}
+
+	private LocalDateTime oldestRelevant(LocalDateTime now) {
+		// once every token issued before an epoch has expired, the epoch no longer matters
+		return now.minusNanos(Math.max(jwtExpirationMs, refreshExpirationMs) * 1_000_000);
+	}
+
+	private static LocalDateTime toLocal(long millis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+	}
+
+	private static long toMillis(LocalDateTime time) {
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -0,0 +1,137 @@
+package com.kruger.backend.security;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kruger.backend.repository.RevokedTokenRepository;
+import com.kruger.backend.utils.cache.BloomFilter;
+import com.kruger.backend.utils.cache.ExpiringCache;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Revoked token ids. Revocations are stored in revoked_token and mirrored in
+ * a Bloom filter, so checking a token that was never revoked, nearly every
+ * request, costs a few hashed bit reads and no database access. Only a hit
+ * in the filter, a revoked token or a rare false positive, is confirmed
+ * against the table, and the answer is cached. The filter is rebuilt from the
+ * table at startup and after expired rows are purged, and rows revoked by
+ * other instances are added every sync interval.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+	private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+	// revoked_at comes from each instance's clock; read a little behind the last sync
+	private static final long SYNC_OVERLAP_MS = 60000;
+
+	@Value("${app.jwt.revocation.expected-insertions:100000}")
+	private int expectedInsertions;
+
+	@Value("${app.jwt.revocation.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	@Value("${app.jwt.revocation.sync-ms:30000}")
+	private long syncMs;
+
+	@Value("${app.jwt.revocation.confirmed-cache-size:10000}")
+	private int confirmedCacheSize;
+
+	private RevokedTokenRepository revokedTokenRepository;
+
+	private final Object writeLock = new Object();
+
+	private volatile BloomFilter filter;
+
+	private ExpiringCache<String, Boolean> confirmed;
+
+	private volatile LocalDateTime lastSync;
+
+	public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository) {
+		this.revokedTokenRepository = revokedTokenRepository;
+	}
+
+	@PostConstruct
+	void init() {
+		confirmed = new ExpiringCache<>(confirmedCacheSize);
+		rebuild();
+	}
+
+	public boolean isRevoked(TokenClaims claims) {
+		String jti = claims.getId();
+		if (jti == null || !filter.mightContain(jti)) {
+			return false;
+		}
+		Boolean revoked = confirmed.get(jti);
+		if (revoked == null) {
+			revoked = revokedTokenRepository.existsById(jti);
+			// a negative answer may be overtaken by another instance, so it only lasts one sync interval
+			long until = revoked ? expiresAt(claims) : Math.min(expiresAt(claims), System.currentTimeMillis() + syncMs);
+			confirmed.put(jti, revoked, until);
+		}
+		return revoked;
+	}
+
+	/**
+	 * Revokes the token until it expires. Returns false when it already was
+	 * revoked.
+	 */
+	public boolean revoke(TokenClaims claims) {
+		if (claims.getId() == null) {
+			return true;
+		}
+		LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+		boolean inserted = revokedTokenRepository.insertIfAbsent(claims.getId(), claims.getSubject(), expiresAt,
+				LocalDateTime.now()) > 0;
+		synchronized (writeLock) {
+			filter.put(claims.getId());
+		}
+		confirmed.put(claims.getId(), Boolean.TRUE, expiresAt(claims));
+		return inserted;
+	}
+
+	@Scheduled(fixedDelayString = "${app.jwt.revocation.sync-ms:30000}")
+	public void sync() {
+		LocalDateTime now = LocalDateTime.now();
+		List<String> ids = revokedTokenRepository.findActiveIdsRevokedSince(lastSync.minusNanos(SYNC_OVERLAP_MS * 1_000_000), now);
+		synchronized (writeLock) {
+			ids.forEach(filter::put);
+		}
+		lastSync = now;
+	}
+
+	@Scheduled(fixedDelayString = "${app.jwt.revocation.purge-ms:3600000}",
+			initialDelayString = "${app.jwt.revocation.purge-ms:3600000}")
+	public void purge() {
+		int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+		if (deleted > 0) {
+			rebuild();
+		}
+	}
+
+	private void rebuild() {
+		synchronized (writeLock) {
+			LocalDateTime now = LocalDateTime.now();
+			List<String> ids = revokedTokenRepository.findActiveIds(now);
+			// leave room to grow until the next rebuild without losing the target false-positive rate
+			BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, ids.size() * 2), falsePositiveRate);
+			ids.forEach(rebuilt::put);
+			filter = rebuilt;
+			lastSync = now;
+			log.info("Token revocation filter rebuilt with {} ids ({} bits, {} hashes)", ids.size(),
+					rebuilt.bitSize(), rebuilt.hashCount());
+		}
+	}
+
+	private static long expiresAt(TokenClaims claims) {
+		return claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+	}
+}
@@ -1,10 +1,15 @@
 package com.kruger.backend.service;
 
 import com.kruger.backend.dto.request.LoginRequest;
+import com.kruger.backend.dto.request.RefreshTokenRequest;
 import com.kruger.backend.dto.response.LoginResponse;
 
 public interface AuthService {
 
 	LoginResponse login(LoginRequest request);
 
+	LoginResponse refresh(RefreshTokenRequest request);
+
+	void logout(String accessToken, String refreshToken);
+
 }
@@ -0,0 +1,9 @@
+package com.kruger.backend.service;
+
+import com.kruger.backend.dto.response.CacheStatsResponse;
+
+public interface CacheStatsService {
+
+	CacheStatsResponse secondLevelCacheStats();
+
+}
@@ -0,0 +1,13 @@
+package com.kruger.backend.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+public interface ChangeFeedService {
+
+	SseEmitter subscribe(String email, Long projectId, String lastEventId) throws ResourceNotFoundException;
+
+	void heartbeat();
+
+}
@@ -0,0 +1,16 @@
+package com.kruger.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.kruger.backend.utils.enums.ExportFormat;
+
+public interface ExportService {
+
+	void exportUserTasks(String email, ExportFormat format, OutputStream out) throws IOException;
+
+	void exportProjectTasks(Long projectId, ExportFormat format, OutputStream out) throws IOException;
+
+	void exportUserProjects(String email, ExportFormat format, OutputStream out) throws IOException;
+
+}
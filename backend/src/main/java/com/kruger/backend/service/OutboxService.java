@@ -0,0 +1,11 @@
+package com.kruger.backend.service;
+
+public interface OutboxService {
+
+	/**
+	 * Records {@code event} for webhook delivery. Inside a transaction the row
+	 * is written just before commit and is discarded on rollback.
+	 */
+	void record(String aggregateType, Long aggregateId, String eventType, Object event);
+
+}
@@ -0,0 +1,14 @@
+package com.kruger.backend.service;
+
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+
+public interface OverdueTaskService {
+
+	PageResponse<TaskResponse> overdueForUser(String email, String cursor, Integer size);
+
+	void tick();
+
+	void rebuild();
+
+}
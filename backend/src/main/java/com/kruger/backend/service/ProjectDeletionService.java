@@ -0,0 +1,12 @@
+package com.kruger.backend.service;
+
+import com.kruger.backend.dto.response.ProjectDeletionResponse;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+public interface ProjectDeletionService {
+
+	ProjectDeletionResponse delete(Long projectId) throws ResourceNotFoundException;
+
+	ProjectDeletionResponse status(Long projectId) throws ResourceNotFoundException;
+
+}
@@ -1,20 +1,27 @@
 package com.kruger.backend.service;
 
 import java.security.Principal;
-import java.util.List;
 
+import com.kruger.backend.dto.request.ProjectPatchRequest;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.ProjectDeletionResponse;
 import com.kruger.backend.dto.response.ProjectResponse;
 import com.kruger.backend.entity.Project;
+import com.kruger.backend.utils.exception.ConflictException;
 import com.kruger.backend.utils.exception.ResourceNotFoundException;
 
 public interface ProjectService {
 
 	ProjectResponse create(Project project, Principal principal);
 
-	List<ProjectResponse> findProjectsByUser(Principal principal);
+	PageResponse<ProjectResponse> findProjectsByUser(Principal principal, String cursor, Integer size);
 
 	ProjectResponse update(Project project, Long id) throws ResourceNotFoundException;
 
-	void delete(Long id) throws ResourceNotFoundException;
+	ProjectResponse patch(ProjectPatchRequest patch, Long id) throws ResourceNotFoundException, ConflictException;
+
+	ProjectDeletionResponse delete(Long id) throws ResourceNotFoundException;
+
+	ProjectDeletionResponse deletionStatus(Long id) throws ResourceNotFoundException;
 
 }
@@ -0,0 +1,13 @@
+package com.kruger.backend.service;
+
+import com.kruger.backend.utils.etag.ScopeTag;
+
+public interface ScopeVersionService {
+
+	ScopeTag userTasksTag(String email);
+
+	ScopeTag userProjectsTag(String email);
+
+	ScopeTag projectTasksTag(Long projectId);
+
+}
@@ -0,0 +1,12 @@
+package com.kruger.backend.service;
+
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+
+public interface TaskSearchService {
+
+	PageResponse<TaskResponse> search(String email, String query, Long projectId, String cursor, Integer size);
+
+	void rebuild();
+
+}
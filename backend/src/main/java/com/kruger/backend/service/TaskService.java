@@ -1,21 +1,28 @@
 package com.kruger.backend.service;
 
-import java.util.List;
-
+import com.kruger.backend.dto.request.TaskBulkRequest;
+import com.kruger.backend.dto.request.TaskPatchRequest;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskBulkResponse;
 import com.kruger.backend.dto.response.TaskResponse;
 import com.kruger.backend.entity.Task;
+import com.kruger.backend.utils.exception.ConflictException;
 import com.kruger.backend.utils.exception.ResourceNotFoundException;
 
 public interface TaskService {
 
-	TaskResponse create(Task task,String name);
+	TaskResponse create(Task task,String name) throws ResourceNotFoundException;
 
-	List<TaskResponse> findProjectByParameters(String name);
+	PageResponse<TaskResponse> findProjectByParameters(String name, String cursor, Integer size);
 
-	List<TaskResponse> findProjectById(Long projectId);
+	PageResponse<TaskResponse> findProjectById(Long projectId, String cursor, Integer size);
 
 	TaskResponse update(Task task, Long id) throws ResourceNotFoundException;
 
+	TaskResponse patch(TaskPatchRequest patch, Long id) throws ResourceNotFoundException, ConflictException;
+
 	void delete(Long id) throws ResourceNotFoundException;
 
+	TaskBulkResponse bulk(TaskBulkRequest request, String name) throws ResourceNotFoundException;
+
 }
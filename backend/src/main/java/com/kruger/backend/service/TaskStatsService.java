@@ -0,0 +1,13 @@
+package com.kruger.backend.service;
+
+import com.kruger.backend.dto.response.TaskStatsResponse;
+
+public interface TaskStatsService {
+
+	TaskStatsResponse countsForUser(String email);
+
+	TaskStatsResponse countsForProject(Long projectId);
+
+	void rebuild();
+
+}
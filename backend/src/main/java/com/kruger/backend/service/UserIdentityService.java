@@ -0,0 +1,12 @@
+package com.kruger.backend.service;
+
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+public interface UserIdentityService {
+
+	UserIdentity resolve(String email) throws ResourceNotFoundException;
+
+	void evict(String email);
+
+}
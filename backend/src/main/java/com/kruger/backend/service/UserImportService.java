@@ -0,0 +1,10 @@
+package com.kruger.backend.service;
+
+import java.io.InputStream;
+
+import com.kruger.backend.dto.response.UserImportResponse;
+
+public interface UserImportService {
+
+	UserImportResponse importUsers(InputStream body);
+}
@@ -1,8 +1,7 @@
 package com.kruger.backend.service;
 
-import java.util.List;
-
 import com.kruger.backend.dto.request.UserRequest;
+import com.kruger.backend.dto.response.PageResponse;
 import com.kruger.backend.dto.response.UserResponse;
 import com.kruger.backend.entity.User;
 import com.kruger.backend.utils.exception.ResourceNotFoundException;
@@ -11,7 +10,7 @@ public interface UserService {
 
 	User createUser(UserRequest user);
 
-	List<UserResponse> getAllUsers();
+	PageResponse<UserResponse> getAllUsers(String cursor, Integer size);
 
 	User getById(Long id) throws ResourceNotFoundException;
 }
@@ -0,0 +1,9 @@
+package com.kruger.backend.service;
+
+public interface WebhookDispatchService {
+
+	void dispatch();
+
+	void prune();
+
+}
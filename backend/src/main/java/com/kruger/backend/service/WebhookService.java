@@ -0,0 +1,18 @@
+package com.kruger.backend.service;
+
+import java.util.List;
+
+import com.kruger.backend.dto.request.WebhookEndpointRequest;
+import com.kruger.backend.dto.response.WebhookEndpointResponse;
+import com.kruger.backend.utils.exception.BadRequestException;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+public interface WebhookService {
+
+	WebhookEndpointResponse register(WebhookEndpointRequest request) throws BadRequestException;
+
+	List<WebhookEndpointResponse> findAll();
+
+	void delete(Long id) throws ResourceNotFoundException;
+
+}
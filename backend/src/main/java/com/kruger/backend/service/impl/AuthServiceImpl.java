@@ -3,33 +3,94 @@ package com.kruger.backend.service.impl;
 import org.springframework.stereotype.Service;
 
 import com.kruger.backend.dto.request.LoginRequest;
+import com.kruger.backend.dto.request.RefreshTokenRequest;
+import com.kruger.backend.dto.UserIdentity;
 import com.kruger.backend.dto.response.LoginResponse;
-import com.kruger.backend.entity.User;
-import com.kruger.backend.repository.UserRepository;
 import com.kruger.backend.security.JwtProvider;
+import com.kruger.backend.security.TokenClaims;
+import com.kruger.backend.security.TokenEpochRegistry;
+import com.kruger.backend.security.TokenRevocationRegistry;
 import com.kruger.backend.service.AuthService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.admission.Traffic;
+import com.kruger.backend.utils.enums.TrafficClass;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+import com.kruger.backend.utils.exception.UnauthorizedException;
 
 @Service
 public class AuthServiceImpl implements AuthService{
 
 	private JwtProvider jwtProvider;
 
-    private UserRepository userRepository;
+    private UserIdentityService userIdentityService;
 
-    public AuthServiceImpl(JwtProvider jwtProvider, UserRepository userRepository) {
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    public AuthServiceImpl(JwtProvider jwtProvider, UserIdentityService userIdentityService,
+			TokenEpochRegistry tokenEpochRegistry, TokenRevocationRegistry tokenRevocationRegistry) {
 		this.jwtProvider = jwtProvider;
-		this.userRepository = userRepository;
+		this.userIdentityService = userIdentityService;
+		this.tokenEpochRegistry = tokenEpochRegistry;
+		this.tokenRevocationRegistry = tokenRevocationRegistry;
 	}
     
 
+    @Traffic(TrafficClass.READ)
     public LoginResponse login(LoginRequest request) {
         
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> {
-                	return new RuntimeException("User not found");
-                });
+        UserIdentity user = userIdentityService.resolve(request.getEmail());
         
-        String token = jwtProvider.createToken(user);
-        return new LoginResponse(token);
+        return issue(user);
+    }
+
+    /**
+     * Rotates a refresh token: it is revoked and a new pair is issued. A
+     * refresh token presented twice has leaked or been replayed, so every
+     * token of its user is revoked.
+     */
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        TokenClaims claims = jwtProvider.getVerifiedClaims(request.getRefreshToken());
+        if (claims == null || !claims.isRefresh()
+                || !tokenEpochRegistry.isCurrentConfirmed(claims.getSubject(), claims.getIssuedAt())
+                || tokenRevocationRegistry.isRevoked(claims)) {
+            throw new UnauthorizedException("Invalid or expired refresh token");
+        }
+        if (!tokenRevocationRegistry.revoke(claims)) {
+            tokenEpochRegistry.revokeAll(claims.getSubject());
+            throw new UnauthorizedException("Invalid or expired refresh token");
+        }
+
+        UserIdentity user;
+        try {
+            user = userIdentityService.resolve(claims.getSubject());
+        } catch (ResourceNotFoundException e) {
+            throw new UnauthorizedException("Invalid or expired refresh token");
+        }
+        return issue(user);
+    }
+
+    public void logout(String accessToken, String refreshToken) {
+        revoke(accessToken);
+        revoke(refreshToken);
+    }
+
+    private void revoke(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        TokenClaims claims = jwtProvider.getVerifiedClaims(token);
+        if (claims != null) {
+            tokenRevocationRegistry.revoke(claims);
+        }
+    }
+
+    private LoginResponse issue(UserIdentity user) {
+        return LoginResponse.builder()
+                .token(jwtProvider.createToken(user))
+                .refreshToken(jwtProvider.createRefreshToken(user))
+                .expiresIn(jwtProvider.getAccessExpirationMs() / 1000)
+                .build();
     }
 }
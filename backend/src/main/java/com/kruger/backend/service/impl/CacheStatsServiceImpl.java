@@ -0,0 +1,60 @@
+package com.kruger.backend.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.kruger.backend.dto.response.CacheRegionStats;
+import com.kruger.backend.dto.response.CacheStatsResponse;
+import com.kruger.backend.service.CacheStatsService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Reads per-region counters of the Hibernate second-level cache. Statistics are
+ * only collected when the cache is enabled (L2_CACHE_ENABLED=true).
+ */
+@Service
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+	private EntityManagerFactory entityManagerFactory;
+
+	public CacheStatsServiceImpl(EntityManagerFactory entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	@Override
+	public CacheStatsResponse secondLevelCacheStats() {
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		Statistics statistics = sessionFactory.getStatistics();
+		boolean enabled = sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+		if (!enabled || !statistics.isStatisticsEnabled()) {
+			return new CacheStatsResponse(enabled, List.of());
+		}
+
+		List<CacheRegionStats> regions = new ArrayList<>();
+		String[] names = statistics.getSecondLevelCacheRegionNames();
+		Arrays.sort(names);
+		for (String name : names) {
+			CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+			if (region != null) {
+				regions.add(toStats(name, region));
+			}
+		}
+		return new CacheStatsResponse(true, regions);
+	}
+
+	private static CacheRegionStats toStats(String name, CacheRegionStatistics region) {
+		long hits = region.getHitCount();
+		long misses = region.getMissCount();
+		double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+		return new CacheRegionStats(name, hits, misses, region.getPutCount(), hitRatio,
+				region.getElementCountInMemory());
+	}
+
+}
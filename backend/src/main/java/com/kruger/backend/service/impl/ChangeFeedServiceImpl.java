@@ -0,0 +1,328 @@
+package com.kruger.backend.service.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.dto.response.ChangeNotice;
+import com.kruger.backend.entity.Project;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskOverdueEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.service.ChangeFeedService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+import com.kruger.backend.utils.feed.RingBuffer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed task and project changes to open Server-Sent Events
+ * streams. A user stream receives the changes of the tasks assigned to the
+ * user and of the projects they own; a project stream additionally receives
+ * every task change of that project when the user owns it or is an admin.
+ * <p>
+ * Writers only append to each subscriber's {@link RingBuffer} and never touch
+ * a socket. A small dispatcher pool drains the buffers into the emitters, so a
+ * slow client only loses its own oldest notices, which it learns about through
+ * a {@code resync} event. Idle streams hold no thread and no buffer array.
+ */
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+	static final String RESYNC_EVENT = "resync";
+
+	private UserIdentityService userIdentityService;
+
+	private ProjectRepository projectRepository;
+
+	private long timeoutMs;
+
+	private int bufferSize;
+
+	private int maxPerUser;
+
+	private ExecutorService dispatcher;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final AtomicLong subscriptions = new AtomicLong();
+
+	private final Map<Long, Set<Subscriber>> byUser = new ConcurrentHashMap<>();
+
+	private final Map<Long, Set<Subscriber>> byProject = new ConcurrentHashMap<>();
+
+	public ChangeFeedServiceImpl(UserIdentityService userIdentityService, ProjectRepository projectRepository,
+			@Value("${app.changes.timeout-ms:1800000}") long timeoutMs,
+			@Value("${app.changes.buffer-size:256}") int bufferSize,
+			@Value("${app.changes.max-per-user:5}") int maxPerUser,
+			@Value("${app.changes.dispatch-threads:4}") int dispatchThreads) {
+		this.userIdentityService = userIdentityService;
+		this.projectRepository = projectRepository;
+		this.timeoutMs = timeoutMs;
+		this.bufferSize = bufferSize;
+		this.maxPerUser = maxPerUser;
+		this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("change-feed-"));
+	}
+
+	@Override
+	public SseEmitter subscribe(String email, Long projectId, String lastEventId) throws ResourceNotFoundException {
+		UserIdentity user = userIdentityService.resolve(email);
+		Long userId = user.getId();
+		Long watched = projectId != null && seesEveryTaskOf(user, projectId) ? projectId : null;
+		Subscriber subscriber = new Subscriber(userId, watched, new SseEmitter(timeoutMs),
+				new RingBuffer<>(bufferSize), subscriptions.incrementAndGet());
+		subscriber.emitter.onCompletion(() -> unregister(subscriber));
+		subscriber.emitter.onTimeout(() -> close(subscriber));
+		subscriber.emitter.onError(e -> unregister(subscriber));
+
+		evictOldest(userId);
+		add(byUser, userId, subscriber);
+		if (watched != null) {
+			add(byProject, watched, subscriber);
+		}
+		if (lastEventId != null) {
+			// buffers do not outlive a connection: a reconnecting client must reload what it shows
+			subscriber.resync = true;
+			schedule(subscriber);
+		}
+		return subscriber.emitter;
+	}
+
+	@Override
+	@Scheduled(fixedRateString = "${app.changes.heartbeat-ms:25000}")
+	public void heartbeat() {
+		for (Set<Subscriber> subscribers : byUser.values()) {
+			for (Subscriber subscriber : subscribers) {
+				subscriber.heartbeat = true;
+				schedule(subscriber);
+			}
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTaskChanged(TaskChangedEvent event) {
+		TaskSnapshot task = event.getAfter() != null ? event.getAfter() : event.getBefore();
+		ChangeNotice notice = new ChangeNotice("task", event.getType().name(), task.getId(), task.getProjectId());
+		Set<Subscriber> targets = new HashSet<>();
+		for (TaskSnapshot snapshot : new TaskSnapshot[] { event.getBefore(), event.getAfter() }) {
+			if (snapshot != null) {
+				collect(targets, byUser, snapshot.getAssignedToId());
+				collect(targets, byProject, snapshot.getProjectId());
+			}
+		}
+		publish(notice, targets);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProjectChanged(ProjectChangedEvent event) {
+		ChangeNotice notice = new ChangeNotice("project", event.getType().name(), event.getProjectId(),
+				event.getProjectId());
+		Set<Subscriber> targets = new HashSet<>();
+		collect(targets, byUser, event.getOwnerId());
+		collect(targets, byProject, event.getProjectId());
+		publish(notice, targets);
+	}
+
+	@EventListener
+	public void onTaskOverdue(TaskOverdueEvent event) {
+		ChangeNotice notice = new ChangeNotice("task", "OVERDUE", event.getTaskId(), event.getProjectId());
+		Set<Subscriber> targets = new HashSet<>();
+		collect(targets, byUser, event.getAssignedToId());
+		collect(targets, byProject, event.getProjectId());
+		publish(notice, targets);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		dispatcher.shutdownNow();
+		for (Set<Subscriber> subscribers : byUser.values()) {
+			for (Subscriber subscriber : subscribers) {
+				subscriber.emitter.complete();
+			}
+		}
+	}
+
+	/**
+	 * Same rule as search: every task of a project is visible to its owner and
+	 * to admins; anyone else only sees the tasks assigned to them, which their
+	 * user stream already carries.
+	 */
+	private boolean seesEveryTaskOf(UserIdentity user, Long projectId) {
+		Project project = projectRepository.findActiveById(projectId).orElseThrow(() -> {
+			return new ResourceNotFoundException("Project with ID " + projectId + " not found");
+		});
+		return user.getRole() == Role.ADMIN
+				|| (project.getOwner() != null && user.getId().equals(project.getOwner().getId()));
+	}
+
+	private void collect(Set<Subscriber> targets, Map<Long, Set<Subscriber>> index, Long key) {
+		if (key != null) {
+			Set<Subscriber> subscribers = index.get(key);
+			if (subscribers != null) {
+				targets.addAll(subscribers);
+			}
+		}
+	}
+
+	private void publish(ChangeNotice notice, Set<Subscriber> targets) {
+		if (targets.isEmpty()) {
+			return;
+		}
+		Envelope envelope = new Envelope(sequence.incrementAndGet(), notice);
+		for (Subscriber subscriber : targets) {
+			subscriber.buffer.offer(envelope);
+			schedule(subscriber);
+		}
+	}
+
+	private void schedule(Subscriber subscriber) {
+		if (subscriber.closed || !subscriber.scheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			dispatcher.execute(() -> drain(subscriber));
+		} catch (RejectedExecutionException e) {
+			subscriber.scheduled.set(false);
+		}
+	}
+
+	private void drain(Subscriber subscriber) {
+		try {
+			long dropped = subscriber.buffer.takeDropped();
+			List<Envelope> envelopes = subscriber.buffer.drain();
+			if (dropped > 0 || subscriber.resync) {
+				subscriber.resync = false;
+				subscriber.emitter.send(SseEmitter.event().name(RESYNC_EVENT).id(String.valueOf(sequence.get()))
+						.data(Map.of("dropped", dropped), MediaType.APPLICATION_JSON));
+			}
+			for (Envelope envelope : envelopes) {
+				subscriber.emitter.send(SseEmitter.event().name(envelope.notice.getEntity())
+						.id(String.valueOf(envelope.id)).data(envelope.notice, MediaType.APPLICATION_JSON));
+			}
+			if (subscriber.heartbeat) {
+				subscriber.heartbeat = false;
+				subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+			}
+		} catch (IOException | IllegalStateException e) {
+			// client went away or the emitter already completed
+			close(subscriber);
+			return;
+		} finally {
+			subscriber.scheduled.set(false);
+		}
+		if (!subscriber.buffer.isEmpty() || subscriber.resync) {
+			// a writer may have appended after the drain but before the flag was cleared
+			schedule(subscriber);
+		}
+	}
+
+	private void evictOldest(Long userId) {
+		Set<Subscriber> subscribers = byUser.get(userId);
+		if (subscribers == null || subscribers.size() < maxPerUser) {
+			return;
+		}
+		List<Subscriber> open = new ArrayList<>(subscribers);
+		open.sort((a, b) -> Long.compare(a.openedAt, b.openedAt));
+		for (int i = 0; i <= open.size() - maxPerUser; i++) {
+			close(open.get(i));
+		}
+	}
+
+	private void close(Subscriber subscriber) {
+		unregister(subscriber);
+		try {
+			subscriber.emitter.complete();
+		} catch (IllegalStateException e) {
+			// already completed
+		}
+	}
+
+	private void unregister(Subscriber subscriber) {
+		subscriber.closed = true;
+		remove(byUser, subscriber.userId, subscriber);
+		if (subscriber.projectId != null) {
+			remove(byProject, subscriber.projectId, subscriber);
+		}
+	}
+
+	private void add(Map<Long, Set<Subscriber>> index, Long key, Subscriber subscriber) {
+		index.compute(key, (id, subscribers) -> {
+			Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+			set.add(subscriber);
+			return set;
+		});
+	}
+
+	private void remove(Map<Long, Set<Subscriber>> index, Long key, Subscriber subscriber) {
+		index.computeIfPresent(key, (id, subscribers) -> {
+			subscribers.remove(subscriber);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+	}
+
+	private static final class Envelope {
+
+		private final long id;
+
+		private final ChangeNotice notice;
+
+		private Envelope(long id, ChangeNotice notice) {
+			this.id = id;
+			this.notice = notice;
+		}
+	}
+
+	private static final class Subscriber {
+
+		private final Long userId;
+
+		private final Long projectId;
+
+		private final SseEmitter emitter;
+
+		private final RingBuffer<Envelope> buffer;
+
+		private final long openedAt;
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		private volatile boolean closed;
+
+		private volatile boolean heartbeat;
+
+		private volatile boolean resync;
+
+		private Subscriber(Long userId, Long projectId, SseEmitter emitter, RingBuffer<Envelope> buffer,
+				long openedAt) {
+			this.userId = userId;
+			this.projectId = projectId;
+			this.emitter = emitter;
+			this.buffer = buffer;
+			this.openedAt = openedAt;
+		}
+	}
+
+}
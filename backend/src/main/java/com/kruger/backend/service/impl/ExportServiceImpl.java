@@ -0,0 +1,116 @@
+package com.kruger.backend.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kruger.backend.dto.response.ProjectResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.service.ExportService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ExportFormat;
+import com.kruger.backend.utils.export.CsvRowWriter;
+import com.kruger.backend.utils.export.NdjsonRowWriter;
+import com.kruger.backend.utils.export.RowWriter;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+	private static final List<String> TASK_COLUMNS = List.of("id", "title", "description", "status", "assignedTo",
+			"project", "dueDate", "createdAt");
+
+	private static final List<String> PROJECT_COLUMNS = List.of("id", "name", "description", "createdAt", "owner");
+
+	// matches the fetch size of the streaming queries
+	private static final int FLUSH_EVERY = 500;
+
+	private TaskRepository taskRepository;
+
+	private ProjectRepository projectRepository;
+
+	private UserIdentityService userIdentityService;
+
+	private ObjectMapper objectMapper;
+
+	private TransactionTemplate readOnlyTransaction;
+
+	public ExportServiceImpl(TaskRepository taskRepository, ProjectRepository projectRepository,
+			UserIdentityService userIdentityService, ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager) {
+		this.taskRepository = taskRepository;
+		this.projectRepository = projectRepository;
+		this.userIdentityService = userIdentityService;
+		this.objectMapper = objectMapper;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	@Override
+	public void exportUserTasks(String email, ExportFormat format, OutputStream out) throws IOException {
+		export(() -> taskRepository.streamByAssignee(email), taskWriter(format, out));
+	}
+
+	@Override
+	public void exportProjectTasks(Long projectId, ExportFormat format, OutputStream out) throws IOException {
+		export(() -> taskRepository.streamByProject(projectId), taskWriter(format, out));
+	}
+
+	@Override
+	public void exportUserProjects(String email, ExportFormat format, OutputStream out) throws IOException {
+		Long ownerId = userIdentityService.resolve(email).getId();
+		export(() -> projectRepository.streamByOwner(ownerId), projectWriter(format, out));
+	}
+
+	private <T> void export(Supplier<Stream<T>> source, RowWriter<T> writer) throws IOException {
+		writer.writeHeader();
+		try {
+			readOnlyTransaction.executeWithoutResult(status -> {
+				try (Stream<T> rows = source.get()) {
+					Iterator<T> it = rows.iterator();
+					int written = 0;
+					while (it.hasNext()) {
+						writer.write(it.next());
+						if (++written % FLUSH_EVERY == 0) {
+							writer.flush();
+						}
+					}
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		writer.flush();
+	}
+
+	private RowWriter<TaskResponse> taskWriter(ExportFormat format, OutputStream out) {
+		if (format == ExportFormat.CSV) {
+			return new CsvRowWriter<>(out, TASK_COLUMNS, t -> Arrays.asList(t.getId(), t.getTitle(),
+					t.getDescription(), t.getStatus(), t.getAssignedTo(), t.getProject(), t.getDueDate(),
+					t.getCreatedAt()));
+		}
+		return new NdjsonRowWriter<>(objectMapper, out);
+	}
+
+	private RowWriter<ProjectResponse> projectWriter(ExportFormat format, OutputStream out) {
+		if (format == ExportFormat.CSV) {
+			return new CsvRowWriter<>(out, PROJECT_COLUMNS, p -> Arrays.asList(p.getId(), p.getName(),
+					p.getDescription(), p.getCreatedAt(), p.getOwner()));
+		}
+		return new NdjsonRowWriter<>(objectMapper, out);
+	}
+
+}
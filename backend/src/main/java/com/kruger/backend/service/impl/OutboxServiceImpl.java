@@ -0,0 +1,138 @@
+package com.kruger.backend.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.service.OutboxService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes task and project change events into the outbox table as part of the
+ * transaction that made the change. Events are collected while the
+ * transaction runs and inserted in JDBC batches just before it commits, after
+ * the pending entity changes have been flushed, so the database-assigned
+ * outbox ids follow the order in which writers of the same row committed.
+ */
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+	private static final String INSERT = "INSERT INTO outbox_event "
+			+ "(aggregate_type, aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+	private static final int INSERT_BATCH = 500;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private ObjectMapper objectMapper;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// key of the per-transaction list of pending rows
+	private final Object pendingKey = new Object();
+
+	public OutboxServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void record(String aggregateType, Long aggregateId, String eventType, Object event) {
+		Row row = new Row(aggregateType, aggregateId, eventType, serialize(event), LocalDateTime.now());
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			insert(List.of(row));
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		List<Row> pending = (List<Row>) TransactionSynchronizationManager.getResource(pendingKey);
+		if (pending == null) {
+			List<Row> rows = new ArrayList<>();
+			TransactionSynchronizationManager.bindResource(pendingKey, rows);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void beforeCommit(boolean readOnly) {
+					entityManager.flush();
+					insert(rows);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+				}
+			});
+			pending = rows;
+		}
+		pending.add(row);
+	}
+
+	@EventListener
+	public void onTaskChanged(TaskChangedEvent event) {
+		TaskSnapshot task = event.getAfter() != null ? event.getAfter() : event.getBefore();
+		record("task", task.getId(), event.getType().name(), event);
+	}
+
+	@EventListener
+	public void onProjectChanged(ProjectChangedEvent event) {
+		record("project", event.getProjectId(), event.getType().name(), event);
+	}
+
+	private String serialize(Object event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			// failing here rolls the write back instead of losing its event
+			throw new IllegalStateException("Could not serialize " + event.getClass().getSimpleName(), e);
+		}
+	}
+
+	private void insert(List<Row> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT, rows, INSERT_BATCH, (statement, row) -> {
+			statement.setString(1, row.aggregateType);
+			statement.setLong(2, row.aggregateId);
+			statement.setString(3, row.eventType);
+			statement.setString(4, row.payload);
+			statement.setTimestamp(5, Timestamp.valueOf(row.createdAt));
+		});
+	}
+
+	private static final class Row {
+
+		private final String aggregateType;
+
+		private final Long aggregateId;
+
+		private final String eventType;
+
+		private final String payload;
+
+		private final LocalDateTime createdAt;
+
+		private Row(String aggregateType, Long aggregateId, String eventType, String payload,
+				LocalDateTime createdAt) {
+			this.aggregateType = aggregateType;
+			this.aggregateId = aggregateId;
+			this.eventType = eventType;
+			this.payload = payload;
+			this.createdAt = createdAt;
+		}
+	}
+
+}
@@ -0,0 +1,218 @@
+package com.kruger.backend.service.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kruger.backend.dto.TaskDue;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskOverdueEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.service.OverdueTaskService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.TaskStatus;
+import com.kruger.backend.utils.pagination.CursorPagination;
+import com.kruger.backend.utils.rebuild.StreamingRebuild;
+import com.kruger.backend.utils.timing.TimingWheel;
+
+/**
+ * Tracks the due dates of open tasks in a day-granular {@link TimingWheel}.
+ * Open tasks are read once at startup; afterwards every committed task write
+ * reschedules its task, and a periodic tick moves the wheel to the current
+ * day, publishing a {@link TaskOverdueEvent} for each task that expires. A
+ * task becomes overdue on the day after its due date.
+ */
+@Service
+public class OverdueTaskServiceImpl implements OverdueTaskService {
+
+	private static final Comparator<TaskDue> BY_DUE_DATE = Comparator.comparing(TaskDue::getDueDate)
+			.thenComparing(TaskDue::getTaskId);
+
+	private TaskRepository taskRepository;
+
+	private UserIdentityService userIdentityService;
+
+	private CursorPagination pagination;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	private StreamingRebuild streamingRebuild;
+
+	private Clock clock;
+
+	private int wheelDays;
+
+	private final Object monitor = new Object();
+
+	private TimingWheel<TaskDue> wheel;
+
+	private final Map<Long, TaskDue> overdue = new HashMap<>();
+
+	private final Map<Long, Set<Long>> overdueByUser = new HashMap<>();
+
+	public OverdueTaskServiceImpl(TaskRepository taskRepository, UserIdentityService userIdentityService,
+			CursorPagination pagination, ApplicationEventPublisher eventPublisher,
+			PlatformTransactionManager transactionManager, Clock clock,
+			@Value("${app.tasks.overdue.wheel-days:512}") int wheelDays) {
+		this.taskRepository = taskRepository;
+		this.userIdentityService = userIdentityService;
+		this.pagination = pagination;
+		this.eventPublisher = eventPublisher;
+		this.streamingRebuild = new StreamingRebuild(transactionManager);
+		this.clock = clock;
+		this.wheelDays = wheelDays;
+		this.wheel = new TimingWheel<>(wheelDays, today());
+	}
+
+	@Override
+	public PageResponse<TaskResponse> overdueForUser(String email, String cursor, Integer size) {
+		Long userId = userIdentityService.resolve(email).getId();
+		int pageSize = pagination.resolveSize(size);
+		int offset = pagination.offset(cursor);
+
+		List<TaskDue> tasks = new ArrayList<>();
+		synchronized (monitor) {
+			for (Long taskId : overdueByUser.getOrDefault(userId, Set.of())) {
+				tasks.add(overdue.get(taskId));
+			}
+		}
+		tasks.sort(BY_DUE_DATE);
+
+		long[] ranked = tasks.stream().mapToLong(TaskDue::getTaskId).toArray();
+		return pagination.offsetPage(ranked, offset, pageSize, taskRepository::findResponsesByIds, TaskResponse::getId);
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${app.tasks.overdue.tick-ms:60000}")
+	public void tick() {
+		List<TaskDue> expired = new ArrayList<>();
+		synchronized (monitor) {
+			wheel.advanceTo(today(), due -> {
+				markOverdue(due);
+				expired.add(due);
+			});
+		}
+		publish(expired);
+	}
+
+	@Override
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		synchronized (monitor) {
+			wheel = new TimingWheel<>(wheelDays, today());
+			overdue.clear();
+			overdueByUser.clear();
+			streamingRebuild.begin();
+		}
+		streamingRebuild.stream(taskRepository::streamOpenWithDueDate, this::load);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTaskChanged(TaskChangedEvent event) {
+		TaskSnapshot task = event.getAfter() != null ? event.getAfter() : event.getBefore();
+		TaskDue becameOverdue = null;
+		synchronized (monitor) {
+			streamingRebuild.touch(task.getId());
+			boolean wasOverdue = overdue.containsKey(task.getId());
+			forget(task.getId());
+			if (event.getType() != ChangeType.DELETED && task.getStatus() != TaskStatus.DONE
+					&& task.getDueDate() != null) {
+				TaskDue due = new TaskDue(task.getId(), task.getAssignedToId(), task.getProjectId(),
+						task.getDueDate());
+				if (!track(due) && !wasOverdue) {
+					becameOverdue = due;
+				}
+			}
+		}
+		if (becameOverdue != null) {
+			publish(List.of(becameOverdue));
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProjectChanged(ProjectChangedEvent event) {
+		if (event.getType() != ChangeType.DELETED) {
+			return;
+		}
+		synchronized (monitor) {
+			wheel.cancelIf(due -> event.getProjectId().equals(due.getProjectId()));
+			List<Long> tasks = new ArrayList<>();
+			for (TaskDue due : overdue.values()) {
+				if (event.getProjectId().equals(due.getProjectId())) {
+					tasks.add(due.getTaskId());
+				}
+			}
+			tasks.forEach(this::forget);
+		}
+	}
+
+	private void load(List<TaskDue> batch) {
+		synchronized (monitor) {
+			for (TaskDue due : batch) {
+				if (!streamingRebuild.isStale(due.getTaskId())) {
+					track(due);
+				}
+			}
+		}
+	}
+
+	/** Schedules the task, or marks it overdue if its deadline has passed. Returns true if scheduled. */
+	private boolean track(TaskDue due) {
+		if (wheel.schedule(due.getTaskId(), due.getDueDate().toEpochDay() + 1, due)) {
+			return true;
+		}
+		markOverdue(due);
+		return false;
+	}
+
+	private void markOverdue(TaskDue due) {
+		overdue.put(due.getTaskId(), due);
+		if (due.getAssignedToId() != null) {
+			overdueByUser.computeIfAbsent(due.getAssignedToId(), id -> new LinkedHashSet<>()).add(due.getTaskId());
+		}
+	}
+
+	private void forget(Long taskId) {
+		wheel.cancel(taskId);
+		TaskDue due = overdue.remove(taskId);
+		if (due != null && due.getAssignedToId() != null) {
+			Set<Long> tasks = overdueByUser.get(due.getAssignedToId());
+			tasks.remove(taskId);
+			if (tasks.isEmpty()) {
+				overdueByUser.remove(due.getAssignedToId());
+			}
+		}
+	}
+
+	private void publish(List<TaskDue> expired) {
+		for (TaskDue due : expired) {
+			eventPublisher.publishEvent(new TaskOverdueEvent(due.getTaskId(), due.getAssignedToId(),
+					due.getProjectId(), due.getDueDate()));
+		}
+	}
+
+	private long today() {
+		return LocalDate.now(clock).toEpochDay();
+	}
+
+}
@@ -0,0 +1,202 @@
+package com.kruger.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kruger.backend.dto.response.ProjectDeletionResponse;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.service.ProjectDeletionService;
+import com.kruger.backend.utils.cache.ExpiringCache;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.DeletionStatus;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Deletes projects by first marking them deleted, which hides them and their
+ * tasks immediately, and then removing their tasks with bounded
+ * {@code DELETE ... LIMIT} chunks, each in its own short transaction. Small
+ * projects are purged before the request returns; larger ones are purged in the
+ * background and can be followed through {@link #status(Long)}.
+ */
+@Service
+public class ProjectDeletionServiceImpl implements ProjectDeletionService {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectDeletionServiceImpl.class);
+
+	private ProjectRepository projectRepository;
+
+	private TaskRepository taskRepository;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	private TransactionTemplate transaction;
+
+	private ExecutorService purgeExecutor;
+
+	private final Map<Long, Progress> active = new ConcurrentHashMap<>();
+
+	private final ExpiringCache<Long, ProjectDeletionResponse> finished = new ExpiringCache<>(10000);
+
+	@Value("${app.projects.delete.async-threshold:1000}")
+	private long asyncThreshold;
+
+	@Value("${app.projects.delete.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${app.projects.delete.status-retention-ms:3600000}")
+	private long statusRetentionMs;
+
+	public ProjectDeletionServiceImpl(ProjectRepository projectRepository, TaskRepository taskRepository,
+			ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+			@Value("${app.projects.delete.purge-threads:1}") int purgeThreads) {
+		this.projectRepository = projectRepository;
+		this.taskRepository = taskRepository;
+		this.eventPublisher = eventPublisher;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.purgeExecutor = Executors.newFixedThreadPool(purgeThreads, new CustomizableThreadFactory("project-purge-"));
+	}
+
+	@Override
+	public ProjectDeletionResponse delete(Long projectId) throws ResourceNotFoundException {
+		Long ownerId = transaction.execute(status -> markDeleted(projectId));
+		if (ownerId == null) {
+			// already marked by an earlier request: make sure a purge is running
+			return resume(projectId).toResponse();
+		}
+
+		Progress progress = new Progress(projectId, taskRepository.countByProjectId(projectId));
+		if (active.putIfAbsent(projectId, progress) != null) {
+			return active.get(projectId).toResponse();
+		}
+		if (progress.totalTasks <= asyncThreshold) {
+			purge(progress);
+		} else {
+			submit(progress);
+		}
+		return progress.toResponse();
+	}
+
+	@Override
+	public ProjectDeletionResponse status(Long projectId) throws ResourceNotFoundException {
+		Progress progress = active.get(projectId);
+		if (progress != null) {
+			return progress.toResponse();
+		}
+		ProjectDeletionResponse done = finished.get(projectId);
+		if (done != null) {
+			return done;
+		}
+		if (projectRepository.existsDeletedById(projectId)) {
+			long remaining = taskRepository.countByProjectId(projectId);
+			return new ProjectDeletionResponse(projectId, DeletionStatus.PENDING, remaining, 0);
+		}
+		throw new ResourceNotFoundException("No deletion found for project with ID " + projectId);
+	}
+
+	/** Picks up projects left marked deleted, e.g. after a restart or a failed purge. */
+	@Scheduled(fixedDelayString = "${app.projects.delete.resume-interval-ms:60000}",
+			initialDelayString = "${app.projects.delete.resume-interval-ms:60000}")
+	public void resumePending() {
+		for (Long projectId : projectRepository.findDeletedIds()) {
+			resume(projectId);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		purgeExecutor.shutdownNow();
+	}
+
+	private Long markDeleted(Long projectId) {
+		if (projectRepository.markDeleted(projectId, LocalDateTime.now()) == 0) {
+			if (!projectRepository.existsById(projectId)) {
+				throw new ResourceNotFoundException("Project with ID " + projectId + " not found");
+			}
+			return null;
+		}
+		Long ownerId = projectRepository.findOwnerId(projectId);
+		eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.DELETED, projectId, ownerId));
+		return ownerId;
+	}
+
+	private Progress resume(Long projectId) {
+		Progress progress = new Progress(projectId, taskRepository.countByProjectId(projectId));
+		Progress running = active.putIfAbsent(projectId, progress);
+		if (running != null) {
+			return running;
+		}
+		submit(progress);
+		return progress;
+	}
+
+	private void submit(Progress progress) {
+		try {
+			purgeExecutor.execute(() -> purge(progress));
+		} catch (RejectedExecutionException e) {
+			active.remove(progress.projectId, progress);
+			progress.status = DeletionStatus.PENDING;
+		}
+	}
+
+	private void purge(Progress progress) {
+		progress.status = DeletionStatus.IN_PROGRESS;
+		try {
+			int deleted;
+			do {
+				deleted = transaction.execute(status -> taskRepository.deleteChunkByProjectId(progress.projectId,
+						chunkSize));
+				progress.deletedTasks.addAndGet(deleted);
+			} while (deleted > 0);
+			transaction.executeWithoutResult(status -> projectRepository.deleteAllByIdInBatch(
+					List.of(progress.projectId)));
+			progress.status = DeletionStatus.COMPLETED;
+		} catch (RuntimeException e) {
+			log.error("Purge of project {} failed, it will be retried", progress.projectId, e);
+			progress.status = DeletionStatus.FAILED;
+		} finally {
+			active.remove(progress.projectId, progress);
+			finished.put(progress.projectId, progress.toResponse(), System.currentTimeMillis() + statusRetentionMs);
+		}
+	}
+
+	private static final class Progress {
+
+		private final Long projectId;
+
+		private final long totalTasks;
+
+		private final AtomicLong deletedTasks = new AtomicLong();
+
+		private volatile DeletionStatus status = DeletionStatus.PENDING;
+
+		private Progress(Long projectId, long totalTasks) {
+			this.projectId = projectId;
+			this.totalTasks = totalTasks;
+		}
+
+		private ProjectDeletionResponse toResponse() {
+			return new ProjectDeletionResponse(projectId, status, totalTasks, deletedTasks.get());
+		}
+	}
+
+}
@@ -3,82 +3,115 @@ package com.kruger.backend.service.impl;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.kruger.backend.dto.ProjectPatchResult;
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.dto.request.ProjectPatchRequest;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.ProjectDeletionResponse;
 import com.kruger.backend.dto.response.ProjectResponse;
 import com.kruger.backend.entity.Project;
-import com.kruger.backend.entity.Task;
-import com.kruger.backend.entity.User;
+import com.kruger.backend.event.ProjectChangedEvent;
 import com.kruger.backend.mapper.ProjectMapper;
 import com.kruger.backend.repository.ProjectRepository;
-import com.kruger.backend.repository.TaskRepository;
 import com.kruger.backend.repository.UserRepository;
+import com.kruger.backend.service.ProjectDeletionService;
 import com.kruger.backend.service.ProjectService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.exception.BadRequestException;
+import com.kruger.backend.utils.exception.ConflictException;
 import com.kruger.backend.utils.exception.ResourceNotFoundException;
-
-import jakarta.transaction.Transactional;
+import com.kruger.backend.utils.pagination.CursorPagination;
 
 @Service
 public class ProjectServiceImpl implements ProjectService {
 
 	private ProjectRepository projectRepository;
 
-	private TaskRepository taskRepository;
+	private ProjectDeletionService projectDeletionService;
 
 	private UserRepository userRepository;
 
-	public ProjectServiceImpl(ProjectRepository projectRepository, TaskRepository taskRepository,
-			UserRepository userRepository) {
+	private UserIdentityService userIdentityService;
+
+	private CursorPagination pagination;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	public ProjectServiceImpl(ProjectRepository projectRepository, ProjectDeletionService projectDeletionService,
+			UserRepository userRepository, UserIdentityService userIdentityService, CursorPagination pagination,
+			ApplicationEventPublisher eventPublisher) {
 		this.projectRepository = projectRepository;
-		this.taskRepository = taskRepository;
+		this.projectDeletionService = projectDeletionService;
 		this.userRepository = userRepository;
+		this.userIdentityService = userIdentityService;
+		this.pagination = pagination;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
+	@Transactional
 	public ProjectResponse create(Project project, Principal principal) {
-		User owner = userRepository.findByEmail(principal.getName()).orElseThrow();
-		project.setOwner(owner);
-		return ProjectMapper.toResponse(projectRepository.save(project));
+		UserIdentity owner = userIdentityService.resolve(principal.getName());
+		project.setVersion(null);
+		project.setOwner(userRepository.getReferenceById(owner.getId()));
+		Project saved = projectRepository.save(project);
+		eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.CREATED, saved.getId(), owner.getId()));
+		return ProjectMapper.toResponse(saved, owner.getUsername());
 	}
 
 	@Override
-	public List<ProjectResponse> findProjectsByUser(Principal principal) {
-		User user = userRepository.findByEmail(principal.getName()).orElseThrow(() -> {
-			return new ResourceNotFoundException("User with email " + principal.getName() + " not found");
-		});
-
-		return projectRepository.findByUserId(user.getId()).stream().map(ProjectMapper::toResponse).toList();
-
+	@Transactional(readOnly = true)
+	public PageResponse<ProjectResponse> findProjectsByUser(Principal principal, String cursor, Integer size) {
+		UserIdentity user = userIdentityService.resolve(principal.getName());
+		int pageSize = pagination.resolveSize(size);
+		List<ProjectResponse> rows = projectRepository.findByUserId(user.getId(), pagination.afterId(cursor),
+				pagination.probe(pageSize));
+
+		return pagination.page(rows, pageSize, ProjectResponse::getId);
 	}
 
+	@Transactional
 	public ProjectResponse update(Project project, Long id) throws ResourceNotFoundException {
 
-		Project existing = projectRepository.findById(id).orElseThrow(() -> {
+		Project existing = projectRepository.findActiveById(id).orElseThrow(() -> {
 			return new ResourceNotFoundException("Project with ID " + id + " not found");
 		});
 
 		existing.setName(project.getName());
 		existing.setDescription(project.getDescription());
 
-		return ProjectMapper.toResponse(projectRepository.save(existing));
+		Project saved = projectRepository.saveAndFlush(existing);
+		eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.UPDATED, saved.getId(),
+				saved.getOwner() != null ? saved.getOwner().getId() : null));
+		return ProjectMapper.toResponse(saved);
 	}
 
 	@Transactional
-	public void delete(Long id) throws ResourceNotFoundException {
-
-		if (!projectRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Project with ID " + id + "not found");
+	public ProjectResponse patch(ProjectPatchRequest patch, Long id) throws ResourceNotFoundException, ConflictException {
+		if (patch.getVersion() == null) {
+			throw new BadRequestException("version is required");
 		}
-
-		List<Task> tasks = taskRepository.findProjectById(id);
-
-		if (!tasks.isEmpty()) {
-			for (Task task : tasks) {
-				taskRepository.delete(task);
+		ProjectPatchResult result = projectRepository.patch(id, patch).orElseThrow(() -> {
+			if (projectRepository.findActiveById(id).isEmpty()) {
+				return new ResourceNotFoundException("Project with ID " + id + " not found");
 			}
-		}
+			return new ConflictException("Project with ID " + id + " is no longer at version " + patch.getVersion());
+		});
+		eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.UPDATED, id, result.getOwnerId()));
+		return result.getProject();
+	}
+
+	public ProjectDeletionResponse delete(Long id) throws ResourceNotFoundException {
+		return projectDeletionService.delete(id);
+	}
 
-		projectRepository.deleteById(id);
+	public ProjectDeletionResponse deletionStatus(Long id) throws ResourceNotFoundException {
+		return projectDeletionService.status(id);
 	}
 
 }
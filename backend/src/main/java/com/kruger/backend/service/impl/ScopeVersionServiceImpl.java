@@ -0,0 +1,146 @@
+package com.kruger.backend.service.impl;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.service.ScopeVersionService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.VersionScope;
+import com.kruger.backend.utils.etag.ETags;
+import com.kruger.backend.utils.etag.ScopeTag;
+
+/**
+ * Version counters for the list endpoints, one per user or project scope. A
+ * counter is bumped after every committed write that can change the rows of
+ * its scope, so an unchanged counter means an unchanged list and the request
+ * can be answered with 304 without querying. Tags carry a per-process id, so
+ * tags handed out before a restart never match. A scope that changed within
+ * the replica lag window is flagged, so its list is read from the primary and
+ * never older than its tag.
+ * <p>
+ * The counters live in the memory of one instance and only see the writes it
+ * commits, so behind a load balancer another instance would answer 304 for a
+ * list that changed. {@code app.etag.enabled} must be off when more than one
+ * instance serves the API; the lists are then sent without an ETag.
+ */
+@Service
+public class ScopeVersionServiceImpl implements ScopeVersionService {
+
+	// no ETag, so no 304 and no need to read the list from the primary
+	private static final ScopeTag UNTAGGED = new ScopeTag(null, false);
+
+	private final String instance = UUID.randomUUID().toString().substring(0, 8);
+
+	private final Map<VersionScope, Map<Long, Version>> versions = new EnumMap<>(VersionScope.class);
+
+	// bumped when a change reaches scopes that cannot be listed cheaply
+	private final Version epoch = new Version();
+
+	private UserIdentityService userIdentityService;
+
+	private long replicaLagMs;
+
+	private boolean enabled;
+
+	public ScopeVersionServiceImpl(UserIdentityService userIdentityService,
+			@Value("${app.datasource.read-your-writes-ms:5000}") long replicaLagMs,
+			@Value("${app.etag.enabled:true}") boolean enabled) {
+		this.userIdentityService = userIdentityService;
+		this.replicaLagMs = replicaLagMs;
+		this.enabled = enabled;
+		for (VersionScope scope : VersionScope.values()) {
+			versions.put(scope, new ConcurrentHashMap<>());
+		}
+	}
+
+	@Override
+	public ScopeTag userTasksTag(String email) {
+		if (!enabled) {
+			return UNTAGGED;
+		}
+		return tag(VersionScope.USER_TASKS, userIdentityService.resolve(email).getId());
+	}
+
+	@Override
+	public ScopeTag userProjectsTag(String email) {
+		if (!enabled) {
+			return UNTAGGED;
+		}
+		return tag(VersionScope.USER_PROJECTS, userIdentityService.resolve(email).getId());
+	}
+
+	@Override
+	public ScopeTag projectTasksTag(Long projectId) {
+		if (!enabled) {
+			return UNTAGGED;
+		}
+		return tag(VersionScope.PROJECT_TASKS, projectId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTaskChanged(TaskChangedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		bump(event.getBefore());
+		bump(event.getAfter());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProjectChanged(ProjectChangedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		bump(VersionScope.USER_PROJECTS, event.getOwnerId());
+		if (event.getType() == ChangeType.DELETED) {
+			// the project's tasks leave the lists of every assignee at once
+			versions.get(VersionScope.PROJECT_TASKS).remove(event.getProjectId());
+			epoch.increment();
+		}
+	}
+
+	private void bump(TaskSnapshot task) {
+		if (task != null) {
+			bump(VersionScope.USER_TASKS, task.getAssignedToId());
+			bump(VersionScope.PROJECT_TASKS, task.getProjectId());
+		}
+	}
+
+	private void bump(VersionScope scope, Long scopeId) {
+		if (scopeId != null) {
+			versions.get(scope).computeIfAbsent(scopeId, id -> new Version()).increment();
+		}
+	}
+
+	private ScopeTag tag(VersionScope scope, Long scopeId) {
+		Version version = versions.get(scope).get(scopeId);
+		long settledBefore = System.currentTimeMillis() - replicaLagMs;
+		boolean recentlyChanged = epoch.changedAt > settledBefore || version != null && version.changedAt > settledBefore;
+		return new ScopeTag(ETags.weak(instance + "-" + epoch.value.get() + "-" + (version != null ? version.value.get() : 0)),
+				recentlyChanged);
+	}
+
+	private static final class Version {
+
+		private final AtomicLong value = new AtomicLong();
+
+		private volatile long changedAt;
+
+		private void increment() {
+			value.incrementAndGet();
+			changedAt = System.currentTimeMillis();
+		}
+	}
+
+}
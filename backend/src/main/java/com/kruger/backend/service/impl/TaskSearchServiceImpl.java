@@ -0,0 +1,202 @@
+package com.kruger.backend.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kruger.backend.dto.ProjectOwner;
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.service.TaskSearchService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.exception.BadRequestException;
+import com.kruger.backend.utils.pagination.CursorPagination;
+import com.kruger.backend.utils.rebuild.StreamingRebuild;
+import com.kruger.backend.utils.search.InvertedIndex;
+import com.kruger.backend.utils.search.Tokenizer;
+
+/**
+ * Full-text search over task titles and descriptions from an in-memory
+ * inverted index. The index is loaded at startup and then follows every
+ * committed task and project write. A user finds the tasks assigned to them
+ * and the tasks of the projects they own; admins find every task.
+ */
+@Service
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+	// a title match counts as much as three description matches
+	private static final int TITLE_WEIGHT = 3;
+
+	private TaskRepository taskRepository;
+
+	private ProjectRepository projectRepository;
+
+	private UserIdentityService userIdentityService;
+
+	private CursorPagination pagination;
+
+	private StreamingRebuild streamingRebuild;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	// task id -> {assignee id, project id}, for permission filtering
+	private final Map<Long, Long[]> owners = new ConcurrentHashMap<>();
+
+	private final Map<Long, Long> projectOwners = new ConcurrentHashMap<>();
+
+	public TaskSearchServiceImpl(TaskRepository taskRepository, ProjectRepository projectRepository,
+			UserIdentityService userIdentityService, CursorPagination pagination,
+			PlatformTransactionManager transactionManager) {
+		this.taskRepository = taskRepository;
+		this.projectRepository = projectRepository;
+		this.userIdentityService = userIdentityService;
+		this.pagination = pagination;
+		this.streamingRebuild = new StreamingRebuild(transactionManager);
+	}
+
+	@Override
+	public PageResponse<TaskResponse> search(String email, String query, Long projectId, String cursor,
+			Integer size) {
+		List<String> terms = Tokenizer.terms(query);
+		if (terms.isEmpty()) {
+			throw new BadRequestException("The search query must contain at least one word");
+		}
+		int pageSize = pagination.resolveSize(size);
+		int offset = pagination.offset(cursor);
+		LongPredicate visible = visibleTo(userIdentityService.resolve(email), projectId);
+
+		long[] ranked;
+		lock.readLock().lock();
+		try {
+			ranked = index.search(terms, visible);
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return pagination.offsetPage(ranked, offset, pageSize, taskRepository::findResponsesByIds, TaskResponse::getId);
+	}
+
+	@Override
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			streamingRebuild.begin();
+			for (Long id : owners.keySet()) {
+				index.remove(id);
+			}
+			owners.clear();
+			projectOwners.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		streamingRebuild.stream(() -> {
+			for (ProjectOwner project : projectRepository.findActiveOwners()) {
+				if (project.getOwnerId() != null) {
+					projectOwners.putIfAbsent(project.getProjectId(), project.getOwnerId());
+				}
+			}
+			return taskRepository.streamSnapshots();
+		}, this::load);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTaskChanged(TaskChangedEvent event) {
+		TaskSnapshot task = event.getAfter() != null ? event.getAfter() : event.getBefore();
+		lock.writeLock().lock();
+		try {
+			streamingRebuild.touch(task.getId());
+			if (event.getType() == ChangeType.DELETED) {
+				remove(task.getId());
+			} else {
+				put(task);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProjectChanged(ProjectChangedEvent event) {
+		if (event.getType() != ChangeType.DELETED) {
+			if (event.getOwnerId() != null) {
+				projectOwners.put(event.getProjectId(), event.getOwnerId());
+			}
+			return;
+		}
+		projectOwners.remove(event.getProjectId());
+		lock.writeLock().lock();
+		try {
+			List<Long> tasks = new ArrayList<>();
+			owners.forEach((id, owner) -> {
+				if (event.getProjectId().equals(owner[1])) {
+					tasks.add(id);
+				}
+			});
+			for (Long id : tasks) {
+				streamingRebuild.touch(id);
+				remove(id);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void load(List<TaskSnapshot> batch) {
+		lock.writeLock().lock();
+		try {
+			for (TaskSnapshot task : batch) {
+				if (!streamingRebuild.isStale(task.getId())) {
+					put(task);
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void put(TaskSnapshot task) {
+		index.put(task.getId(), Tokenizer.frequencies(task.getTitle(), TITLE_WEIGHT, task.getDescription()));
+		owners.put(task.getId(), new Long[] { task.getAssignedToId(), task.getProjectId() });
+	}
+
+	private void remove(Long id) {
+		index.remove(id);
+		owners.remove(id);
+	}
+
+	private LongPredicate visibleTo(UserIdentity user, Long projectId) {
+		boolean admin = user.getRole() == Role.ADMIN;
+		Long userId = user.getId();
+		return id -> {
+			Long[] owner = owners.get(id);
+			if (owner == null || (projectId != null && !projectId.equals(owner[1]))) {
+				return false;
+			}
+			return admin || userId.equals(owner[0])
+					|| (owner[1] != null && userId.equals(projectOwners.get(owner[1])));
+		};
+	}
+
+}
@@ -1,66 +1,253 @@
 package com.kruger.backend.service.impl;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kruger.backend.dto.TaskPatchResult;
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.dto.request.TaskBulkRequest;
+import com.kruger.backend.dto.request.TaskPatchRequest;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskBulkResponse;
 import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.entity.Project;
 import com.kruger.backend.entity.Task;
-import com.kruger.backend.entity.User;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
 import com.kruger.backend.mapper.TaskMapper;
+import com.kruger.backend.repository.ProjectRepository;
 import com.kruger.backend.repository.TaskRepository;
 import com.kruger.backend.repository.UserRepository;
 import com.kruger.backend.service.TaskService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.exception.BadRequestException;
+import com.kruger.backend.utils.exception.ConflictException;
 import com.kruger.backend.utils.exception.ResourceNotFoundException;
+import com.kruger.backend.utils.pagination.CursorPagination;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class TaskServiceImpl implements TaskService {
 
 	private TaskRepository taskRepository;
 
+	private ProjectRepository projectRepository;
+
 	private UserRepository userRepository;
 
-	public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository) {
+	private UserIdentityService userIdentityService;
+
+	private CursorPagination pagination;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+	private int batchSize;
+
+	@Value("${app.tasks.bulk.max-items:5000}")
+	private int bulkMaxItems;
+
+	public TaskServiceImpl(TaskRepository taskRepository, ProjectRepository projectRepository,
+			UserRepository userRepository, UserIdentityService userIdentityService, CursorPagination pagination,
+			ApplicationEventPublisher eventPublisher) {
 		this.taskRepository = taskRepository;
+		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
+		this.userIdentityService = userIdentityService;
+		this.pagination = pagination;
+		this.eventPublisher = eventPublisher;
 	}
 
-	public TaskResponse create(Task task, String name) {
-		User user = userRepository.findByEmail(name).orElseThrow();
-		task.setAssignedTo(user);
-		return TaskMapper.toResponse(taskRepository.save(task));
+	@Transactional
+	public TaskResponse create(Task task, String name) throws ResourceNotFoundException {
+		requireActiveProjects(List.of(task));
+		UserIdentity user = userIdentityService.resolve(name);
+		task.setVersion(null);
+		task.setAssignedTo(userRepository.getReferenceById(user.getId()));
+		Task saved = taskRepository.save(task);
+		eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(saved)));
+		return TaskMapper.toResponse(saved, user.getUsername());
 	}
 
-	public List<TaskResponse> findProjectByParameters(String name) {
-
-		return taskRepository.findByParameters(name).stream().map(TaskMapper::toResponse).toList();
+	@Transactional(readOnly = true)
+	public PageResponse<TaskResponse> findProjectByParameters(String name, String cursor, Integer size) {
+		int pageSize = pagination.resolveSize(size);
+		List<TaskResponse> rows = taskRepository.findByParameters(name, pagination.afterId(cursor),
+				pagination.probe(pageSize));
 
+		return pagination.page(rows, pageSize, TaskResponse::getId);
 	}
 
-	public List<TaskResponse> findProjectById(Long projectId) {
-
-		return taskRepository.findProjectById(projectId).stream().map(TaskMapper::toResponse).toList();
+	@Transactional(readOnly = true)
+	public PageResponse<TaskResponse> findProjectById(Long projectId, String cursor, Integer size) {
+		int pageSize = pagination.resolveSize(size);
+		List<TaskResponse> rows = taskRepository.findProjectById(projectId, pagination.afterId(cursor),
+				pagination.probe(pageSize));
 
+		return pagination.page(rows, pageSize, TaskResponse::getId);
 	}
 
+	@Transactional
 	public TaskResponse update(Task task, Long id) throws ResourceNotFoundException {
-		Task existing = taskRepository.findById(id).orElseThrow(() -> {
+		Task existing = taskRepository.findActiveById(id).orElseThrow(() -> {
 			return new ResourceNotFoundException("Task with ID " + id + " doesn't exist");
 		});
+		TaskSnapshot before = TaskSnapshot.of(existing);
 
 		existing.setTitle(task.getTitle());
 		existing.setDescription(task.getDescription());
 		existing.setStatus(task.getStatus());
 		existing.setDueDate(task.getDueDate());
 
-		return TaskMapper.toResponse(taskRepository.save(existing));
+		Task saved = taskRepository.saveAndFlush(existing);
+		eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(saved)));
+		return TaskMapper.toResponse(saved);
+	}
+
+	@Transactional
+	public TaskResponse patch(TaskPatchRequest patch, Long id) throws ResourceNotFoundException, ConflictException {
+		if (patch.getVersion() == null) {
+			throw new BadRequestException("version is required");
+		}
+		TaskPatchResult result = taskRepository.patch(id, patch).orElseThrow(() -> {
+			if (!taskRepository.existsActiveById(id)) {
+				return new ResourceNotFoundException("Task with ID " + id + " doesn't exist");
+			}
+			return new ConflictException("Task with ID " + id + " is no longer at version " + patch.getVersion());
+		});
+		eventPublisher.publishEvent(TaskChangedEvent.updated(result.getBefore(), result.getAfter()));
+		return result.getTask();
 	}
 
+	@Transactional
 	public void delete(Long id) throws ResourceNotFoundException {
-		if (!taskRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Task with ID " + id + " doesn't exist");
+		Task existing = taskRepository.findActiveById(id).orElseThrow(() -> {
+			return new ResourceNotFoundException("Task with ID " + id + " doesn't exist");
+		});
+		taskRepository.delete(existing);
+		eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(existing)));
+	}
+
+	/**
+	 * Applies all creates, updates and deletes in one transaction, in chunks of the
+	 * JDBC batch size. The persistence context is flushed and cleared after every
+	 * chunk so each chunk goes out as batched statements and memory stays bounded.
+	 */
+	@Transactional
+	public TaskBulkResponse bulk(TaskBulkRequest request, String name) throws ResourceNotFoundException {
+		List<Task> creates = request.getCreate() != null ? request.getCreate() : List.of();
+		List<Task> updates = request.getUpdate() != null ? request.getUpdate() : List.of();
+		List<Long> deletes = request.getDelete() != null ? request.getDelete() : List.of();
+		if (creates.size() + updates.size() + deletes.size() > bulkMaxItems) {
+			throw new BadRequestException("A bulk request accepts at most " + bulkMaxItems + " items");
 		}
-		taskRepository.deleteById(id);
+
+		requireActiveProjects(creates);
+		UserIdentity user = userIdentityService.resolve(name);
+		List<TaskResponse> created = new ArrayList<>(creates.size());
+		for (List<Task> chunk : chunks(creates)) {
+			for (Task task : chunk) {
+				task.setId(null);
+				task.setVersion(null);
+				task.setAssignedTo(userRepository.getReferenceById(user.getId()));
+			}
+			for (Task saved : taskRepository.saveAll(chunk)) {
+				eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(saved)));
+				created.add(TaskMapper.toResponse(saved, user.getUsername()));
+			}
+			flushAndClear();
+		}
+
+		List<TaskResponse> updated = new ArrayList<>(updates.size());
+		for (List<Task> chunk : chunks(updates)) {
+			Map<Long, Task> existing = loadAll(chunk.stream().map(Task::getId).toList());
+			for (Task task : chunk) {
+				Task current = existing.get(task.getId());
+				TaskSnapshot before = TaskSnapshot.of(current);
+				current.setTitle(task.getTitle());
+				current.setDescription(task.getDescription());
+				current.setStatus(task.getStatus());
+				current.setDueDate(task.getDueDate());
+				eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(current)));
+			}
+			flushAndClear();
+			// versions are incremented on flush
+			for (Task task : chunk) {
+				updated.add(TaskMapper.toResponse(existing.get(task.getId())));
+			}
+		}
+
+		List<Long> deleted = new ArrayList<>(deletes.size());
+		for (List<Long> chunk : chunks(deletes)) {
+			Map<Long, Task> existing = loadAll(chunk);
+			taskRepository.deleteAllByIdInBatch(existing.keySet());
+			for (Task task : existing.values()) {
+				eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(task)));
+			}
+			deleted.addAll(existing.keySet());
+			flushAndClear();
+		}
+
+		return new TaskBulkResponse(created, updated, deleted);
+	}
+
+	/**
+	 * Tasks can only be added to projects that exist and are not deleted; a
+	 * project deleted meanwhile is purged with the tasks added to it.
+	 */
+	private void requireActiveProjects(List<Task> tasks) {
+		Set<Long> projectIds = tasks.stream().map(Task::getProject).filter(Objects::nonNull).map(Project::getId)
+				.collect(Collectors.toCollection(HashSet::new));
+		if (projectIds.isEmpty()) {
+			return;
+		}
+		if (projectIds.contains(null)) {
+			throw new BadRequestException("project.id is required when a project is given");
+		}
+		projectIds.removeAll(projectRepository.findActiveIds(projectIds));
+		if (!projectIds.isEmpty()) {
+			throw new ResourceNotFoundException("Project with ID " + projectIds.iterator().next() + " not found");
+		}
+	}
+
+	private Map<Long, Task> loadAll(List<Long> ids) {
+		Map<Long, Task> found = taskRepository.findAllActiveById(ids).stream()
+				.collect(Collectors.toMap(Task::getId, Function.identity()));
+		for (Long id : ids) {
+			if (id == null || !found.containsKey(id)) {
+				throw new ResourceNotFoundException("Task with ID " + id + " doesn't exist");
+			}
+		}
+		return found;
+	}
+
+	private <T> List<List<T>> chunks(List<T> items) {
+		List<List<T>> chunks = new ArrayList<>();
+		for (int from = 0; from < items.size(); from += batchSize) {
+			chunks.add(items.subList(from, Math.min(from + batchSize, items.size())));
+		}
+		return chunks;
+	}
+
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
 	}
 
 }
@@ -0,0 +1,217 @@
+package com.kruger.backend.service.impl;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kruger.backend.dto.StatusCount;
+import com.kruger.backend.dto.response.TaskStatsResponse;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.service.TaskStatsService;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.datasource.ReadWriteRoutingDataSource;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+/**
+ * Per-user and per-project task counts by status, kept in memory. The counters
+ * are loaded with a GROUP BY at startup and then adjusted by every committed
+ * task write, so reading them never touches the database.
+ * <p>
+ * Writes keep arriving while the GROUP BY runs, and a count cannot tell
+ * whether it already includes one. The rebuild therefore reads in a single
+ * repeatable-read snapshot, remembers the tasks and projects written
+ * meanwhile, and before swapping in the new counters swaps those tasks' rows
+ * in the snapshot for their latest state.
+ */
+@Service
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+	private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+	private TaskRepository taskRepository;
+
+	private UserIdentityService userIdentityService;
+
+	private TransactionTemplate snapshotTransaction;
+
+	private final Object monitor = new Object();
+
+	private volatile Map<Long, LongAdder[]> byUser = new ConcurrentHashMap<>();
+
+	private volatile Map<Long, LongAdder[]> byProject = new ConcurrentHashMap<>();
+
+	// latest state of the tasks written while a rebuild runs, null once deleted
+	private Map<Long, TaskSnapshot> writtenDuringBuild;
+
+	private Set<Long> deletedDuringBuild;
+
+	public TaskStatsServiceImpl(TaskRepository taskRepository, UserIdentityService userIdentityService,
+			PlatformTransactionManager transactionManager) {
+		this.taskRepository = taskRepository;
+		this.userIdentityService = userIdentityService;
+		this.snapshotTransaction = new TransactionTemplate(transactionManager);
+		this.snapshotTransaction.setReadOnly(true);
+		this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+	}
+
+	@Override
+	public TaskStatsResponse countsForUser(String email) {
+		return toResponse(byUser.get(userIdentityService.resolve(email).getId()));
+	}
+
+	@Override
+	public TaskStatsResponse countsForProject(Long projectId) {
+		return toResponse(byProject.get(projectId));
+	}
+
+	@Override
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		synchronized (monitor) {
+			writtenDuringBuild = new HashMap<>();
+			deletedDuringBuild = new HashSet<>();
+		}
+		try {
+			// events applied before the build started must already be visible to it, so no replica lag
+			ReadWriteRoutingDataSource.onPrimary(() -> snapshotTransaction.executeWithoutResult(status -> {
+				Map<Long, LongAdder[]> users = load(taskRepository.countByAssigneeAndStatus());
+				Map<Long, LongAdder[]> projects = load(taskRepository.countByProjectAndStatus());
+				synchronized (monitor) {
+					replayWritesDuringBuild(users, projects);
+					byUser = users;
+					byProject = projects;
+				}
+			}));
+		} finally {
+			synchronized (monitor) {
+				writtenDuringBuild = null;
+				deletedDuringBuild = null;
+			}
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTaskChanged(TaskChangedEvent event) {
+		synchronized (monitor) {
+			if (writtenDuringBuild != null) {
+				TaskSnapshot task = event.getAfter() != null ? event.getAfter() : event.getBefore();
+				writtenDuringBuild.put(task.getId(), event.getAfter());
+			}
+			apply(byUser, byProject, event.getBefore(), -1);
+			apply(byUser, byProject, event.getAfter(), 1);
+		}
+	}
+
+	/**
+	 * A deleted project's tasks are purged without per-task events, so their
+	 * counts are taken off the assignees as soon as the project is marked.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProjectChanged(ProjectChangedEvent event) {
+		if (event.getType() != ChangeType.DELETED) {
+			return;
+		}
+		List<StatusCount> rows = taskRepository.countByAssigneeAndStatusForProject(event.getProjectId());
+		synchronized (monitor) {
+			if (deletedDuringBuild != null) {
+				deletedDuringBuild.add(event.getProjectId());
+			}
+			subtract(byUser, rows);
+			byProject.remove(event.getProjectId());
+		}
+	}
+
+	/**
+	 * Runs in the rebuild's snapshot, so the rows read here are the ones the
+	 * new counters were loaded from, whether or not they include each write.
+	 */
+	private void replayWritesDuringBuild(Map<Long, LongAdder[]> users, Map<Long, LongAdder[]> projects) {
+		for (Long projectId : deletedDuringBuild) {
+			subtract(users, taskRepository.countByAssigneeAndStatusForActiveProject(projectId));
+			projects.remove(projectId);
+		}
+		if (writtenDuringBuild.isEmpty()) {
+			return;
+		}
+		for (TaskSnapshot row : taskRepository.findSnapshotsByIds(writtenDuringBuild.keySet())) {
+			if (!deletedDuringBuild.contains(row.getProjectId())) {
+				apply(users, projects, row, -1);
+			}
+		}
+		for (TaskSnapshot task : writtenDuringBuild.values()) {
+			if (task != null && !deletedDuringBuild.contains(task.getProjectId())) {
+				apply(users, projects, task, 1);
+			}
+		}
+	}
+
+	private static void apply(Map<Long, LongAdder[]> users, Map<Long, LongAdder[]> projects, TaskSnapshot task,
+			int delta) {
+		if (task == null || task.getStatus() == null) {
+			return;
+		}
+		if (task.getAssignedToId() != null) {
+			counters(users, task.getAssignedToId())[task.getStatus().ordinal()].add(delta);
+		}
+		if (task.getProjectId() != null) {
+			counters(projects, task.getProjectId())[task.getStatus().ordinal()].add(delta);
+		}
+	}
+
+	private static void subtract(Map<Long, LongAdder[]> users, List<StatusCount> rows) {
+		for (StatusCount row : rows) {
+			if (row.getScopeId() != null && row.getStatus() != null) {
+				counters(users, row.getScopeId())[row.getStatus().ordinal()].add(-row.getCount());
+			}
+		}
+	}
+
+	private static Map<Long, LongAdder[]> load(List<StatusCount> rows) {
+		Map<Long, LongAdder[]> counts = new ConcurrentHashMap<>();
+		for (StatusCount row : rows) {
+			if (row.getScopeId() != null && row.getStatus() != null) {
+				counters(counts, row.getScopeId())[row.getStatus().ordinal()].add(row.getCount());
+			}
+		}
+		return counts;
+	}
+
+	private static LongAdder[] counters(Map<Long, LongAdder[]> counts, Long scopeId) {
+		return counts.computeIfAbsent(scopeId, id -> {
+			LongAdder[] adders = new LongAdder[STATUSES.length];
+			for (int i = 0; i < adders.length; i++) {
+				adders[i] = new LongAdder();
+			}
+			return adders;
+		});
+	}
+
+	private static TaskStatsResponse toResponse(LongAdder[] adders) {
+		Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+		long total = 0;
+		for (TaskStatus status : STATUSES) {
+			long count = adders != null ? Math.max(0, adders[status.ordinal()].sum()) : 0;
+			counts.put(status, count);
+			total += count;
+		}
+		return new TaskStatsResponse(counts, total);
+	}
+
+}
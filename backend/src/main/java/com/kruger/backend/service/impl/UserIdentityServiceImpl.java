@@ -0,0 +1,52 @@
+package com.kruger.backend.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.repository.UserRepository;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.admission.Traffic;
+import com.kruger.backend.utils.cache.ExpiringCache;
+import com.kruger.backend.utils.enums.TrafficClass;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+@Service
+public class UserIdentityServiceImpl implements UserIdentityService {
+
+	private UserRepository userRepository;
+
+	private ExpiringCache<String, UserIdentity> identities;
+
+	private long ttlMs;
+
+	public UserIdentityServiceImpl(UserRepository userRepository,
+			@Value("${app.identity-cache.max-size:10000}") int maxSize,
+			@Value("${app.identity-cache.ttl-ms:600000}") long ttlMs) {
+		this.userRepository = userRepository;
+		this.identities = new ExpiringCache<>(maxSize);
+		this.ttlMs = ttlMs;
+	}
+
+	// also called by JwtFilter for every authenticated request, whatever its method
+	@Override
+	@Traffic(TrafficClass.READ)
+	public UserIdentity resolve(String email) throws ResourceNotFoundException {
+		UserIdentity identity = identities.get(email);
+		if (identity != null) {
+			return identity;
+		}
+
+		identity = userRepository.findIdentityByEmail(email).orElseThrow(() -> {
+			return new ResourceNotFoundException("User with email " + email + " not found");
+		});
+		identities.put(email, identity, System.currentTimeMillis() + ttlMs);
+		return identity;
+	}
+
+	@Override
+	public void evict(String email) {
+		identities.remove(email);
+	}
+
+}
@@ -0,0 +1,266 @@
+package com.kruger.backend.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kruger.backend.dto.request.UserRequest;
+import com.kruger.backend.dto.response.UserImportFailure;
+import com.kruger.backend.dto.response.UserImportResponse;
+import com.kruger.backend.entity.User;
+import com.kruger.backend.mapper.UserMapper;
+import com.kruger.backend.repository.UserRepository;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.service.UserImportService;
+import com.kruger.backend.utils.exception.BadRequestException;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports users from a JSON array read as a stream, a chunk at a time.
+ * Passwords of one chunk are hashed on a pool sized to the cores while the
+ * next chunk is read and checked, then the chunk is inserted in JDBC batches
+ * in its own transaction. Invalid rows and taken emails are reported per row
+ * and do not stop the import.
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+	private static final String EMAIL_TAKEN = "A user with this email already exists";
+
+	private UserRepository userRepository;
+
+	private PasswordEncoder passwordEncoder;
+
+	private Validator validator;
+
+	private ObjectMapper objectMapper;
+
+	private UserIdentityService userIdentityService;
+
+	private EntityManagerFactory entityManagerFactory;
+
+	private TransactionTemplate transaction;
+
+	private ExecutorService hashExecutor;
+
+	@Value("${app.users.import.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${app.users.import.max-rows:100000}")
+	private int maxRows;
+
+	public UserImportServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, Validator validator,
+			ObjectMapper objectMapper, UserIdentityService userIdentityService,
+			EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+			@Value("${app.users.import.hash-threads:0}") int hashThreads,
+			@Value("${app.users.import.hash-queue:2000}") int hashQueue) {
+		this.userRepository = userRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.userIdentityService = userIdentityService;
+		this.entityManagerFactory = entityManagerFactory;
+		this.transaction = new TransactionTemplate(transactionManager);
+		int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+		// when several imports fill the queue, the importing thread hashes too instead of queueing more
+		this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(hashQueue), new CustomizableThreadFactory("user-import-hash-"),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	@Override
+	public UserImportResponse importUsers(InputStream body) {
+		Import state = new Import();
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new BadRequestException("Expected a JSON array of users");
+			}
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (token == null) {
+					state.error = "Unexpected end of input after row " + state.received;
+					break;
+				}
+				if (state.received >= maxRows) {
+					state.error = "Only the first " + maxRows + " users of an import are read";
+					break;
+				}
+				Row row = read(parser, token, state);
+				if (row != null) {
+					state.chunk.add(row);
+				}
+				if (state.chunk.size() >= chunkSize) {
+					advance(state);
+				}
+			}
+		} catch (JsonProcessingException e) {
+			state.error = "Malformed JSON after row " + state.received + ": " + e.getOriginalMessage();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		advance(state);
+		advance(state);
+
+		state.failures.sort(Comparator.comparingInt(UserImportFailure::getIndex));
+		return UserImportResponse.builder()
+				.received(state.received)
+				.created(state.created)
+				.failed(state.failures.size())
+				.failures(state.failures)
+				.error(state.error)
+				.build();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		hashExecutor.shutdownNow();
+	}
+
+	private Row read(JsonParser parser, JsonToken token, Import state) throws IOException {
+		int index = state.received++;
+		if (token != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			state.fail(index, null, "Expected a user object");
+			return null;
+		}
+		JsonNode node = objectMapper.readTree(parser);
+		UserRequest request;
+		try {
+			request = objectMapper.treeToValue(node, UserRequest.class);
+		} catch (JsonProcessingException | IllegalArgumentException e) {
+			String email = node.path("email").asText();
+			state.fail(index, email.isEmpty() ? null : email, "Invalid user: " + e.getMessage());
+			return null;
+		}
+		Set<ConstraintViolation<UserRequest>> violations = validator.validate(request);
+		if (!violations.isEmpty()) {
+			state.fail(index, request.getEmail(), violations.stream().map(ConstraintViolation::getMessage).sorted()
+					.collect(Collectors.joining("; ")));
+			return null;
+		}
+		if (!state.emails.add(request.getEmail())) {
+			state.fail(index, request.getEmail(), "The email appears earlier in the import");
+			return null;
+		}
+		return new Row(index, request);
+	}
+
+	/**
+	 * Inserts the chunk whose passwords are being hashed, if any, and starts
+	 * hashing the chunk read since.
+	 */
+	private void advance(Import state) {
+		List<Row> next = state.chunk.isEmpty() ? null : startHashing(state.chunk, state);
+		state.chunk = new ArrayList<>(chunkSize);
+		if (state.hashing != null) {
+			insert(state.hashing, state);
+		}
+		state.hashing = next;
+	}
+
+	private List<Row> startHashing(List<Row> chunk, Import state) {
+		Set<String> existing = userRepository
+				.findExistingEmails(chunk.stream().map(row -> row.request.getEmail()).toList());
+		List<Row> accepted = new ArrayList<>(chunk.size());
+		for (Row row : chunk) {
+			if (existing.contains(row.request.getEmail())) {
+				state.fail(row.index, row.request.getEmail(), EMAIL_TAKEN);
+				continue;
+			}
+			String password = row.request.getPassword();
+			row.hash = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password), hashExecutor);
+			accepted.add(row);
+		}
+		return accepted;
+	}
+
+	private void insert(List<Row> rows, Import state) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		List<User> users = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			User user = UserMapper.toEntity(row.request);
+			user.setPassword(row.hash.join());
+			users.add(user);
+		}
+		List<User> inserted = transaction.execute(status -> userRepository.insertAll(users));
+
+		Set<String> insertedEmails = new HashSet<>();
+		for (User user : inserted) {
+			insertedEmails.add(user.getEmail());
+			userIdentityService.evict(user.getEmail());
+		}
+		for (Row row : rows) {
+			if (!insertedEmails.contains(row.request.getEmail())) {
+				state.fail(row.index, row.request.getEmail(), EMAIL_TAKEN);
+			}
+		}
+		state.created += inserted.size();
+		// the rows bypassed Hibernate, so cached "no such email" lookups would survive
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+	}
+
+	private static final class Import {
+
+		private int received;
+
+		private int created;
+
+		private String error;
+
+		private final List<UserImportFailure> failures = new ArrayList<>();
+
+		private final Set<String> emails = new HashSet<>();
+
+		private List<Row> chunk = new ArrayList<>();
+
+		private List<Row> hashing;
+
+		private void fail(int index, String email, String reason) {
+			failures.add(new UserImportFailure(index, email, reason));
+		}
+	}
+
+	private static final class Row {
+
+		private final int index;
+
+		private final UserRequest request;
+
+		private CompletableFuture<String> hash;
+
+		private Row(int index, UserRequest request) {
+			this.index = index;
+			this.request = request;
+		}
+	}
+}
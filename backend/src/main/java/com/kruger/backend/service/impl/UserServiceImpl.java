@@ -6,12 +6,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.kruger.backend.dto.request.UserRequest;
+import com.kruger.backend.dto.response.PageResponse;
 import com.kruger.backend.dto.response.UserResponse;
 import com.kruger.backend.entity.User;
 import com.kruger.backend.mapper.UserMapper;
 import com.kruger.backend.repository.UserRepository;
+import com.kruger.backend.service.UserIdentityService;
 import com.kruger.backend.service.UserService;
 import com.kruger.backend.utils.exception.ResourceNotFoundException;
+import com.kruger.backend.utils.pagination.CursorPagination;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -20,22 +23,33 @@ public class UserServiceImpl implements UserService {
 
 	private PasswordEncoder passwordEncoder;
 
-	public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+	private UserIdentityService userIdentityService;
+
+	private CursorPagination pagination;
+
+	public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+			UserIdentityService userIdentityService, CursorPagination pagination) {
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.userIdentityService = userIdentityService;
+		this.pagination = pagination;
 	}
 
 	public User createUser(UserRequest user) {
 
 		User req = UserMapper.toEntity(user);
 		req.setPassword(passwordEncoder.encode(user.getPassword()));
-		return userRepository.save(req);
+		User saved = userRepository.save(req);
+		userIdentityService.evict(saved.getEmail());
+		return saved;
 	}
 
-	public List<UserResponse> getAllUsers() {
-		return userRepository.findAll().stream()
-		        .map(UserMapper::toResponse)
-		        .toList();
+	public PageResponse<UserResponse> getAllUsers(String cursor, Integer size) {
+		int pageSize = pagination.resolveSize(size);
+		List<UserResponse> rows = userRepository.findResponsesAfter(pagination.afterId(cursor),
+				pagination.probe(pageSize));
+
+		return pagination.page(rows, pageSize, UserResponse::getId);
 	}
 
 	public User getById(Long id) throws ResourceNotFoundException {
@@ -0,0 +1,206 @@
+package com.kruger.backend.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kruger.backend.dto.WebhookMessage;
+import com.kruger.backend.entity.WebhookEndpoint;
+import com.kruger.backend.repository.WebhookDeliveryRepository;
+import com.kruger.backend.repository.WebhookEndpointRepository;
+import com.kruger.backend.service.WebhookDispatchService;
+import com.kruger.backend.utils.webhook.WebhookClient;
+import com.kruger.backend.utils.webhook.WebhookResult;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drains the outbox into webhook endpoints. Each poll fans new outbox events
+ * out into per-endpoint deliveries, then claims batches of due deliveries for
+ * every active endpoint while it has free in-flight slots. A claim leases its
+ * rows, so a crashed or slow request is retried once the lease runs out.
+ * Delivered rows are deleted; failed ones are retried with exponential
+ * backoff and jitter and end up DEAD after the last attempt. Because only the
+ * oldest pending delivery of an aggregate can be claimed, a failing event
+ * holds back the later events of the same task or project.
+ */
+@Service
+public class WebhookDispatchServiceImpl implements WebhookDispatchService {
+
+	private static final Logger log = LoggerFactory.getLogger(WebhookDispatchServiceImpl.class);
+
+	private WebhookEndpointRepository endpointRepository;
+
+	private WebhookDeliveryRepository deliveryRepository;
+
+	private TransactionTemplate transaction;
+
+	private int fanOutBatch;
+
+	private int batchSize;
+
+	private int maxAttempts;
+
+	private long leaseMs;
+
+	private long backoffBaseMs;
+
+	private long backoffMaxMs;
+
+	private long retentionMs;
+
+	private ExecutorService executor;
+
+	private WebhookClient client;
+
+	private final Map<Long, Semaphore> inFlight = new ConcurrentHashMap<>();
+
+	public WebhookDispatchServiceImpl(WebhookEndpointRepository endpointRepository,
+			WebhookDeliveryRepository deliveryRepository, PlatformTransactionManager transactionManager,
+			@Value("${app.webhooks.fan-out-batch:500}") int fanOutBatch,
+			@Value("${app.webhooks.batch-size:50}") int batchSize,
+			@Value("${app.webhooks.max-attempts:10}") int maxAttempts,
+			@Value("${app.webhooks.lease-ms:60000}") long leaseMs,
+			@Value("${app.webhooks.backoff-base-ms:1000}") long backoffBaseMs,
+			@Value("${app.webhooks.backoff-max-ms:600000}") long backoffMaxMs,
+			@Value("${app.webhooks.retention-ms:86400000}") long retentionMs,
+			@Value("${app.webhooks.threads:4}") int threads,
+			@Value("${app.webhooks.connect-timeout-ms:5000}") long connectTimeoutMs,
+			@Value("${app.webhooks.request-timeout-ms:10000}") long requestTimeoutMs) {
+		this.endpointRepository = endpointRepository;
+		this.deliveryRepository = deliveryRepository;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.fanOutBatch = fanOutBatch;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.leaseMs = leaseMs;
+		this.backoffBaseMs = backoffBaseMs;
+		this.backoffMaxMs = backoffMaxMs;
+		this.retentionMs = retentionMs;
+		this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("webhook-"));
+		this.client = new WebhookClient(executor, Duration.ofMillis(connectTimeoutMs),
+				Duration.ofMillis(requestTimeoutMs));
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${app.webhooks.poll-ms:1000}")
+	public void dispatch() {
+		int taken;
+		do {
+			taken = transaction.execute(status -> deliveryRepository.fanOut(fanOutBatch, LocalDateTime.now()));
+		} while (taken == fanOutBatch);
+
+		List<WebhookEndpoint> endpoints = endpointRepository.findByActiveTrueOrderByIdAsc();
+		Set<Long> active = endpoints.stream().map(WebhookEndpoint::getId).collect(Collectors.toSet());
+		inFlight.keySet().retainAll(active);
+		for (WebhookEndpoint endpoint : endpoints) {
+			deliver(endpoint);
+		}
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${app.webhooks.prune-interval-ms:3600000}")
+	public void prune() {
+		LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(retentionMs));
+		Integer pruned = transaction.execute(status -> deliveryRepository.pruneOutbox(before));
+		if (pruned != null && pruned > 0) {
+			log.info("Pruned {} delivered outbox events", pruned);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void deliver(WebhookEndpoint endpoint) {
+		Semaphore permits = inFlight.computeIfAbsent(endpoint.getId(), id -> new Semaphore(endpoint.getMaxInFlight()));
+		while (permits.tryAcquire()) {
+			List<WebhookMessage> batch;
+			try {
+				LocalDateTime now = LocalDateTime.now();
+				batch = transaction.execute(status -> deliveryRepository.claim(endpoint.getId(), batchSize, now,
+						now.plus(Duration.ofMillis(leaseMs))));
+			} catch (RuntimeException e) {
+				permits.release();
+				log.error("Could not claim deliveries for webhook endpoint {}", endpoint.getId(), e);
+				return;
+			}
+			if (batch.isEmpty()) {
+				permits.release();
+				return;
+			}
+			client.send(endpoint.getUrl(), endpoint.getSecret(), batch).thenAccept(result -> {
+				try {
+					record(batch, result);
+				} catch (RuntimeException e) {
+					// the lease expires and the batch is claimed again
+					log.error("Could not record webhook result for endpoint {}", endpoint.getId(), e);
+				} finally {
+					permits.release();
+				}
+				if (result.isSuccess()) {
+					// keep draining without waiting for the next poll
+					submit(endpoint);
+				}
+			});
+		}
+	}
+
+	private void submit(WebhookEndpoint endpoint) {
+		try {
+			executor.execute(() -> deliver(endpoint));
+		} catch (RejectedExecutionException e) {
+			// shutting down
+		}
+	}
+
+	private void record(List<WebhookMessage> batch, WebhookResult result) {
+		List<Long> ids = batch.stream().map(WebhookMessage::getDeliveryId).toList();
+		if (result.isSuccess()) {
+			transaction.executeWithoutResult(status -> deliveryRepository.deleteAllByIdInBatch(ids));
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		transaction.executeWithoutResult(status -> {
+			for (WebhookMessage message : batch) {
+				if (message.getAttempts() >= maxAttempts) {
+					deliveryRepository.markDead(message.getDeliveryId(), result.getError());
+				} else {
+					deliveryRepository.reschedule(message.getDeliveryId(),
+							now.plus(backoff(message.getAttempts(), result.getRetryAfter())), result.getError());
+				}
+			}
+		});
+	}
+
+	private Duration backoff(int attempts, Duration retryAfter) {
+		long delay = backoffMaxMs;
+		if (attempts - 1 < Long.numberOfLeadingZeros(backoffBaseMs) - 1) {
+			delay = Math.min(backoffMaxMs, backoffBaseMs << (attempts - 1));
+		}
+		// half fixed, half random so endpoints recovering together are not hit in lockstep
+		long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+		Duration backoff = Duration.ofMillis(jittered);
+		return retryAfter != null && retryAfter.compareTo(backoff) > 0 ? retryAfter : backoff;
+	}
+
+}
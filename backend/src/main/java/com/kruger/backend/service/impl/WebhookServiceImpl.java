@@ -0,0 +1,95 @@
+package com.kruger.backend.service.impl;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.kruger.backend.dto.request.WebhookEndpointRequest;
+import com.kruger.backend.dto.response.WebhookEndpointResponse;
+import com.kruger.backend.entity.WebhookEndpoint;
+import com.kruger.backend.repository.WebhookDeliveryRepository;
+import com.kruger.backend.repository.WebhookEndpointRepository;
+import com.kruger.backend.service.WebhookService;
+import com.kruger.backend.utils.enums.DeliveryStatus;
+import com.kruger.backend.utils.exception.BadRequestException;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+/**
+ * Registration of webhook endpoints. An endpoint receives the events recorded
+ * after it was registered; deleting it drops its pending deliveries.
+ */
+@Service
+public class WebhookServiceImpl implements WebhookService {
+
+	private WebhookEndpointRepository endpointRepository;
+
+	private WebhookDeliveryRepository deliveryRepository;
+
+	private int defaultMaxInFlight;
+
+	private int maxInFlightLimit;
+
+	public WebhookServiceImpl(WebhookEndpointRepository endpointRepository,
+			WebhookDeliveryRepository deliveryRepository,
+			@Value("${app.webhooks.default-max-in-flight:4}") int defaultMaxInFlight,
+			@Value("${app.webhooks.max-in-flight-limit:32}") int maxInFlightLimit) {
+		this.endpointRepository = endpointRepository;
+		this.deliveryRepository = deliveryRepository;
+		this.defaultMaxInFlight = defaultMaxInFlight;
+		this.maxInFlightLimit = maxInFlightLimit;
+	}
+
+	@Override
+	public WebhookEndpointResponse register(WebhookEndpointRequest request) throws BadRequestException {
+		validateUrl(request.getUrl());
+		int maxInFlight = request.getMaxInFlight() != null ? request.getMaxInFlight() : defaultMaxInFlight;
+		if (maxInFlight < 1 || maxInFlight > maxInFlightLimit) {
+			throw new BadRequestException("maxInFlight must be between 1 and " + maxInFlightLimit);
+		}
+
+		WebhookEndpoint endpoint = new WebhookEndpoint();
+		endpoint.setUrl(request.getUrl());
+		endpoint.setSecret(request.getSecret());
+		endpoint.setMaxInFlight(maxInFlight);
+		return toResponse(endpointRepository.save(endpoint));
+	}
+
+	@Override
+	public List<WebhookEndpointResponse> findAll() {
+		return endpointRepository.findAll().stream().map(this::toResponse).toList();
+	}
+
+	@Override
+	public void delete(Long id) throws ResourceNotFoundException {
+		if (!endpointRepository.existsById(id)) {
+			throw new ResourceNotFoundException("Webhook endpoint with ID " + id + " not found");
+		}
+		endpointRepository.deleteById(id);
+	}
+
+	private void validateUrl(String url) throws BadRequestException {
+		if (url == null || url.isBlank()) {
+			throw new BadRequestException("url is required");
+		}
+		try {
+			URI uri = new URI(url);
+			String scheme = uri.getScheme();
+			if (uri.getHost() == null || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+				throw new BadRequestException("url must be an absolute http or https URL");
+			}
+		} catch (URISyntaxException e) {
+			throw new BadRequestException("url is not a valid URL: " + e.getMessage());
+		}
+	}
+
+	private WebhookEndpointResponse toResponse(WebhookEndpoint endpoint) {
+		return new WebhookEndpointResponse(endpoint.getId(), endpoint.getUrl(), endpoint.getMaxInFlight(),
+				endpoint.isActive(), endpoint.getCreatedAt(),
+				deliveryRepository.countByEndpointIdAndStatus(endpoint.getId(), DeliveryStatus.PENDING),
+				deliveryRepository.countByEndpointIdAndStatus(endpoint.getId(), DeliveryStatus.DEAD));
+	}
+
+}
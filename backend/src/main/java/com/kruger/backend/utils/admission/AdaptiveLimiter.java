@@ -0,0 +1,177 @@
+package com.kruger.backend.utils.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that follows the observed latency. A short and a long
+ * moving average of the call latency are kept; while the short one stays
+ * close to the long one the limit grows by about sqrt(limit), and when calls
+ * get slower the limit shrinks by the ratio between them (down to half per
+ * adjustment). Calls over the limit wait in FIFO order until their deadline,
+ * and are refused straight away when the queue is full or the expected wait
+ * already exceeds the deadline.
+ */
+public class AdaptiveLimiter {
+
+	public enum Outcome {
+		ADMITTED, QUEUE_FULL, DEADLINE
+	}
+
+	private static final double SHORT_WEIGHT = 0.1;
+
+	private static final double LONG_WEIGHT = 0.01;
+
+	private static final double SMOOTHING = 0.2;
+
+	private static final double BACKOFF = 0.9;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition slotFreed = lock.newCondition();
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final int maxQueue;
+
+	private double limit;
+
+	private int inFlight;
+
+	private int queued;
+
+	private double shortRtt;
+
+	private double longRtt;
+
+	public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue) {
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.maxQueue = maxQueue;
+		this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+	}
+
+	public Outcome acquire(long maxWait, TimeUnit unit) throws InterruptedException {
+		long remaining = unit.toNanos(maxWait);
+		lock.lock();
+		try {
+			if (queued == 0 && inFlight < currentLimit()) {
+				inFlight++;
+				return Outcome.ADMITTED;
+			}
+			if (queued >= maxQueue) {
+				return Outcome.QUEUE_FULL;
+			}
+			if (estimatedWaitNanos(queued + 1) > remaining) {
+				return Outcome.DEADLINE;
+			}
+			queued++;
+			try {
+				while (inFlight >= currentLimit()) {
+					if (remaining <= 0) {
+						return Outcome.DEADLINE;
+					}
+					remaining = slotFreed.awaitNanos(remaining);
+				}
+				inFlight++;
+				return Outcome.ADMITTED;
+			} finally {
+				queued--;
+				if (inFlight < currentLimit() && queued > 0) {
+					slotFreed.signal();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the slot taken by {@link #acquire}. {@code dropped} marks a call
+	 * that failed because the database was overloaded (timeouts, no free
+	 * connection); those back the limit off without waiting for the averages.
+	 */
+	public void release(long latencyNanos, boolean dropped) {
+		lock.lock();
+		try {
+			int active = inFlight;
+			inFlight--;
+			int before = currentLimit();
+			if (dropped) {
+				limit = Math.max(minLimit, limit * BACKOFF);
+			} else {
+				adjust(latencyNanos, active);
+			}
+			if (currentLimit() > before) {
+				slotFreed.signalAll();
+			} else {
+				slotFreed.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long retryAfterSeconds() {
+		lock.lock();
+		try {
+			return Math.max(1, (long) Math.ceil(estimatedWaitNanos(queued + 1) / 1_000_000_000.0));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int limit() {
+		lock.lock();
+		try {
+			return currentLimit();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int inFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int queued() {
+		lock.lock();
+		try {
+			return queued;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void adjust(long latencyNanos, int active) {
+		shortRtt = shortRtt == 0 ? latencyNanos : shortRtt + (latencyNanos - shortRtt) * SHORT_WEIGHT;
+		longRtt = longRtt == 0 ? latencyNanos : longRtt + (latencyNanos - longRtt) * LONG_WEIGHT;
+		if (longRtt > shortRtt * 2) {
+			// Latency dropped well below the baseline, e.g. after an incident: let the baseline catch up
+			longRtt *= 0.95;
+		}
+		if (active < limit / 2) {
+			// Mostly idle, the latency says nothing about the limit
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+		double target = limit * gradient + Math.sqrt(limit);
+		limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+	}
+
+	private double estimatedWaitNanos(int position) {
+		return shortRtt * position / currentLimit();
+	}
+
+	private int currentLimit() {
+		return (int) limit;
+	}
+}
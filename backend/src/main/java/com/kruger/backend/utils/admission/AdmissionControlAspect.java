@@ -0,0 +1,163 @@
+package com.kruger.backend.utils.admission;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.kruger.backend.utils.enums.TrafficClass;
+import com.kruger.backend.utils.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bulkhead in front of the service interfaces. The first service call made
+ * by a request takes a slot from the read or write limiter and holds it until
+ * the call returns; nested service calls run under that slot. Calls outside
+ * a request (schedulers, dispatchers, async exports) are not limited. Ordered
+ * before the transaction advice, so a queued or refused call holds no
+ * transaction and no connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AdmissionControlAspect {
+
+	private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<>();
+
+	@Value("${app.admission.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.admission.read.initial-limit:10}")
+	private int readInitialLimit;
+
+	@Value("${app.admission.read.min-limit:2}")
+	private int readMinLimit;
+
+	@Value("${app.admission.read.max-limit:40}")
+	private int readMaxLimit;
+
+	@Value("${app.admission.read.max-queue:200}")
+	private int readMaxQueue;
+
+	@Value("${app.admission.read.max-wait-ms:500}")
+	private long readMaxWaitMs;
+
+	@Value("${app.admission.write.initial-limit:5}")
+	private int writeInitialLimit;
+
+	@Value("${app.admission.write.min-limit:1}")
+	private int writeMinLimit;
+
+	@Value("${app.admission.write.max-limit:20}")
+	private int writeMaxLimit;
+
+	@Value("${app.admission.write.max-queue:100}")
+	private int writeMaxQueue;
+
+	@Value("${app.admission.write.max-wait-ms:1000}")
+	private long writeMaxWaitMs;
+
+	private MeterRegistry meterRegistry;
+
+	private AdaptiveLimiter readLimiter;
+
+	private AdaptiveLimiter writeLimiter;
+
+	public AdmissionControlAspect(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	void init() {
+		readLimiter = new AdaptiveLimiter(readInitialLimit, readMinLimit, readMaxLimit, readMaxQueue);
+		writeLimiter = new AdaptiveLimiter(writeInitialLimit, writeMinLimit, writeMaxLimit, writeMaxQueue);
+		gauges(TrafficClass.READ, readLimiter);
+		gauges(TrafficClass.WRITE, writeLimiter);
+	}
+
+	@Around("execution(public * com.kruger.backend.service.*.*(..))")
+	public Object admit(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (!enabled || ADMITTED.get() != null
+				|| !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+			return joinPoint.proceed();
+		}
+		TrafficClass traffic = classify(joinPoint, attributes.getRequest().getMethod());
+		AdaptiveLimiter limiter = traffic == TrafficClass.READ ? readLimiter : writeLimiter;
+		long maxWaitMs = traffic == TrafficClass.READ ? readMaxWaitMs : writeMaxWaitMs;
+
+		AdaptiveLimiter.Outcome outcome;
+		try {
+			outcome = limiter.acquire(maxWaitMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			outcome = AdaptiveLimiter.Outcome.DEADLINE;
+		}
+		if (outcome != AdaptiveLimiter.Outcome.ADMITTED) {
+			rejected(traffic, outcome);
+			throw new ServiceOverloadedException("The service is overloaded, retry later", limiter.retryAfterSeconds());
+		}
+
+		ADMITTED.set(Boolean.TRUE);
+		long start = System.nanoTime();
+		boolean dropped = false;
+		try {
+			return joinPoint.proceed();
+		} catch (QueryTimeoutException | CannotCreateTransactionException | DataAccessResourceFailureException e) {
+			dropped = true;
+			throw e;
+		} finally {
+			ADMITTED.remove();
+			limiter.release(System.nanoTime() - start, dropped);
+		}
+	}
+
+	private TrafficClass classify(ProceedingJoinPoint joinPoint, String httpMethod) {
+		Method method = AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(),
+				joinPoint.getTarget().getClass());
+		Traffic traffic = AnnotatedElementUtils.findMergedAnnotation(method, Traffic.class);
+		if (traffic == null) {
+			traffic = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Traffic.class);
+		}
+		if (traffic != null) {
+			return traffic.value();
+		}
+		return "GET".equals(httpMethod) || "HEAD".equals(httpMethod) ? TrafficClass.READ : TrafficClass.WRITE;
+	}
+
+	private void rejected(TrafficClass traffic, AdaptiveLimiter.Outcome outcome) {
+		Counter.builder("app.admission.rejected")
+				.description("Service calls refused by admission control")
+				.tag("traffic", traffic.name().toLowerCase())
+				.tag("reason", outcome.name().toLowerCase())
+				.register(meterRegistry)
+				.increment();
+	}
+
+	private void gauges(TrafficClass traffic, AdaptiveLimiter limiter) {
+		String tag = traffic.name().toLowerCase();
+		Gauge.builder("app.admission.limit", limiter, AdaptiveLimiter::limit)
+				.description("Current concurrency limit").tag("traffic", tag).register(meterRegistry);
+		Gauge.builder("app.admission.in.flight", limiter, AdaptiveLimiter::inFlight)
+				.description("Admitted calls still running").tag("traffic", tag).register(meterRegistry);
+		Gauge.builder("app.admission.queued", limiter, AdaptiveLimiter::queued)
+				.description("Calls waiting for a slot").tag("traffic", tag).register(meterRegistry);
+	}
+}
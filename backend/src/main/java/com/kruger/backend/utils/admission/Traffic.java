@@ -0,0 +1,19 @@
+package com.kruger.backend.utils.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.kruger.backend.utils.enums.TrafficClass;
+
+/**
+ * Overrides the admission class of a service method, which otherwise
+ * follows the HTTP method of the request (GET and HEAD are reads).
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Traffic {
+
+	TrafficClass value();
+}
@@ -0,0 +1,84 @@
+package com.kruger.backend.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. Lookups never lock and adds only CAS
+ * the words whose bits change, so one writer and many readers can share it.
+ * Sized for an expected number of keys and false-positive rate; beyond that
+ * it still works, with a higher false-positive rate.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray words;
+
+	private final long bits;
+
+	private final int hashes;
+
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		int expected = Math.max(1, expectedInsertions);
+		double ln2 = Math.log(2);
+		long size = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (ln2 * ln2));
+		this.words = new AtomicLongArray((int) Math.max(1, (size + 63) / 64));
+		this.bits = words.length() * 64L;
+		this.hashes = Math.max(1, (int) Math.round((double) bits / expected * ln2));
+	}
+
+	public void put(String key) {
+		long h1 = hash(key);
+		long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashes; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bits);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			do {
+				current = words.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!words.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String key) {
+		long h1 = hash(key);
+		long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashes; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bits);
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long bitSize() {
+		return bits;
+	}
+
+	public int hashCount() {
+		return hashes;
+	}
+
+	private static long hash(String key) {
+		// FNV-1a over the UTF-8 bytes, then a finalizer so neighbouring keys spread out
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb3fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
@@ -0,0 +1,82 @@
+package com.kruger.backend.utils.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded in-memory cache where every entry carries its own expiry instant.
+ * Reads are lock-free; when the cache is full, expired entries are purged first
+ * and, if still full, an arbitrary tenth of the entries is dropped.
+ */
+public class ExpiringCache<K, V> {
+
+	private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	private final int maxSize;
+
+	public ExpiringCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive");
+		}
+		this.maxSize = maxSize;
+	}
+
+	public V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt <= System.currentTimeMillis()) {
+			entries.remove(key, entry);
+			return null;
+		}
+		return entry.value;
+	}
+
+	public void put(K key, V value, long expiresAtMillis) {
+		if (expiresAtMillis <= System.currentTimeMillis()) {
+			return;
+		}
+		if (entries.size() >= maxSize && !entries.containsKey(key)) {
+			evict();
+		}
+		entries.put(key, new Entry<>(value, expiresAtMillis));
+	}
+
+	public void remove(K key) {
+		entries.remove(key);
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evict() {
+		long now = System.currentTimeMillis();
+		entries.entrySet().removeIf(e -> e.getValue().expiresAt <= now);
+
+		int excess = entries.size() - (maxSize - maxSize / 10);
+		Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+		while (excess-- > 0 && it.hasNext()) {
+			it.next();
+			it.remove();
+		}
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		private final long expiresAt;
+
+		private Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.kruger.backend.utils.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kruger.backend.utils.cache.ExpiringCache;
+
+/**
+ * Sends read-only transactions to the replicas, in turn, and everything else
+ * to the primary. A user whose write committed less than the read-your-writes
+ * window ago keeps reading from the primary, so replication lag never hides
+ * their own change from them.
+ * <p>
+ * The decision needs the transaction's read-only flag, which Spring only
+ * publishes after the connection is requested; wrap this data source in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is taken at the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+	static final String PRIMARY = "primary";
+
+	private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+	private final String[] replicas;
+
+	private final List<DataSource> replicaDataSources;
+
+	private final AtomicInteger next = new AtomicInteger();
+
+	private final long readYourWritesMs;
+
+	private final ExpiringCache<String, Boolean> recentWriters;
+
+	public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, long readYourWritesMs,
+			int maxTrackedUsers) {
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY, primary);
+		this.replicas = new String[replicas.size()];
+		for (int i = 0; i < replicas.size(); i++) {
+			this.replicas[i] = "replica-" + i;
+			targets.put(this.replicas[i], replicas.get(i));
+		}
+		this.replicaDataSources = List.copyOf(replicas);
+		this.readYourWritesMs = readYourWritesMs;
+		this.recentWriters = new ExpiringCache<>(maxTrackedUsers);
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+		afterPropertiesSet();
+	}
+
+	/**
+	 * Runs the action with its read-only transactions on the primary, for
+	 * readers that cannot tolerate replication lag.
+	 */
+	public static void onPrimary(Runnable action) {
+		onPrimary(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	public static <T> T onPrimary(Supplier<T> read) {
+		Boolean previous = PINNED.get();
+		PINNED.set(Boolean.TRUE);
+		try {
+			return read.get();
+		} finally {
+			if (previous == null) {
+				PINNED.remove();
+			}
+		}
+	}
+
+	public static boolean isPinnedToPrimary() {
+		return PINNED.get() != null;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (replicas.length == 0 || PINNED.get() != null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+			return PRIMARY;
+		}
+		String user = currentUser();
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						recentWriters.put(user, Boolean.TRUE, System.currentTimeMillis() + readYourWritesMs);
+					}
+				});
+			}
+			return PRIMARY;
+		}
+		if (user != null && recentWriters.get(user) != null) {
+			return PRIMARY;
+		}
+		return replicas[Math.floorMod(next.getAndIncrement(), replicas.length)];
+	}
+
+	@Override
+	public void close() throws Exception {
+		for (DataSource replica : replicaDataSources) {
+			if (replica instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	private static String currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+}
@@ -0,0 +1,5 @@
+package com.kruger.backend.utils.enums;
+
+public enum DeletionStatus {
+	PENDING, IN_PROGRESS, COMPLETED, FAILED
+}
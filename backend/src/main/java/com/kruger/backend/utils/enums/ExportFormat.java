@@ -0,0 +1,36 @@
+package com.kruger.backend.utils.enums;
+
+import com.kruger.backend.utils.exception.BadRequestException;
+
+public enum ExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv");
+
+	private final String contentType;
+
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public static ExportFormat from(String value) {
+		if (value == null || value.isBlank()) {
+			return NDJSON;
+		}
+		for (ExportFormat format : values()) {
+			if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+				return format;
+			}
+		}
+		throw new BadRequestException("Unsupported export format: " + value);
+	}
+}
@@ -0,0 +1,5 @@
+package com.kruger.backend.utils.enums;
+
+public enum VersionScope {
+	USER_TASKS, USER_PROJECTS, PROJECT_TASKS
+}
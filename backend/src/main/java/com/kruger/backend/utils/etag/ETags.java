@@ -0,0 +1,41 @@
+package com.kruger.backend.utils.etag;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Weak ETag helpers for list endpoints. Tags are compared with the weak
+ * comparison function, so {@code W/"a"} and {@code "a"} match.
+ */
+public final class ETags {
+
+	private ETags() {
+	}
+
+	public static String weak(String value) {
+		return "W/\"" + value + "\"";
+	}
+
+	/** True when the If-None-Match header lists {@code etag} or is {@code *}; never for a list sent without one. */
+	public static boolean matches(String ifNoneMatch, String etag) {
+		if (etag == null || ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+		String expected = opaque(etag);
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.equals("*") || opaque(tag).equals(expected)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static <T> ResponseEntity<T> notModified(String etag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+	}
+
+	private static String opaque(String tag) {
+		return tag.startsWith("W/") ? tag.substring(2) : tag;
+	}
+}
@@ -0,0 +1,27 @@
+package com.kruger.backend.utils.etag;
+
+import java.util.function.Supplier;
+
+import com.kruger.backend.utils.datasource.ReadWriteRoutingDataSource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ETag of a list scope, and whether the scope changed within the replica lag
+ * window. Such a list is read from the primary: a replica still behind the
+ * change would send the old rows under the new tag, and conditional requests
+ * would then keep them until the next change.
+ */
+@Getter
+@AllArgsConstructor
+public class ScopeTag {
+
+	private String etag;
+
+	private boolean recentlyChanged;
+
+	public <T> T read(Supplier<T> read) {
+		return recentlyChanged ? ReadWriteRoutingDataSource.onPrimary(read) : read.get();
+	}
+}
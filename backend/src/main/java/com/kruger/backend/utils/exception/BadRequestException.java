@@ -0,0 +1,8 @@
+package com.kruger.backend.utils.exception;
+
+public class BadRequestException extends RuntimeException {
+	
+	public BadRequestException(String message) {
+        super(message);
+    }
+}
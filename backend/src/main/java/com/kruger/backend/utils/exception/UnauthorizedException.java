@@ -0,0 +1,8 @@
+package com.kruger.backend.utils.exception;
+
+public class UnauthorizedException extends RuntimeException {
+
+	public UnauthorizedException(String message) {
+		super(message);
+	}
+}
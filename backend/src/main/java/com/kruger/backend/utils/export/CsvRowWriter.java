@@ -0,0 +1,65 @@
+package com.kruger.backend.utils.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+public class CsvRowWriter<T> implements RowWriter<T> {
+
+	private final Writer out;
+
+	private final List<String> header;
+
+	private final Function<T, List<Object>> values;
+
+	public CsvRowWriter(OutputStream out, List<String> header, Function<T, List<Object>> values) {
+		this.out = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		this.header = header;
+		this.values = values;
+	}
+
+	@Override
+	public void writeHeader() throws IOException {
+		writeLine(List.copyOf(header));
+	}
+
+	@Override
+	public void write(T row) throws IOException {
+		writeLine(values.apply(row));
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	private void writeLine(List<?> cells) throws IOException {
+		for (int i = 0; i < cells.size(); i++) {
+			if (i > 0) {
+				out.write(',');
+			}
+			writeCell(cells.get(i));
+		}
+		out.write("\r\n");
+	}
+
+	private void writeCell(Object cell) throws IOException {
+		if (cell == null) {
+			return;
+		}
+		String value = cell.toString();
+		boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+				|| value.indexOf('\r') >= 0;
+		if (!quote) {
+			out.write(value);
+			return;
+		}
+		out.write('"');
+		out.write(value.replace("\"", "\"\""));
+		out.write('"');
+	}
+}
@@ -0,0 +1,36 @@
+package com.kruger.backend.utils.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class NdjsonRowWriter<T> implements RowWriter<T> {
+
+	private static final int NEWLINE = '\n';
+
+	private final ObjectMapper objectMapper;
+
+	private final OutputStream out;
+
+	public NdjsonRowWriter(ObjectMapper objectMapper, OutputStream out) {
+		this.objectMapper = objectMapper;
+		this.out = out;
+	}
+
+	@Override
+	public void writeHeader() {
+		// NDJSON has no header line
+	}
+
+	@Override
+	public void write(T row) throws IOException {
+		out.write(objectMapper.writeValueAsBytes(row));
+		out.write(NEWLINE);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+}
@@ -0,0 +1,16 @@
+package com.kruger.backend.utils.export;
+
+import java.io.IOException;
+
+/**
+ * Writes exported rows one at a time so that an export never holds more than
+ * the current row in memory.
+ */
+public interface RowWriter<T> {
+
+	void writeHeader() throws IOException;
+
+	void write(T row) throws IOException;
+
+	void flush() throws IOException;
+}
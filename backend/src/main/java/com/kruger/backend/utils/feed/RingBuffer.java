@@ -0,0 +1,64 @@
+package com.kruger.backend.utils.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity FIFO that never blocks the producer: when full, the oldest
+ * element is overwritten and counted as dropped. The backing array is
+ * allocated on the first offer so idle buffers cost a few fields.
+ */
+public class RingBuffer<T> {
+
+	private final int capacity;
+
+	private Object[] slots;
+
+	private long head;
+
+	private long tail;
+
+	private long dropped;
+
+	public RingBuffer(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		this.capacity = capacity;
+	}
+
+	public synchronized void offer(T element) {
+		if (slots == null) {
+			slots = new Object[capacity];
+		}
+		if (tail - head == capacity) {
+			head++;
+			dropped++;
+		}
+		slots[(int) (tail++ % capacity)] = element;
+	}
+
+	/** Removes and returns everything buffered, oldest first. */
+	@SuppressWarnings("unchecked")
+	public synchronized List<T> drain() {
+		List<T> elements = new ArrayList<>((int) (tail - head));
+		while (head < tail) {
+			int slot = (int) (head++ % capacity);
+			elements.add((T) slots[slot]);
+			slots[slot] = null;
+		}
+		return elements;
+	}
+
+	/** Returns the number of elements overwritten since the last call and resets it. */
+	public synchronized long takeDropped() {
+		long count = dropped;
+		dropped = 0;
+		return count;
+	}
+
+	public synchronized boolean isEmpty() {
+		return head == tail && dropped == 0;
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.kruger.backend.utils.metrics;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Names the controller method that handled a request, e.g.
+ * {@code TaskController#getUserTasks}, for use as a low-cardinality metric tag.
+ */
+public final class HandlerNames {
+
+	public static final String TAG = "handler";
+
+	public static final String NONE = "none";
+
+	private HandlerNames() {
+	}
+
+	public static String of(HttpServletRequest request) {
+		if (request == null) {
+			return NONE;
+		}
+		Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		if (handler instanceof HandlerMethod method) {
+			return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+		}
+		return NONE;
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.kruger.backend.utils.metrics;
+
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Adds the controller method to {@code http.server.requests}, so latency
+ * histograms can be read per endpoint method rather than per URI template.
+ */
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+		return super.getLowCardinalityKeyValues(context)
+				.and(KeyValue.of(HandlerNames.TAG, HandlerNames.of(context.getCarrier())));
+	}
+
+}
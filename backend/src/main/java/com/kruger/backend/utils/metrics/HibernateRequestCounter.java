@@ -0,0 +1,58 @@
+package com.kruger.backend.utils.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads on
+ * the current thread between {@link #begin()} and {@link #end()}. Threads
+ * without an open count, such as schedulers and purge workers, are ignored.
+ */
+public class HibernateRequestCounter implements StatementInspector, PostLoadEventListener {
+
+	private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+	public static void begin() {
+		CURRENT.set(new Counts());
+	}
+
+	public static Counts end() {
+		Counts counts = CURRENT.get();
+		CURRENT.remove();
+		return counts;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		Counts counts = CURRENT.get();
+		if (counts != null) {
+			counts.statements++;
+		}
+		return sql;
+	}
+
+	@Override
+	public void onPostLoad(PostLoadEvent event) {
+		Counts counts = CURRENT.get();
+		if (counts != null) {
+			counts.entityLoads++;
+		}
+	}
+
+	public static final class Counts {
+
+		private long statements;
+
+		private long entityLoads;
+
+		public long getStatements() {
+			return statements;
+		}
+
+		public long getEntityLoads() {
+			return entityLoads;
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.kruger.backend.utils.metrics;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many SQL statements and entity loads each request caused,
+ * tagged with the controller method that handled it. Wraps the security
+ * chain, so the user lookup done while authenticating is included.
+ */
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+	private MeterRegistry meterRegistry;
+
+	public RequestQueryMetricsFilter(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		HibernateRequestCounter.begin();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			HibernateRequestCounter.Counts counts = HibernateRequestCounter.end();
+			String handler = HandlerNames.of(request);
+			summary("hibernate.request.statements", "SQL statements prepared per request", handler)
+					.record(counts.getStatements());
+			summary("hibernate.request.entity.loads", "Entities loaded per request", handler)
+					.record(counts.getEntityLoads());
+		}
+	}
+
+	private DistributionSummary summary(String name, String description, String handler) {
+		return DistributionSummary.builder(name)
+				.description(description)
+				.tag(HandlerNames.TAG, handler)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+}
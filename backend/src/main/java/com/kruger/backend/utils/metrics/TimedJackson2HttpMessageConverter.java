@@ -0,0 +1,54 @@
+package com.kruger.backend.utils.metrics;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times JSON response serialization per controller method. The time includes
+ * writing to the response buffer, which can block on a slow client.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	private MeterRegistry meterRegistry;
+
+	public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		super(objectMapper);
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+		Timer.Sample sample = Timer.start();
+		try {
+			super.writeInternal(object, type, outputMessage);
+		} finally {
+			sample.stop(Timer.builder("http.json.write")
+					.description("JSON response serialization")
+					.tag(HandlerNames.TAG, currentHandler())
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+		}
+	}
+
+	private static String currentHandler() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes instanceof ServletRequestAttributes servlet) {
+			return HandlerNames.of(servlet.getRequest());
+		}
+		return HandlerNames.NONE;
+	}
+
+}
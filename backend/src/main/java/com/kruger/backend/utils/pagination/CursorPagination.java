@@ -0,0 +1,147 @@
+package com.kruger.backend.utils.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.utils.exception.BadRequestException;
+
+/**
+ * Keyset pagination over ascending ids. The cursor is the opaque, URL-safe
+ * encoding of the last id returned; the next page is fetched with
+ * {@code id > :afterId ORDER BY id} so no rows are skipped with OFFSET.
+ */
+@Component
+public class CursorPagination {
+
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	private static final String PREFIX = "id:";
+
+	private static final String OFFSET_PREFIX = "at:";
+
+	@Value("${app.pagination.default-size:50}")
+	private int defaultSize;
+
+	@Value("${app.pagination.max-size:500}")
+	private int maxSize;
+
+	public int resolveSize(Integer requested) {
+		if (requested == null) {
+			return defaultSize;
+		}
+		if (requested < 1) {
+			throw new BadRequestException("Page size must be greater than zero");
+		}
+		return Math.min(requested, maxSize);
+	}
+
+	/** Requests one row more than the page size to know whether a next page exists. */
+	public Pageable probe(int size) {
+		return PageRequest.of(0, size + 1);
+	}
+
+	public Long afterId(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return 0L;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!decoded.startsWith(PREFIX)) {
+				throw new IllegalArgumentException();
+			}
+			return Long.valueOf(decoded.substring(PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException("Invalid cursor");
+		}
+	}
+
+	/** Position in a ranked result that has no stable key, e.g. search hits. */
+	public int offset(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return 0;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!decoded.startsWith(OFFSET_PREFIX)) {
+				throw new IllegalArgumentException();
+			}
+			int offset = Integer.parseInt(decoded.substring(OFFSET_PREFIX.length()));
+			if (offset < 0) {
+				throw new IllegalArgumentException();
+			}
+			return offset;
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException("Invalid cursor");
+		}
+	}
+
+	public static String encodeOffset(int offset) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((OFFSET_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * The page of a ranked list of ids that starts at {@code offset}. Only the
+	 * page's rows are loaded; ids whose row is gone meanwhile are left out.
+	 */
+	public <T> PageResponse<T> offsetPage(long[] ranked, int offset, int size, Function<List<Long>, List<T>> load,
+			Function<T, Long> idOf) {
+		int end = Math.min(ranked.length, offset + size);
+		if (offset >= end) {
+			return new PageResponse<>(List.of(), null);
+		}
+		List<Long> ids = new ArrayList<>(end - offset);
+		for (int i = offset; i < end; i++) {
+			ids.add(ranked[i]);
+		}
+		Map<Long, T> rows = load.apply(ids).stream().collect(Collectors.toMap(idOf, Function.identity()));
+		List<T> items = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			T row = rows.get(id);
+			if (row != null) {
+				items.add(row);
+			}
+		}
+		return new PageResponse<>(items, end < ranked.length ? encodeOffset(end) : null);
+	}
+
+	public <T> PageResponse<T> page(List<T> rows, int size, Function<T, Long> idOf) {
+		if (rows.size() <= size) {
+			return new PageResponse<>(rows, null);
+		}
+		List<T> items = rows.subList(0, size);
+		return new PageResponse<>(items, encode(idOf.apply(items.get(size - 1))));
+	}
+
+	public static String encode(Long id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static <T> ResponseEntity<List<T>> toResponse(PageResponse<T> page) {
+		return toResponse(page, null);
+	}
+
+	public static <T> ResponseEntity<List<T>> toResponse(PageResponse<T> page, String etag) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (etag != null) {
+			response.eTag(etag);
+		}
+		if (page.getNextCursor() != null) {
+			response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+		}
+		return response.body(page.getItems());
+	}
+}
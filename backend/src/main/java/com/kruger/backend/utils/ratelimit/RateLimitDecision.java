@@ -0,0 +1,25 @@
+package com.kruger.backend.utils.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitDecision {
+
+	private boolean allowed;
+
+	private int limit;
+
+	private int remaining;
+
+	/**
+	 * Time until the bucket is full again.
+	 */
+	private long resetNanos;
+
+	/**
+	 * Time until the next request would be allowed; zero when allowed.
+	 */
+	private long retryAfterNanos;
+}
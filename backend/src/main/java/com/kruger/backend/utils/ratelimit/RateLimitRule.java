@@ -0,0 +1,87 @@
+package com.kruger.backend.utils.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * One route limit, written as {@code [METHOD ]pattern=ratePerSecond:burst},
+ * e.g. {@code GET /tasks/**=20:40}. Rules are comma separated and the first
+ * matching rule applies.
+ */
+public class RateLimitRule {
+
+	private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+	private final String id;
+
+	private final String method;
+
+	private final String pattern;
+
+	private final int burst;
+
+	private final long intervalNanos;
+
+	public RateLimitRule(String method, String pattern, double ratePerSecond, int burst) {
+		if (ratePerSecond <= 0 || burst < 1) {
+			throw new IllegalArgumentException("Invalid rate limit for " + pattern + ": " + ratePerSecond + ":" + burst);
+		}
+		this.method = method;
+		this.pattern = pattern;
+		this.burst = burst;
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+		this.id = method == null ? pattern : method + " " + pattern;
+	}
+
+	public static List<RateLimitRule> parse(String spec) {
+		List<RateLimitRule> rules = new ArrayList<>();
+		if (spec == null || spec.isBlank()) {
+			return rules;
+		}
+		for (String entry : spec.split(",")) {
+			String[] routeAndLimit = entry.trim().split("=");
+			String[] limit = routeAndLimit.length == 2 ? routeAndLimit[1].trim().split(":") : new String[0];
+			if (limit.length != 2) {
+				throw new IllegalArgumentException("Invalid rate limit rule '" + entry.trim() + "', expected [METHOD ]pattern=rate:burst");
+			}
+			String[] route = routeAndLimit[0].trim().split("\\s+");
+			String method = route.length == 2 ? route[0].toUpperCase() : null;
+			rules.add(new RateLimitRule(method, route[route.length - 1], Double.parseDouble(limit[0]),
+					Integer.parseInt(limit[1])));
+		}
+		return rules;
+	}
+
+	public boolean matches(String requestMethod, String path) {
+		return (method == null || method.equals(requestMethod)) && MATCHER.match(pattern, path);
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	public int getBurst() {
+		return burst;
+	}
+
+	/**
+	 * Time between two requests at the sustained rate.
+	 */
+	public long getIntervalNanos() {
+		return intervalNanos;
+	}
+
+	/**
+	 * How far ahead of the sustained rate a key may run: a full bucket.
+	 */
+	public long getToleranceNanos() {
+		return intervalNanos * burst;
+	}
+}
@@ -0,0 +1,88 @@
+package com.kruger.backend.utils.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets kept as a single theoretical arrival time per key (GCRA):
+ * each request pushes the time forward by one interval with a CAS, and is
+ * refused when that would put it more than a full bucket ahead of now. No
+ * locks and no refill thread; a bucket whose time has passed is full and
+ * indistinguishable from a new one, so {@link #evictIdle()} can drop it.
+ * Past {@code maxBuckets} keys, new keys share one bucket per rule until the
+ * next eviction, which keeps memory bounded without letting them through.
+ */
+public class RateLimiter {
+
+	private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicLong> overflow = new ConcurrentHashMap<>();
+
+	private final int maxBuckets;
+
+	private final long origin;
+
+	public RateLimiter(int maxBuckets) {
+		this(maxBuckets, System.nanoTime());
+	}
+
+	RateLimiter(int maxBuckets, long origin) {
+		this.maxBuckets = maxBuckets;
+		this.origin = origin;
+	}
+
+	public RateLimitDecision tryAcquire(RateLimitRule rule, String key) {
+		return tryAcquire(rule, key, System.nanoTime());
+	}
+
+	RateLimitDecision tryAcquire(RateLimitRule rule, String key, long nanoTime) {
+		AtomicLong bucket = bucket(rule, key);
+		long now = nanoTime - origin;
+		long interval = rule.getIntervalNanos();
+		long tolerance = rule.getToleranceNanos();
+		while (true) {
+			long arrival = bucket.get();
+			long next = Math.max(arrival, now) + interval;
+			long ahead = next - now;
+			if (ahead > tolerance) {
+				return new RateLimitDecision(false, rule.getBurst(), 0, Math.max(0, arrival - now), ahead - tolerance);
+			}
+			if (bucket.compareAndSet(arrival, next)) {
+				return new RateLimitDecision(true, rule.getBurst(), (int) ((tolerance - ahead) / interval), ahead, 0);
+			}
+		}
+	}
+
+	/**
+	 * Drops the buckets that have refilled completely. A request racing with
+	 * the removal may update the dropped bucket; the key then starts again
+	 * from a full bucket, which it had anyway.
+	 */
+	public int evictIdle() {
+		return evictIdle(System.nanoTime());
+	}
+
+	int evictIdle(long nanoTime) {
+		long now = nanoTime - origin;
+		int before = buckets.size();
+		buckets.values().removeIf(bucket -> bucket.get() <= now);
+		return before - buckets.size();
+	}
+
+	public int size() {
+		return buckets.size();
+	}
+
+	private AtomicLong bucket(RateLimitRule rule, String key) {
+		String id = rule.getId() + '|' + key;
+		AtomicLong bucket = buckets.get(id);
+		if (bucket != null) {
+			return bucket;
+		}
+		if (buckets.size() >= maxBuckets) {
+			return overflow.computeIfAbsent(rule.getId(), ignored -> new AtomicLong());
+		}
+		return buckets.computeIfAbsent(id, ignored -> new AtomicLong());
+	}
+}
@@ -0,0 +1,82 @@
+package com.kruger.backend.utils.rebuild;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kruger.backend.utils.datasource.ReadWriteRoutingDataSource;
+
+/**
+ * Reloads an in-memory view of the tasks from a streamed query while task
+ * events keep being applied to it. Rows are handed to the view in batches;
+ * a task written since {@link #begin()} is reported stale, because the event
+ * already applied for it is newer than its streamed row.
+ * <p>
+ * The view calls {@link #begin()} while it clears itself, and
+ * {@link #touch(Long)} and {@link #isStale(Long)} under that same lock, so
+ * that no event falls between clearing and tracking.
+ */
+public class StreamingRebuild {
+
+	private static final int BATCH = 500;
+
+	private TransactionTemplate readOnlyTransaction;
+
+	// tasks written while a rebuild is streaming; their streamed rows are stale
+	private volatile Set<Long> touched;
+
+	public StreamingRebuild(PlatformTransactionManager transactionManager) {
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	public void begin() {
+		touched = ConcurrentHashMap.newKeySet();
+	}
+
+	public void touch(Long taskId) {
+		Set<Long> current = touched;
+		if (current != null) {
+			current.add(taskId);
+		}
+	}
+
+	public boolean isStale(Long taskId) {
+		Set<Long> current = touched;
+		return current != null && current.contains(taskId);
+	}
+
+	/**
+	 * Streams the rows in one read-only transaction and passes them to
+	 * {@code load} in batches, then stops tracking writes.
+	 */
+	public <T> void stream(Supplier<Stream<T>> rows, Consumer<List<T>> load) {
+		try {
+			// events applied before the build started must already be visible to it, so no replica lag
+			ReadWriteRoutingDataSource.onPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+				try (Stream<T> stream = rows.get()) {
+					Iterator<T> iterator = stream.iterator();
+					List<T> batch = new ArrayList<>(BATCH);
+					while (iterator.hasNext()) {
+						batch.add(iterator.next());
+						if (batch.size() == BATCH || !iterator.hasNext()) {
+							load.accept(batch);
+							batch.clear();
+						}
+					}
+				}
+			}));
+		} finally {
+			touched = null;
+		}
+	}
+
+}
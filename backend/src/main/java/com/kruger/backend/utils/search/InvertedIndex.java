@@ -0,0 +1,121 @@
+package com.kruger.backend.utils.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * Term to {@link PostingList} index with conjunctive (AND) queries ranked by
+ * a BM25-style score without length normalization. Not thread-safe: callers
+ * guard reads and writes with a read/write lock.
+ */
+public class InvertedIndex {
+
+	private static final double K1 = 1.2;
+
+	private final Map<String, PostingList> postings = new HashMap<>();
+
+	private final Map<Long, String[]> documentTerms = new HashMap<>();
+
+	public int size() {
+		return documentTerms.size();
+	}
+
+	public int terms() {
+		return postings.size();
+	}
+
+	public void put(long id, Map<String, Integer> frequencies) {
+		remove(id);
+		if (frequencies.isEmpty()) {
+			return;
+		}
+		for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+			postings.computeIfAbsent(term.getKey(), key -> new PostingList()).put(id, term.getValue());
+		}
+		documentTerms.put(id, frequencies.keySet().toArray(String[]::new));
+	}
+
+	public void remove(long id) {
+		String[] terms = documentTerms.remove(id);
+		if (terms == null) {
+			return;
+		}
+		for (String term : terms) {
+			PostingList list = postings.get(term);
+			list.remove(id);
+			if (list.size() == 0) {
+				postings.remove(term);
+			}
+		}
+	}
+
+	/**
+	 * Ids of the documents containing every term and accepted by
+	 * {@code filter}, best match first and by ascending id on ties.
+	 */
+	public long[] search(List<String> terms, LongPredicate filter) {
+		List<PostingList> lists = new ArrayList<>(terms.size());
+		for (String term : terms) {
+			PostingList list = postings.get(term);
+			if (list == null) {
+				return new long[0];
+			}
+			if (!lists.contains(list)) {
+				lists.add(list);
+			}
+		}
+		lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+		int documents = documentTerms.size();
+		double[] idf = new double[lists.size()];
+		for (int i = 0; i < idf.length; i++) {
+			int df = lists.get(i).size();
+			idf[i] = Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+		}
+
+		PostingList shortest = lists.get(0);
+		long[] ids = new long[shortest.size()];
+		double[] scores = new double[shortest.size()];
+		int matches = 0;
+		candidates:
+		for (int i = 0; i < shortest.size(); i++) {
+			long id = shortest.idAt(i);
+			double score = idf[0] * saturate(shortest.weightAt(i));
+			for (int j = 1; j < lists.size(); j++) {
+				int weight = lists.get(j).weightOf(id);
+				if (weight == 0) {
+					continue candidates;
+				}
+				score += idf[j] * saturate(weight);
+			}
+			if (filter.test(id)) {
+				ids[matches] = id;
+				scores[matches] = score;
+				matches++;
+			}
+		}
+		return rank(ids, scores, matches);
+	}
+
+	private static double saturate(int weight) {
+		return weight * (K1 + 1) / (weight + K1);
+	}
+
+	private static long[] rank(long[] ids, double[] scores, int matches) {
+		Integer[] order = new Integer[matches];
+		for (int i = 0; i < matches; i++) {
+			order[i] = i;
+		}
+		// ids are already ascending, and the sort is stable
+		Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+		long[] ranked = new long[matches];
+		for (int i = 0; i < matches; i++) {
+			ranked[i] = ids[order[i]];
+		}
+		return ranked;
+	}
+}
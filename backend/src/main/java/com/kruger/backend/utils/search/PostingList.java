@@ -0,0 +1,74 @@
+package com.kruger.backend.utils.search;
+
+import java.util.Arrays;
+
+/**
+ * Document ids of one term in ascending order, with the term weight of each
+ * document in a parallel array. Ids are usually appended in increasing order,
+ * which keeps inserts at the tail.
+ */
+public class PostingList {
+
+	private long[] ids = new long[4];
+
+	private int[] weights = new int[4];
+
+	private int size;
+
+	public int size() {
+		return size;
+	}
+
+	public long idAt(int index) {
+		return ids[index];
+	}
+
+	public int weightAt(int index) {
+		return weights[index];
+	}
+
+	/** Weight of {@code id} in this list, or 0 when absent. */
+	public int weightOf(long id) {
+		int index = Arrays.binarySearch(ids, 0, size, id);
+		return index >= 0 ? weights[index] : 0;
+	}
+
+	public void put(long id, int weight) {
+		if (size == 0 || ids[size - 1] < id) {
+			ensureCapacity();
+			ids[size] = id;
+			weights[size] = weight;
+			size++;
+			return;
+		}
+		int index = Arrays.binarySearch(ids, 0, size, id);
+		if (index >= 0) {
+			weights[index] = weight;
+			return;
+		}
+		int insertAt = -index - 1;
+		ensureCapacity();
+		System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+		System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+		ids[insertAt] = id;
+		weights[insertAt] = weight;
+		size++;
+	}
+
+	public void remove(long id) {
+		int index = Arrays.binarySearch(ids, 0, size, id);
+		if (index < 0) {
+			return;
+		}
+		System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+		System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+		size--;
+	}
+
+	private void ensureCapacity() {
+		if (size == ids.length) {
+			ids = Arrays.copyOf(ids, size * 2);
+			weights = Arrays.copyOf(weights, size * 2);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.kruger.backend.utils.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into lower-case, accent-free terms of at least two letters or
+ * digits, so "Diseño" and "diseno" index the same term.
+ */
+public final class Tokenizer {
+
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+	private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+	private static final int MIN_LENGTH = 2;
+
+	private Tokenizer() {
+	}
+
+	public static List<String> terms(String text) {
+		List<String> terms = new ArrayList<>();
+		if (text == null || text.isBlank()) {
+			return terms;
+		}
+		String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+				.toLowerCase(Locale.ROOT);
+		for (String term : SEPARATORS.split(normalized)) {
+			if (term.length() >= MIN_LENGTH) {
+				terms.add(term);
+			}
+		}
+		return terms;
+	}
+
+	/** Adds {@code weight} to every term of {@code text} in {@code frequencies}. */
+	public static void count(String text, int weight, Map<String, Integer> frequencies) {
+		for (String term : terms(text)) {
+			frequencies.merge(term, weight, Integer::sum);
+		}
+	}
+
+	public static Map<String, Integer> frequencies(String title, int titleWeight, String description) {
+		Map<String, Integer> frequencies = new LinkedHashMap<>();
+		count(title, titleWeight, frequencies);
+		count(description, 1, frequencies);
+		return frequencies;
+	}
+}
@@ -0,0 +1,188 @@
+package com.kruger.backend.utils.timing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Timing wheel over integer ticks (e.g. epoch days). Deadlines less than
+ * {@code size} ticks ahead live in the slot array, where each slot holds
+ * exactly one deadline; later ones wait in an overflow level ordered by
+ * deadline and move into the wheel once they come within range. Scheduling,
+ * cancelling and firing are O(1) per entry, plus O(log n) for the rare
+ * overflow bucket. Not thread-safe.
+ */
+public class TimingWheel<T> {
+
+	private final Bucket<T>[] slots;
+
+	private final int mask;
+
+	private final NavigableMap<Long, Bucket<T>> overflow = new TreeMap<>();
+
+	private final Map<Long, Node<T>> nodes = new HashMap<>();
+
+	private long currentTick;
+
+	@SuppressWarnings("unchecked")
+	public TimingWheel(int size, long startTick) {
+		if (size < 2 || Integer.bitCount(size) != 1) {
+			throw new IllegalArgumentException("size must be a power of two");
+		}
+		this.slots = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			slots[i] = new Bucket<>();
+		}
+		this.mask = size - 1;
+		this.currentTick = startTick;
+	}
+
+	public long currentTick() {
+		return currentTick;
+	}
+
+	public int size() {
+		return nodes.size();
+	}
+
+	public boolean contains(long id) {
+		return nodes.containsKey(id);
+	}
+
+	/**
+	 * Schedules {@code id} to fire at {@code deadline}, replacing any earlier
+	 * schedule. Returns false, scheduling nothing, if the deadline has passed.
+	 */
+	public boolean schedule(long id, long deadline, T payload) {
+		cancel(id);
+		if (deadline <= currentTick) {
+			return false;
+		}
+		Node<T> node = new Node<>(id, deadline, payload);
+		nodes.put(id, node);
+		place(node);
+		return true;
+	}
+
+	public T cancel(long id) {
+		Node<T> node = nodes.remove(id);
+		if (node == null) {
+			return null;
+		}
+		Bucket<T> bucket = node.bucket;
+		bucket.unlink(node);
+		if (bucket.head == null && bucket.overflowKey != null) {
+			overflow.remove(bucket.overflowKey);
+		}
+		return node.payload;
+	}
+
+	/** Cancels every entry whose payload matches and returns the payloads. */
+	public List<T> cancelIf(Predicate<T> filter) {
+		List<T> cancelled = new ArrayList<>();
+		for (Node<T> node : new ArrayList<>(nodes.values())) {
+			if (filter.test(node.payload)) {
+				cancelled.add(cancel(node.id));
+			}
+		}
+		return cancelled;
+	}
+
+	/** Moves time forward to {@code tick}, handing every expired payload to {@code expired}. */
+	public void advanceTo(long tick, Consumer<T> expired) {
+		while (currentTick < tick) {
+			currentTick++;
+			Bucket<T> slot = slots[(int) (currentTick & mask)];
+			for (Node<T> node = slot.head; node != null; node = node.next) {
+				nodes.remove(node.id);
+				expired.accept(node.payload);
+			}
+			slot.head = null;
+			cascade();
+		}
+	}
+
+	private void place(Node<T> node) {
+		if (node.deadline - currentTick <= mask) {
+			slots[(int) (node.deadline & mask)].link(node);
+			return;
+		}
+		Bucket<T> bucket = overflow.computeIfAbsent(node.deadline, deadline -> {
+			Bucket<T> created = new Bucket<>();
+			created.overflowKey = deadline;
+			return created;
+		});
+		bucket.link(node);
+	}
+
+	// pull the deadlines that just came within the wheel's range
+	private void cascade() {
+		while (!overflow.isEmpty() && overflow.firstKey() - currentTick <= mask) {
+			Bucket<T> bucket = overflow.pollFirstEntry().getValue();
+			Node<T> node = bucket.head;
+			while (node != null) {
+				Node<T> next = node.next;
+				node.prev = null;
+				node.next = null;
+				slots[(int) (node.deadline & mask)].link(node);
+				node = next;
+			}
+		}
+	}
+
+	private static final class Node<T> {
+
+		private final long id;
+
+		private final long deadline;
+
+		private final T payload;
+
+		private Bucket<T> bucket;
+
+		private Node<T> prev;
+
+		private Node<T> next;
+
+		private Node(long id, long deadline, T payload) {
+			this.id = id;
+			this.deadline = deadline;
+			this.payload = payload;
+		}
+	}
+
+	private static final class Bucket<T> {
+
+		private Node<T> head;
+
+		private Long overflowKey;
+
+		private void link(Node<T> node) {
+			node.bucket = this;
+			node.prev = null;
+			node.next = head;
+			if (head != null) {
+				head.prev = node;
+			}
+			head = node;
+		}
+
+		private void unlink(Node<T> node) {
+			if (node.prev != null) {
+				node.prev.next = node.next;
+			} else {
+				head = node.next;
+			}
+			if (node.next != null) {
+				node.next.prev = node.prev;
+			}
+			node.prev = null;
+			node.next = null;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.kruger.backend.utils.webhook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.kruger.backend.dto.WebhookMessage;
+
+/**
+ * Posts a batch of outbox events to one endpoint as a JSON array. The payloads
+ * are already JSON, so the envelope is written around them without parsing.
+ * When the endpoint has a secret the body is signed with HMAC-SHA256 in
+ * {@value #SIGNATURE_HEADER}. The returned future never completes
+ * exceptionally: transport errors become unsuccessful results.
+ */
+public class WebhookClient {
+
+	public static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final HttpClient httpClient;
+
+	private final Duration requestTimeout;
+
+	public WebhookClient(Executor executor, Duration connectTimeout, Duration requestTimeout) {
+		this.httpClient = HttpClient.newBuilder().executor(executor).connectTimeout(connectTimeout).build();
+		this.requestTimeout = requestTimeout;
+	}
+
+	public CompletableFuture<WebhookResult> send(String url, String secret, List<WebhookMessage> messages) {
+		String body = body(messages);
+		HttpRequest.Builder request;
+		try {
+			request = HttpRequest.newBuilder(URI.create(url))
+					.timeout(requestTimeout)
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+		} catch (IllegalArgumentException e) {
+			return CompletableFuture.completedFuture(new WebhookResult(false, 0, truncate(e.toString()), null));
+		}
+		if (secret != null && !secret.isEmpty()) {
+			request.header(SIGNATURE_HEADER, "sha256=" + sign(secret, body));
+		}
+		return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+				.handle((response, error) -> {
+					if (error != null) {
+						return new WebhookResult(false, 0, truncate(error.toString()), null);
+					}
+					int status = response.statusCode();
+					if (status >= 200 && status < 300) {
+						return new WebhookResult(true, status, null, null);
+					}
+					return new WebhookResult(false, status, "HTTP " + status,
+							retryAfter(response.headers().firstValue("Retry-After").orElse(null)));
+				});
+	}
+
+	static String body(List<WebhookMessage> messages) {
+		StringBuilder body = new StringBuilder(64 + messages.size() * 256).append('[');
+		for (int i = 0; i < messages.size(); i++) {
+			WebhookMessage message = messages.get(i);
+			if (i > 0) {
+				body.append(',');
+			}
+			// aggregate and event types are fixed identifiers, never user input
+			body.append("{\"id\":").append(message.getEventId())
+					.append(",\"aggregateType\":\"").append(message.getAggregateType())
+					.append("\",\"aggregateId\":").append(message.getAggregateId())
+					.append(",\"type\":\"").append(message.getEventType())
+					.append("\",\"occurredAt\":\"").append(message.getCreatedAt())
+					.append("\",\"attempt\":").append(message.getAttempts())
+					.append(",\"payload\":").append(message.getPayload())
+					.append('}');
+		}
+		return body.append(']').toString();
+	}
+
+	static String sign(String secret, String body) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HmacSHA256 is not available", e);
+		}
+	}
+
+	private static Duration retryAfter(String header) {
+		if (header == null) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Long.parseLong(header.trim()));
+		} catch (NumberFormatException e) {
+			// HTTP-date form is not used by the endpoints we target; fall back to backoff
+			return null;
+		}
+	}
+
+	private static String truncate(String error) {
+		return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.kruger.backend.utils.webhook;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of one batch POST. {@code status} is 0 when no response was
+ * received; {@code retryAfter} is set when the endpoint asked to back off.
+ */
+@Getter
+@AllArgsConstructor
+public class WebhookResult {
+
+	private boolean success;
+
+	private int status;
+
+	private String error;
+
+	private Duration retryAfter;
+}
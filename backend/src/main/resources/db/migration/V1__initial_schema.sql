@@ -0,0 +1,63 @@
+-- Schema as originally created by db/init.sql. Written to be re-runnable so
+-- databases created from that script can be baselined onto the migrations.
+
+CREATE SEQUENCE IF NOT EXISTS users_id_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS project_id_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS task_id_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id bigint NOT NULL DEFAULT nextval('users_id_seq'::regclass),
+    created_by character varying(255),
+    email character varying(255),
+    password character varying(255),
+    role character varying(255),
+    updated_by character varying(255),
+    username character varying(255),
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT users_role_check CHECK (role::text = ANY (ARRAY['USER'::character varying, 'ADMIN'::character varying]::text[]))
+);
+
+CREATE TABLE IF NOT EXISTS project
+(
+    created_at timestamp(6) without time zone,
+    id bigint NOT NULL DEFAULT nextval('project_id_seq'::regclass),
+    owner_id bigint,
+    created_by character varying(255),
+    description character varying(255),
+    name character varying(255),
+    updated_by character varying(255),
+    CONSTRAINT project_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_owner FOREIGN KEY (owner_id)
+        REFERENCES users (id) MATCH SIMPLE
+        ON UPDATE NO ACTION
+        ON DELETE NO ACTION
+);
+
+CREATE TABLE IF NOT EXISTS task
+(
+    due_date date,
+    assigned_to_id bigint,
+    created_at timestamp(6) without time zone,
+    id bigint NOT NULL DEFAULT nextval('task_id_seq'::regclass),
+    project_id bigint,
+    created_by character varying(255),
+    description character varying(255),
+    status character varying(255),
+    title character varying(255),
+    updated_by character varying(255),
+    CONSTRAINT task_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_assigned_to FOREIGN KEY (assigned_to_id)
+        REFERENCES users (id) MATCH SIMPLE
+        ON UPDATE NO ACTION
+        ON DELETE NO ACTION,
+    CONSTRAINT fk_project FOREIGN KEY (project_id)
+        REFERENCES project (id) MATCH SIMPLE
+        ON UPDATE NO ACTION
+        ON DELETE NO ACTION,
+    CONSTRAINT task_status_check CHECK (status::text = ANY (ARRAY['PENDING'::character varying, 'IN_PROGRESS'::character varying, 'DONE'::character varying]::text[]))
+);
+
+INSERT INTO users (created_by, email, password, role, updated_by, username)
+SELECT 'ADMINISTRATOR', 'kruger@test.com', '$2a$10$GsgPYsyflPPOyG0M.vLepuR/wyr3LqWnvROj4KdtPk84522NnqxRO', 'ADMIN', '', 'kruger'
+WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = 'kruger@test.com');
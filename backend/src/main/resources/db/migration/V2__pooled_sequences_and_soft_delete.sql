@@ -0,0 +1,7 @@
+-- Ids are allocated by Hibernate's pooled optimizer in blocks of 50
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_id_seq INCREMENT BY 50;
+ALTER SEQUENCE task_id_seq INCREMENT BY 50;
+
+-- Projects are marked deleted first and purged in chunks afterwards
+ALTER TABLE project ADD COLUMN IF NOT EXISTS deleted_at timestamp(6) without time zone;
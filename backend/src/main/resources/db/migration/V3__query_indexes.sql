@@ -0,0 +1,17 @@
+-- Each index matches a keyset query: equality on the filter column, then id
+-- so "AND id > :afterId ORDER BY id LIMIT n" is a single range scan.
+
+-- TaskRepository.findProjectById, streamByProject, deleteChunkByProjectId
+CREATE INDEX IF NOT EXISTS idx_task_project_id_id ON task (project_id, id);
+
+-- TaskRepository.findByParameters, streamByAssignee
+CREATE INDEX IF NOT EXISTS idx_task_assigned_to_id_id ON task (assigned_to_id, id);
+
+-- ProjectRepository.findByUserId, streamByOwner
+CREATE INDEX IF NOT EXISTS idx_project_owner_id_id ON project (owner_id, id);
+
+-- UserRepository.findByEmail, findIdentityByEmail
+CREATE INDEX IF NOT EXISTS idx_users_email ON users (email);
+
+-- ProjectRepository.findDeletedIds: only the few projects waiting to be purged
+CREATE INDEX IF NOT EXISTS idx_project_deleted ON project (id) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,3 @@
+-- Optimistic locking for tasks and projects (@Version, conditional PATCH)
+ALTER TABLE task ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE project ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- TaskRepository.streamOpenWithDueDate, read once at startup by the overdue detector
+CREATE INDEX IF NOT EXISTS idx_task_open_due_date ON task (due_date)
+    WHERE due_date IS NOT NULL AND status <> 'DONE';
@@ -0,0 +1,58 @@
+-- Transactional outbox: task and project writes insert their events here in
+-- the same transaction; the webhook dispatcher fans them out to endpoints.
+-- Outbox ids are taken by the insert itself, so they follow the order in
+-- which writers of the same row committed; they give per-aggregate ordering.
+CREATE SEQUENCE IF NOT EXISTS outbox_event_id_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS webhook_endpoint_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS webhook_delivery_id_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    id bigint NOT NULL DEFAULT nextval('outbox_event_id_seq'::regclass),
+    aggregate_type character varying(20) NOT NULL,
+    aggregate_id bigint NOT NULL,
+    event_type character varying(20) NOT NULL,
+    payload text NOT NULL,
+    created_at timestamp(6) without time zone NOT NULL DEFAULT now(),
+    fanned_out boolean NOT NULL DEFAULT false,
+    CONSTRAINT outbox_event_pkey PRIMARY KEY (id)
+);
+
+-- events not yet copied into webhook_delivery, drained in id order
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending ON outbox_event (id) WHERE NOT fanned_out;
+
+CREATE TABLE IF NOT EXISTS webhook_endpoint
+(
+    id bigint NOT NULL DEFAULT nextval('webhook_endpoint_id_seq'::regclass),
+    url character varying(2048) NOT NULL,
+    secret character varying(255),
+    max_in_flight integer NOT NULL DEFAULT 4,
+    active boolean NOT NULL DEFAULT true,
+    created_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT webhook_endpoint_pkey PRIMARY KEY (id)
+);
+
+-- one row per (endpoint, event) still to deliver; deleted once delivered
+CREATE TABLE IF NOT EXISTS webhook_delivery
+(
+    id bigint NOT NULL DEFAULT nextval('webhook_delivery_id_seq'::regclass),
+    endpoint_id bigint NOT NULL,
+    event_id bigint NOT NULL,
+    aggregate_key character varying(40) NOT NULL,
+    status character varying(10) NOT NULL DEFAULT 'PENDING',
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp(6) without time zone NOT NULL,
+    last_error character varying(500),
+    CONSTRAINT webhook_delivery_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_webhook_delivery_endpoint_event UNIQUE (endpoint_id, event_id),
+    CONSTRAINT fk_webhook_delivery_endpoint FOREIGN KEY (endpoint_id)
+        REFERENCES webhook_endpoint (id) ON DELETE CASCADE,
+    CONSTRAINT fk_webhook_delivery_event FOREIGN KEY (event_id)
+        REFERENCES outbox_event (id) ON DELETE CASCADE,
+    CONSTRAINT webhook_delivery_status_check CHECK (status::text = ANY (ARRAY['PENDING'::character varying, 'DEAD'::character varying]::text[]))
+);
+
+-- claim: due deliveries per endpoint, and the older-event-of-same-aggregate check
+CREATE INDEX IF NOT EXISTS idx_webhook_delivery_pending ON webhook_delivery (endpoint_id, aggregate_key, event_id)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_webhook_delivery_event_id ON webhook_delivery (event_id);
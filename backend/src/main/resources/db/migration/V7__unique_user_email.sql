@@ -0,0 +1,19 @@
+-- One account per email. The bulk user import relies on it to skip duplicates
+-- with ON CONFLICT; the index keeps its name so query plans stay the same.
+-- Accounts sharing an email own tasks and projects, so they are not merged or
+-- deleted here: the migration stops and lists them to be resolved by hand.
+DO $$
+DECLARE
+    duplicates text;
+BEGIN
+    SELECT string_agg(email || ' (' || accounts || ' accounts)', ', ')
+    INTO duplicates
+    FROM (SELECT email, COUNT(*) AS accounts FROM users GROUP BY email HAVING COUNT(*) > 1 ORDER BY email LIMIT 20) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'users.email must be unique before V7 can add its unique index; duplicated: %', duplicates
+            USING HINT = 'Merge or delete the duplicated accounts, then run the migration again.';
+    END IF;
+END $$;
+
+DROP INDEX IF EXISTS idx_users_email;
+CREATE UNIQUE INDEX idx_users_email ON users (email);
@@ -0,0 +1,13 @@
+-- Revoked JWT ids, kept until the token would have expired anyway. Loaded into the
+-- in-memory revocation filter at startup; revoked_at lets other instances pick up new rows.
+CREATE TABLE IF NOT EXISTS revoked_token
+(
+    jti character varying(64) NOT NULL,
+    subject character varying(255) NOT NULL,
+    expires_at timestamp(6) without time zone NOT NULL,
+    revoked_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT revoked_token_pkey PRIMARY KEY (jti)
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON revoked_token (expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_at ON revoked_token (revoked_at);
@@ -0,0 +1,12 @@
+-- Per-user token epochs: tokens of the subject issued before revoked_before are rejected.
+-- Loaded into memory at startup; updated_at lets other instances pick up changed rows.
+CREATE TABLE IF NOT EXISTS token_epoch
+(
+    subject character varying(255) NOT NULL,
+    revoked_before timestamp(6) without time zone NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT token_epoch_pkey PRIMARY KEY (subject)
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_epoch_updated_at ON token_epoch (updated_at);
+CREATE INDEX IF NOT EXISTS idx_token_epoch_revoked_before ON token_epoch (revoked_before);
@@ -0,0 +1,46 @@
+package com.kruger.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.kruger.backend.dto.response.CacheRegionStats;
+import com.kruger.backend.dto.response.CacheStatsResponse;
+import com.kruger.backend.service.CacheStatsService;
+
+class CacheControllerTest {
+
+	@InjectMocks
+	private CacheController cacheController;
+
+	@Mock
+	private CacheStatsService cacheStatsService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	@Test
+	void testGetStats() {
+		CacheStatsResponse response = new CacheStatsResponse(true,
+				List.of(new CacheRegionStats("users", 9, 1, 1, 0.9, 1)));
+		when(cacheStatsService.secondLevelCacheStats()).thenReturn(response);
+
+		ResponseEntity<CacheStatsResponse> result = cacheController.getStats();
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(cacheStatsService).secondLevelCacheStats();
+	}
+}
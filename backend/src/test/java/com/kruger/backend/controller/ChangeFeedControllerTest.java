@@ -0,0 +1,66 @@
+package com.kruger.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.Principal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.kruger.backend.service.ChangeFeedService;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+class ChangeFeedControllerTest {
+
+	@InjectMocks
+	private ChangeFeedController changeFeedController;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
+
+	@Mock
+	private Principal principal;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(principal.getName()).thenReturn("user@test.com");
+	}
+
+	@Test
+	void testStreamForUser() {
+		SseEmitter emitter = new SseEmitter();
+		when(changeFeedService.subscribe("user@test.com", null, null)).thenReturn(emitter);
+
+		SseEmitter result = changeFeedController.stream(principal, null, null);
+
+		assertSame(emitter, result);
+		verify(changeFeedService).subscribe("user@test.com", null, null);
+	}
+
+	@Test
+	void testStreamForProjectAfterReconnect() {
+		SseEmitter emitter = new SseEmitter();
+		when(changeFeedService.subscribe("user@test.com", 7L, "42")).thenReturn(emitter);
+
+		SseEmitter result = changeFeedController.stream(principal, 7L, "42");
+
+		assertSame(emitter, result);
+		verify(changeFeedService).subscribe("user@test.com", 7L, "42");
+	}
+
+	@Test
+	void testStreamForUnknownUser() {
+		when(changeFeedService.subscribe("user@test.com", null, null))
+				.thenThrow(new ResourceNotFoundException("User not found"));
+
+		assertThrows(ResourceNotFoundException.class, () -> changeFeedController.stream(principal, null, null));
+	}
+}
@@ -0,0 +1,73 @@
+package com.kruger.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.Principal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.kruger.backend.service.ExportService;
+import com.kruger.backend.utils.enums.ExportFormat;
+import com.kruger.backend.utils.exception.BadRequestException;
+
+class ExportControllerTest {
+
+	@InjectMocks
+	private ExportController exportController;
+
+	@Mock
+	private ExportService exportService;
+
+	@Mock
+	private Principal principal;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	@Test
+	void testExportUserTasksDefaultsToNdjson() throws IOException {
+		when(principal.getName()).thenReturn("user");
+
+		ResponseEntity<StreamingResponseBody> result = exportController.exportUserTasks(principal, null);
+		result.getBody().writeTo(new ByteArrayOutputStream());
+
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		assertEquals("application/x-ndjson", result.getHeaders().getContentType().toString());
+		verify(exportService).exportUserTasks(eq("user"), eq(ExportFormat.NDJSON), any());
+	}
+
+	@Test
+	void testExportProjectTasksAsCsv() throws IOException {
+		Long projectId = 1L;
+
+		ResponseEntity<StreamingResponseBody> result = exportController.exportProjectTasks(projectId, "csv");
+		result.getBody().writeTo(new ByteArrayOutputStream());
+
+		assertEquals("text/csv", result.getHeaders().getContentType().toString());
+		assertEquals("attachment; filename=\"project-1-tasks.csv\"",
+				result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+		verify(exportService).exportProjectTasks(eq(projectId), eq(ExportFormat.CSV), any());
+	}
+
+	@Test
+	void testExportRejectsUnknownFormat() {
+		assertThrows(BadRequestException.class, () -> exportController.exportUserProjects(principal, "xml"));
+	}
+}
@@ -3,6 +3,7 @@ package com.kruger.backend.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.security.Principal;
@@ -17,9 +18,15 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.kruger.backend.dto.request.ProjectPatchRequest;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.ProjectDeletionResponse;
 import com.kruger.backend.dto.response.ProjectResponse;
 import com.kruger.backend.entity.Project;
 import com.kruger.backend.service.ProjectService;
+import com.kruger.backend.service.ScopeVersionService;
+import com.kruger.backend.utils.enums.DeletionStatus;
+import com.kruger.backend.utils.etag.ScopeTag;
 
 class ProjectControllerTest {
 
@@ -29,6 +36,9 @@ class ProjectControllerTest {
 	@Mock
 	private ProjectService projectService;
 
+	@Mock
+	private ScopeVersionService scopeVersionService;
+
 	@Mock
 	private Principal principal;
 
@@ -56,13 +66,27 @@ class ProjectControllerTest {
 		ProjectResponse response2 = new ProjectResponse();
 		List<ProjectResponse> responses = Arrays.asList(response1, response2);
 
-		when(projectService.findProjectsByUser(principal)).thenReturn(responses);
+		when(principal.getName()).thenReturn("user");
+		when(scopeVersionService.userProjectsTag("user")).thenReturn(new ScopeTag("W/\"a-1-7\"", false));
+		when(projectService.findProjectsByUser(principal, null, 10)).thenReturn(new PageResponse<>(responses, null));
 
-		ResponseEntity<List<ProjectResponse>> result = projectController.getUserProjects(principal);
+		ResponseEntity<List<ProjectResponse>> result = projectController.getUserProjects(principal, null, 10, null);
 
 		assertEquals(responses, result.getBody());
 		assertEquals(HttpStatus.OK, result.getStatusCode());
-		verify(projectService).findProjectsByUser(principal);
+		verify(projectService).findProjectsByUser(principal, null, 10);
+	}
+
+	@Test
+	void testGetUserProjectsNotModified() {
+		when(principal.getName()).thenReturn("user");
+		when(scopeVersionService.userProjectsTag("user")).thenReturn(new ScopeTag("W/\"a-1-7\"", false));
+
+		ResponseEntity<List<ProjectResponse>> result = projectController.getUserProjects(principal, null, 10,
+				"\"a-1-7\"");
+
+		assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+		verifyNoInteractions(projectService);
 	}
 
 	@Test
@@ -80,13 +104,53 @@ class ProjectControllerTest {
 		verify(projectService).update(project, id);
 	}
 
+	@Test
+	void testPatchProject() {
+		Long id = 1L;
+		ProjectPatchRequest patch = ProjectPatchRequest.builder().version(2L).name("Renamed").build();
+		ProjectResponse response = ProjectResponse.builder().id(id).name("Renamed").version(3L).build();
+		when(projectService.patch(patch, id)).thenReturn(response);
+
+		ResponseEntity<ProjectResponse> result = projectController.patch(patch, id);
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(projectService).patch(patch, id);
+	}
+
 	@Test
 	void testDeleteProject() {
 		Long id = 1L;
+		when(projectService.delete(id)).thenReturn(new ProjectDeletionResponse(id, DeletionStatus.COMPLETED, 3, 3));
 
-		ResponseEntity<Void> result = projectController.delete(id);
+		ResponseEntity<ProjectDeletionResponse> result = projectController.delete(id);
 
 		assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
 		verify(projectService).delete(id);
 	}
+
+	@Test
+	void testDeleteLargeProject() {
+		Long id = 1L;
+		ProjectDeletionResponse response = new ProjectDeletionResponse(id, DeletionStatus.PENDING, 5000, 0);
+		when(projectService.delete(id)).thenReturn(response);
+
+		ResponseEntity<ProjectDeletionResponse> result = projectController.delete(id);
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+	}
+
+	@Test
+	void testGetDeletionStatus() {
+		Long id = 1L;
+		ProjectDeletionResponse response = new ProjectDeletionResponse(id, DeletionStatus.IN_PROGRESS, 5000, 1500);
+		when(projectService.deletionStatus(id)).thenReturn(response);
+
+		ResponseEntity<ProjectDeletionResponse> result = projectController.getDeletionStatus(id);
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(projectService).deletionStatus(id);
+	}
 }
@@ -1,12 +1,16 @@
 package com.kruger.backend.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.security.Principal;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,9 +20,21 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.kruger.backend.dto.request.TaskBulkRequest;
+import com.kruger.backend.dto.request.TaskPatchRequest;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskBulkResponse;
 import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.dto.response.TaskStatsResponse;
 import com.kruger.backend.entity.Task;
+import com.kruger.backend.service.OverdueTaskService;
+import com.kruger.backend.service.ScopeVersionService;
+import com.kruger.backend.service.TaskSearchService;
 import com.kruger.backend.service.TaskService;
+import com.kruger.backend.service.TaskStatsService;
+import com.kruger.backend.utils.enums.TaskStatus;
+import com.kruger.backend.utils.etag.ScopeTag;
+import com.kruger.backend.utils.pagination.CursorPagination;
 
 class TaskControllerTest {
 
@@ -28,6 +44,18 @@ class TaskControllerTest {
 	@Mock
 	private TaskService taskService;
 
+	@Mock
+	private TaskStatsService taskStatsService;
+
+	@Mock
+	private ScopeVersionService scopeVersionService;
+
+	@Mock
+	private TaskSearchService taskSearchService;
+
+	@Mock
+	private OverdueTaskService overdueTaskService;
+
 	@Mock
 	private Principal principal;
 
@@ -57,13 +85,58 @@ class TaskControllerTest {
 		List<TaskResponse> responses = Arrays.asList(response1, response2);
 
 		when(principal.getName()).thenReturn("user");
-		when(taskService.findProjectByParameters("user")).thenReturn(responses);
+		when(scopeVersionService.userTasksTag("user")).thenReturn(new ScopeTag("W/\"a-0-3\"", false));
+		when(taskService.findProjectByParameters("user", null, null))
+				.thenReturn(new PageResponse<>(responses, null));
 
-		ResponseEntity<List<TaskResponse>> result = taskController.getUserTasks(principal);
+		ResponseEntity<List<TaskResponse>> result = taskController.getUserTasks(principal, null, null, "W/\"a-0-2\"");
 
 		assertEquals(responses, result.getBody());
 		assertEquals(HttpStatus.OK, result.getStatusCode());
-		verify(taskService).findProjectByParameters("user");
+		assertEquals("W/\"a-0-3\"", result.getHeaders().getETag());
+		assertNull(result.getHeaders().getFirst(CursorPagination.NEXT_CURSOR_HEADER));
+		verify(taskService).findProjectByParameters("user", null, null);
+	}
+
+	@Test
+	void testGetUserTasksNotModified() {
+		when(principal.getName()).thenReturn("user");
+		when(scopeVersionService.userTasksTag("user")).thenReturn(new ScopeTag("W/\"a-0-3\"", false));
+
+		ResponseEntity<List<TaskResponse>> result = taskController.getUserTasks(principal, null, null, "W/\"a-0-3\"");
+
+		assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+		assertEquals("W/\"a-0-3\"", result.getHeaders().getETag());
+		assertNull(result.getBody());
+		verifyNoInteractions(taskService);
+	}
+
+	@Test
+	void testSearch() {
+		TaskResponse response = new TaskResponse();
+		when(principal.getName()).thenReturn("user");
+		when(taskSearchService.search("user", "deploy", 2L, null, 20))
+				.thenReturn(new PageResponse<>(List.of(response), "next"));
+
+		ResponseEntity<List<TaskResponse>> result = taskController.search(principal, "deploy", 2L, null, 20);
+
+		assertEquals(List.of(response), result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		assertEquals("next", result.getHeaders().getFirst(CursorPagination.NEXT_CURSOR_HEADER));
+		verify(taskSearchService).search("user", "deploy", 2L, null, 20);
+	}
+
+	@Test
+	void testGetOverdue() {
+		TaskResponse response = new TaskResponse();
+		when(principal.getName()).thenReturn("user");
+		when(overdueTaskService.overdueForUser("user", null, null)).thenReturn(new PageResponse<>(List.of(response), null));
+
+		ResponseEntity<List<TaskResponse>> result = taskController.getOverdue(principal, null, null);
+
+		assertEquals(List.of(response), result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(overdueTaskService).overdueForUser("user", null, null);
 	}
 
 	@Test
@@ -73,13 +146,15 @@ class TaskControllerTest {
 		TaskResponse response2 = new TaskResponse();
 		List<TaskResponse> responses = Arrays.asList(response1, response2);
 
-		when(taskService.findProjectById(projectId)).thenReturn(responses);
+		when(scopeVersionService.projectTasksTag(projectId)).thenReturn(new ScopeTag("W/\"a-0-1\"", false));
+		when(taskService.findProjectById(projectId, "cursor", 2)).thenReturn(new PageResponse<>(responses, "next"));
 
-		ResponseEntity<List<TaskResponse>> result = taskController.getByProject(projectId);
+		ResponseEntity<List<TaskResponse>> result = taskController.getByProject(projectId, "cursor", 2, null);
 
 		assertEquals(responses, result.getBody());
 		assertEquals(HttpStatus.OK, result.getStatusCode());
-		verify(taskService).findProjectById(projectId);
+		assertEquals("next", result.getHeaders().getFirst(CursorPagination.NEXT_CURSOR_HEADER));
+		verify(taskService).findProjectById(projectId, "cursor", 2);
 	}
 
 	@Test
@@ -106,4 +181,62 @@ class TaskControllerTest {
 		assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
 		verify(taskService).delete(id);
 	}
+
+	@Test
+	void testGetUserStats() {
+		Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+		counts.put(TaskStatus.PENDING, 2L);
+		TaskStatsResponse response = new TaskStatsResponse(counts, 2L);
+
+		when(principal.getName()).thenReturn("user");
+		when(taskStatsService.countsForUser("user")).thenReturn(response);
+
+		ResponseEntity<TaskStatsResponse> result = taskController.getUserStats(principal);
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(taskStatsService).countsForUser("user");
+	}
+
+	@Test
+	void testGetProjectStats() {
+		Long projectId = 1L;
+		TaskStatsResponse response = new TaskStatsResponse(new EnumMap<>(TaskStatus.class), 0L);
+
+		when(taskStatsService.countsForProject(projectId)).thenReturn(response);
+
+		ResponseEntity<TaskStatsResponse> result = taskController.getProjectStats(projectId);
+
+		assertEquals(response, result.getBody());
+		verify(taskStatsService).countsForProject(projectId);
+	}
+
+	@Test
+	void testBulk() {
+		TaskBulkRequest request = new TaskBulkRequest();
+		TaskBulkResponse response = new TaskBulkResponse();
+
+		when(principal.getName()).thenReturn("user");
+		when(taskService.bulk(request, "user")).thenReturn(response);
+
+		ResponseEntity<TaskBulkResponse> result = taskController.bulk(request, principal);
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(taskService).bulk(request, "user");
+	}
+
+	@Test
+	void testPatch() {
+		Long id = 1L;
+		TaskPatchRequest patch = TaskPatchRequest.builder().version(3L).status(TaskStatus.DONE).build();
+		TaskResponse response = TaskResponse.builder().id(id).status(TaskStatus.DONE).version(4L).build();
+		when(taskService.patch(patch, id)).thenReturn(response);
+
+		ResponseEntity<TaskResponse> result = taskController.patch(patch, id);
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(taskService).patch(patch, id);
+	}
 }
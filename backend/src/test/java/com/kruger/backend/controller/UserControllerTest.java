@@ -6,6 +6,9 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,9 +22,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.kruger.backend.dto.request.UserRequest;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.UserImportFailure;
+import com.kruger.backend.dto.response.UserImportResponse;
 import com.kruger.backend.dto.response.UserResponse;
 import com.kruger.backend.entity.User;
 import com.kruger.backend.mapper.UserMapper;
+import com.kruger.backend.service.UserImportService;
 import com.kruger.backend.service.UserService;
 
 class UserControllerTest {
@@ -32,6 +39,9 @@ class UserControllerTest {
 	@Mock
 	private UserService userService;
 
+	@Mock
+	private UserImportService userImportService;
+
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
@@ -43,13 +53,13 @@ class UserControllerTest {
 		UserResponse user2 = new UserResponse();
 		List<UserResponse> users = Arrays.asList(user1, user2);
 
-		when(userService.getAllUsers()).thenReturn(users);
+		when(userService.getAllUsers(null, null)).thenReturn(new PageResponse<>(users, null));
 
-		ResponseEntity<List<UserResponse>> result = userController.listAll();
+		ResponseEntity<List<UserResponse>> result = userController.listAll(null, null);
 
 		assertEquals(users, result.getBody());
 		assertEquals(HttpStatus.OK, result.getStatusCode());
-		verify(userService).getAllUsers();
+		verify(userService).getAllUsers(null, null);
 	}
 
 	@Test
@@ -89,4 +99,20 @@ class UserControllerTest {
 			mockedMapper.verify(() -> UserMapper.toResponse(user));
 		}
 	}
+
+	@Test
+	void testImportUsers() {
+		InputStream body = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+		UserImportResponse response = UserImportResponse.builder().received(2).created(1).failed(1)
+				.failures(List.of(new UserImportFailure(1, "taken@test.com", "A user with this email already exists")))
+				.build();
+
+		when(userImportService.importUsers(body)).thenReturn(response);
+
+		ResponseEntity<UserImportResponse> result = userController.importUsers(body);
+
+		assertEquals(response, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(userImportService).importUsers(body);
+	}
 }
@@ -0,0 +1,87 @@
+package com.kruger.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.kruger.backend.dto.request.WebhookEndpointRequest;
+import com.kruger.backend.dto.response.WebhookEndpointResponse;
+import com.kruger.backend.service.WebhookService;
+import com.kruger.backend.utils.exception.BadRequestException;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+class WebhookControllerTest {
+
+	@InjectMocks
+	private WebhookController webhookController;
+
+	@Mock
+	private WebhookService webhookService;
+
+	private WebhookEndpointResponse endpoint;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		endpoint = new WebhookEndpointResponse(1L, "https://hooks.example.com/kruger", 4, true,
+				LocalDateTime.now(), 0, 0);
+	}
+
+	@Test
+	void testRegister() {
+		WebhookEndpointRequest request = new WebhookEndpointRequest("https://hooks.example.com/kruger", "s3cret", 4);
+		when(webhookService.register(request)).thenReturn(endpoint);
+
+		ResponseEntity<WebhookEndpointResponse> result = webhookController.register(request);
+
+		assertEquals(endpoint, result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(webhookService).register(request);
+	}
+
+	@Test
+	void testRegisterInvalidUrl() {
+		WebhookEndpointRequest request = new WebhookEndpointRequest("ftp://hooks.example.com", null, null);
+		when(webhookService.register(request)).thenThrow(new BadRequestException("url must be an absolute http or https URL"));
+
+		assertThrows(BadRequestException.class, () -> webhookController.register(request));
+	}
+
+	@Test
+	void testFindAll() {
+		when(webhookService.findAll()).thenReturn(List.of(endpoint));
+
+		ResponseEntity<List<WebhookEndpointResponse>> result = webhookController.findAll();
+
+		assertEquals(List.of(endpoint), result.getBody());
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+	}
+
+	@Test
+	void testDelete() {
+		ResponseEntity<Void> result = webhookController.delete(1L);
+
+		assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
+		verify(webhookService).delete(1L);
+	}
+
+	@Test
+	void testDeleteNotFound() {
+		doThrow(new ResourceNotFoundException("Webhook endpoint with ID 9 not found")).when(webhookService).delete(9L);
+
+		assertThrows(ResourceNotFoundException.class, () -> webhookController.delete(9L));
+	}
+}
@@ -0,0 +1,80 @@
+package com.kruger.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Raw latency samples per endpoint. Each load worker owns one recorder so the
+ * hot path never synchronizes; the recorders are merged once the run is over.
+ */
+class LatencyRecorder {
+
+	private final Map<String, Samples> byEndpoint = new TreeMap<>();
+
+	void record(String endpoint, long nanos, boolean error) {
+		Samples samples = byEndpoint.computeIfAbsent(endpoint, key -> new Samples());
+		samples.add(nanos);
+		if (error) {
+			samples.errors++;
+		}
+	}
+
+	void merge(LatencyRecorder other) {
+		other.byEndpoint.forEach((endpoint, samples) -> byEndpoint.computeIfAbsent(endpoint, key -> new Samples()).addAll(samples));
+	}
+
+	Map<String, Samples> samples() {
+		return byEndpoint;
+	}
+
+	static class Samples {
+
+		private long[] values = new long[1024];
+
+		private int size;
+
+		private long errors;
+
+		void add(long nanos) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = nanos;
+		}
+
+		void addAll(Samples other) {
+			if (size + other.size > values.length) {
+				values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+			}
+			System.arraycopy(other.values, 0, values, size, other.size);
+			size += other.size;
+			errors += other.errors;
+		}
+
+		int count() {
+			return size;
+		}
+
+		long errors() {
+			return errors;
+		}
+
+		/**
+		 * Nearest-rank percentiles in milliseconds for the given quantiles.
+		 */
+		double[] percentilesMillis(double... quantiles) {
+			long[] sorted = Arrays.copyOf(values, size);
+			Arrays.sort(sorted);
+			double[] result = new double[quantiles.length];
+			for (int i = 0; i < quantiles.length; i++) {
+				if (size == 0) {
+					continue;
+				}
+				int rank = (int) Math.ceil(quantiles[i] * size);
+				result[i] = sorted[Math.min(Math.max(rank, 1), size) - 1] / 1_000_000.0;
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.kruger.backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per endpoint for one measured window.
+ */
+class LoadReport {
+
+	private final List<Row> rows = new ArrayList<>();
+
+	private final double seconds;
+
+	private final int concurrency;
+
+	LoadReport(LatencyRecorder recorder, double seconds, int concurrency) {
+		this.seconds = seconds;
+		this.concurrency = concurrency;
+		recorder.samples().forEach((endpoint, samples) -> {
+			double[] p = samples.percentilesMillis(0.50, 0.95, 0.99, 1.0);
+			rows.add(new Row(endpoint, samples.count(), samples.errors(), samples.count() / seconds, p[0], p[1], p[2], p[3]));
+		});
+	}
+
+	List<Row> rows() {
+		return rows;
+	}
+
+	long totalErrors() {
+		return rows.stream().mapToLong(Row::errors).sum();
+	}
+
+	String format() {
+		StringBuilder out = new StringBuilder();
+		long total = rows.stream().mapToLong(Row::count).sum();
+		out.append(String.format("Load test: %d workers, %.1f s measured, %d requests, %.1f req/s%n",
+				concurrency, seconds, total, total / seconds));
+		out.append(String.format("%-32s %8s %7s %9s %9s %9s %9s %9s%n",
+				"endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+		for (Row row : rows) {
+			out.append(String.format("%-32s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", row.endpoint(), row.count(),
+					row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.max()));
+		}
+		return out.toString();
+	}
+
+	Map<String, Object> toMap() {
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		for (Row row : rows) {
+			Map<String, Object> values = new LinkedHashMap<>();
+			values.put("count", row.count());
+			values.put("errors", row.errors());
+			values.put("throughput", row.throughput());
+			values.put("p50Ms", row.p50());
+			values.put("p95Ms", row.p95());
+			values.put("p99Ms", row.p99());
+			values.put("maxMs", row.max());
+			endpoints.put(row.endpoint(), values);
+		}
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("concurrency", concurrency);
+		report.put("seconds", seconds);
+		report.put("endpoints", endpoints);
+		return report;
+	}
+
+	record Row(String endpoint, int count, long errors, double throughput, double p50, double p95, double p99,
+			double max) {
+	}
+}
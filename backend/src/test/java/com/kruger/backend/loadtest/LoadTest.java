@@ -0,0 +1,303 @@
+package com.kruger.backend.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kruger.backend.dto.request.LoginRequest;
+import com.kruger.backend.dto.request.UserRequest;
+import com.kruger.backend.dto.response.LoginResponse;
+import com.kruger.backend.dto.response.ProjectResponse;
+import com.kruger.backend.dto.response.TaskBulkResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.dto.response.UserResponse;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+/**
+ * End-to-end load test. Starts the application on a random port against a
+ * local PostgreSQL database (migrated by Flyway on startup), seeds users,
+ * projects and tasks through the API, logs every user in through
+ * /auth/login and then drives a weighted mix of /tasks, /projects, /users and
+ * /auth requests from a fixed number of closed-loop workers. Prints
+ * throughput and p50/p95/p99/max per endpoint and writes the same figures to
+ * target/loadtest/report-&lt;run&gt;.json.
+ *
+ * Run with LOADTEST_DB_URL (e.g. jdbc:postgresql://localhost:5432/ktestfulldb),
+ * LOADTEST_DB_USER and LOADTEST_DB_PASSWORD set. LOADTEST_CONCURRENCY,
+ * LOADTEST_USERS, LOADTEST_PROJECTS_PER_USER, LOADTEST_TASKS_PER_PROJECT,
+ * LOADTEST_WARMUP_SECONDS and LOADTEST_DURATION_SECONDS size the run;
+ * LOADTEST_MAX_P99_MS fails it when any endpoint is slower at p99.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfEnvironmentVariable(named = "LOADTEST_DB_URL", matches = ".+")
+class LoadTest {
+
+	private static final String[] WORDS = { "alpha", "bravo", "charlie", "delta", "echo", "foxtrot" };
+
+	private static final int BULK_CHUNK = 1000;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> System.getenv("LOADTEST_DB_URL"));
+		registry.add("spring.datasource.username", () -> setting("LOADTEST_DB_USER", "ktestfull"));
+		registry.add("spring.datasource.password", () -> setting("LOADTEST_DB_PASSWORD", "ktestpassfull"));
+		registry.add("app.jwt.secret", () -> setting("LOADTEST_JWT_SECRET", "LoadTestSecretKruger1234567890123456"));
+		registry.add("app.jwt.expiration", () -> "86400000");
+		registry.add("springdoc.swagger.prod.dev", () -> "http://localhost/ktestfull");
+		// a few users driving many workers would otherwise measure the rate limiter
+		registry.add("app.rate-limit.enabled", () -> setting("LOADTEST_RATE_LIMIT", "false"));
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private HttpClient client;
+
+	private String baseUrl;
+
+	@Test
+	void testMixedWorkload() throws Exception {
+		int concurrency = Integer.parseInt(setting("LOADTEST_CONCURRENCY", "16"));
+		int users = Integer.parseInt(setting("LOADTEST_USERS", "8"));
+		int projectsPerUser = Integer.parseInt(setting("LOADTEST_PROJECTS_PER_USER", "5"));
+		int tasksPerProject = Integer.parseInt(setting("LOADTEST_TASKS_PER_PROJECT", "200"));
+		int warmupSeconds = Integer.parseInt(setting("LOADTEST_WARMUP_SECONDS", "10"));
+		int durationSeconds = Integer.parseInt(setting("LOADTEST_DURATION_SECONDS", "60"));
+		String maxP99 = setting("LOADTEST_MAX_P99_MS", null);
+
+		baseUrl = "http://localhost:" + port + "/ktestfull";
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5))
+				.build();
+
+		String run = Long.toString(System.currentTimeMillis(), 36);
+		List<Session> sessions = seed(run, users, projectsPerUser, tasksPerProject);
+		long[] userIds = sessions.stream().mapToLong(Session::userId).toArray();
+
+		List<Operation> operations = operations(userIds);
+		int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+
+		long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+		long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+		LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+		CountDownLatch done = new CountDownLatch(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			LatencyRecorder recorder = new LatencyRecorder();
+			recorders[i] = recorder;
+			Session session = sessions.get(i % sessions.size());
+			Random random = new Random(i);
+			Thread worker = new Thread(() -> {
+				try {
+					drive(session, operations, totalWeight, random, recorder, measureFrom, end);
+				} finally {
+					done.countDown();
+				}
+			}, "load-" + i);
+			worker.start();
+		}
+		done.await();
+
+		LatencyRecorder merged = new LatencyRecorder();
+		for (LatencyRecorder recorder : recorders) {
+			merged.merge(recorder);
+		}
+		LoadReport report = new LoadReport(merged, durationSeconds, concurrency);
+		System.out.println(report.format());
+		Path out = Path.of("target", "loadtest", "report-" + run + ".json");
+		Files.createDirectories(out.getParent());
+		Files.writeString(out, objectMapper.writeValueAsString(report.toMap()));
+		System.out.println("Report written to " + out.toAbsolutePath());
+
+		assertEquals(0, report.totalErrors(), "requests failed during the run");
+		if (maxP99 != null) {
+			double limit = Double.parseDouble(maxP99);
+			for (LoadReport.Row row : report.rows()) {
+				assertTrue(row.p99() <= limit, () -> row.endpoint() + " p99 " + row.p99() + " ms exceeds " + limit + " ms");
+			}
+		}
+	}
+
+	private void drive(Session session, List<Operation> operations, int totalWeight, Random random,
+			LatencyRecorder recorder, long measureFrom, long end) {
+		while (true) {
+			long start = System.nanoTime();
+			if (start >= end) {
+				return;
+			}
+			Operation operation = pick(operations, totalWeight, random);
+			int status;
+			try {
+				status = client.send(operation.request().build(session, random), HttpResponse.BodyHandlers.discarding())
+						.statusCode();
+			} catch (IOException e) {
+				status = -1;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			long elapsed = System.nanoTime() - start;
+			if (start >= measureFrom) {
+				// 409 is the optimistic lock answering two workers editing the same task; not a failure
+				recorder.record(operation.name(), elapsed, status < 200 || (status >= 400 && status != 409));
+			}
+		}
+	}
+
+	private List<Operation> operations(long[] userIds) {
+		List<Operation> operations = new ArrayList<>();
+		operations.add(new Operation("GET /tasks", 20, (s, r) -> get(s, "/tasks")));
+		operations.add(new Operation("GET /tasks/project/{id}", 15,
+				(s, r) -> get(s, "/tasks/project/" + s.projectIds()[r.nextInt(s.projectIds().length)])));
+		operations.add(new Operation("GET /tasks/search", 8,
+				(s, r) -> get(s, "/tasks/search?q=" + URLEncoder.encode(WORDS[r.nextInt(WORDS.length)], StandardCharsets.UTF_8))));
+		operations.add(new Operation("GET /tasks/stats", 5, (s, r) -> get(s, "/tasks/stats")));
+		operations.add(new Operation("POST /tasks", 8, (s, r) -> post(s, "/tasks",
+				task("Load task " + WORDS[r.nextInt(WORDS.length)], s.projectIds()[r.nextInt(s.projectIds().length)]))));
+		operations.add(new Operation("PUT /tasks/{id}", 10, (s, r) -> put(s, "/tasks/" + s.taskIds()[r.nextInt(s.taskIds().length)],
+				Map.of("title", "Updated " + WORDS[r.nextInt(WORDS.length)], "description", "Updated by load test",
+						"status", TaskStatus.values()[r.nextInt(TaskStatus.values().length)],
+						"dueDate", LocalDate.now().plusDays(r.nextInt(60)).toString()))));
+		operations.add(new Operation("GET /projects", 15, (s, r) -> get(s, "/projects")));
+		operations.add(new Operation("GET /users", 5, (s, r) -> get(s, "/users")));
+		operations.add(new Operation("GET /users/{id}", 10, (s, r) -> get(s, "/users/" + userIds[r.nextInt(userIds.length)])));
+		operations.add(new Operation("POST /auth/login", 4, (s, r) -> json("/auth/login", null)
+				.POST(body(new LoginRequest(s.email(), s.password()))).build()));
+		return operations;
+	}
+
+	private static Operation pick(List<Operation> operations, int totalWeight, Random random) {
+		int ticket = random.nextInt(totalWeight);
+		for (Operation operation : operations) {
+			ticket -= operation.weight();
+			if (ticket < 0) {
+				return operation;
+			}
+		}
+		return operations.get(operations.size() - 1);
+	}
+
+	private List<Session> seed(String run, int users, int projectsPerUser, int tasksPerProject) throws Exception {
+		String adminToken = login(setting("LOADTEST_ADMIN_EMAIL", "kruger@test.com"), setting("LOADTEST_ADMIN_PASSWORD", "kruger"));
+		List<Session> sessions = new ArrayList<>();
+		for (int u = 0; u < users; u++) {
+			String email = "load-" + run + "-" + u + "@test.com";
+			String password = "loadtest";
+			UserResponse user = send(json("/users", adminToken)
+					.POST(body(new UserRequest("load-" + run + "-" + u, email, password, Role.USER))), UserResponse.class);
+			String token = login(email, password);
+
+			long[] projectIds = new long[projectsPerUser];
+			List<Long> taskIds = new ArrayList<>();
+			for (int p = 0; p < projectsPerUser; p++) {
+				ProjectResponse project = send(json("/projects", token)
+						.POST(body(Map.of("name", "Load project " + run + " " + u + "-" + p, "description", "Seeded by the load test"))),
+						ProjectResponse.class);
+				projectIds[p] = project.getId();
+				for (int from = 0; from < tasksPerProject; from += BULK_CHUNK) {
+					List<Map<String, Object>> create = new ArrayList<>();
+					for (int t = from; t < Math.min(from + BULK_CHUNK, tasksPerProject); t++) {
+						create.add(task("Load task " + t + " " + WORDS[t % WORDS.length], project.getId()));
+					}
+					TaskBulkResponse created = send(json("/tasks/bulk", token).POST(body(Map.of("create", create))),
+							TaskBulkResponse.class);
+					created.getCreated().stream().map(TaskResponse::getId).forEach(taskIds::add);
+				}
+			}
+			sessions.add(new Session(user.getId(), email, password, token, projectIds,
+					taskIds.stream().mapToLong(Long::longValue).toArray()));
+		}
+		return sessions;
+	}
+
+	private String login(String email, String password) throws Exception {
+		return send(json("/auth/login", null).POST(body(new LoginRequest(email, password))), LoginResponse.class).getToken();
+	}
+
+	private <T> T send(HttpRequest.Builder request, Class<T> type) throws Exception {
+		HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Seeding failed: " + response.request().method() + " "
+					+ response.request().uri() + " -> " + response.statusCode() + " " + response.body());
+		}
+		return objectMapper.readValue(response.body(), type);
+	}
+
+	private static Map<String, Object> task(String title, long projectId) {
+		return Map.of("title", title, "description", "Seeded by the load test", "status", TaskStatus.PENDING,
+				"dueDate", LocalDate.now().plusDays(30).toString(), "project", Map.of("id", projectId));
+	}
+
+	private HttpRequest get(Session session, String path) {
+		return json(path, session.token()).GET().build();
+	}
+
+	private HttpRequest post(Session session, String path, Object payload) {
+		return json(path, session.token()).POST(body(payload)).build();
+	}
+
+	private HttpRequest put(Session session, String path, Object payload) {
+		return json(path, session.token()).PUT(body(payload)).build();
+	}
+
+	private HttpRequest.Builder json(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30))
+				.header("Content-Type", "application/json").header("Accept", "application/json");
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		return builder;
+	}
+
+	private HttpRequest.BodyPublisher body(Object payload) {
+		try {
+			return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(payload));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String setting(String name, String fallback) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? fallback : value;
+	}
+
+	private record Session(long userId, String email, String password, String token, long[] projectIds,
+			long[] taskIds) {
+	}
+
+	private record Operation(String name, int weight, RequestFactory request) {
+	}
+
+	@FunctionalInterface
+	private interface RequestFactory {
+		HttpRequest build(Session session, Random random);
+	}
+}
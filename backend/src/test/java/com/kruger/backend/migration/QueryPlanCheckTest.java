@@ -0,0 +1,206 @@
+package com.kruger.backend.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+
+import com.kruger.backend.entity.Project;
+import com.kruger.backend.entity.Task;
+import com.kruger.backend.entity.User;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Migrates a local PostgreSQL database and checks that the hot repository
+ * queries are served by the V3 indexes. The queries are taken from the
+ * repositories and run through Hibernate, configured with Boot's naming
+ * strategies; the SQL it sends is captured and explained with the given
+ * parameter values. Sequential scans are disabled for the session so the
+ * check does not depend on table sizes. Run with PLAN_CHECK_URL (e.g.
+ * jdbc:postgresql://localhost:5432/ktestfulldb), PLAN_CHECK_USER and
+ * PLAN_CHECK_PASSWORD set.
+ */
+@EnabledIfEnvironmentVariable(named = "PLAN_CHECK_URL", matches = ".+")
+class QueryPlanCheckTest {
+
+	private static final int PAGE = 51;
+
+	private final List<String> statements = new ArrayList<>();
+
+	private SessionFactory sessionFactory;
+
+	private Connection connection;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		String url = System.getenv("PLAN_CHECK_URL");
+		String user = System.getenv("PLAN_CHECK_USER");
+		String password = System.getenv("PLAN_CHECK_PASSWORD");
+
+		Flyway.configure().dataSource(url, user, password).locations("classpath:db/migration").load().migrate();
+
+		sessionFactory = new Configuration()
+				.addAnnotatedClass(User.class)
+				.addAnnotatedClass(Project.class)
+				.addAnnotatedClass(Task.class)
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+				.setProperty(AvailableSettings.JAKARTA_JDBC_USER, user)
+				.setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+				.setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+				.setProperty(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName())
+				.setStatementInspector((StatementInspector) sql -> {
+					statements.add(sql);
+					return sql;
+				})
+				.buildSessionFactory();
+
+		connection = DriverManager.getConnection(url, user, password);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE");
+			statement.execute("SET enable_seqscan = off");
+		}
+	}
+
+	@AfterEach
+	void tearDown() throws SQLException {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	@Test
+	void testTasksByProjectUseProjectIndex() throws Exception {
+		String sql = capture(em -> em.createQuery(query(TaskRepository.class, "findProjectById", Long.class, Long.class,
+				Pageable.class)).setParameter("projectId", 1L).setParameter("afterId", 0L).setMaxResults(PAGE)
+				.getResultList());
+		assertIndexScan(sql, "idx_task_project_id_id", 1, 0, PAGE);
+	}
+
+	@Test
+	void testTasksByAssigneeUseAssigneeIndex() throws Exception {
+		String sql = capture(em -> em.createQuery(query(TaskRepository.class, "findByParameters", String.class,
+				Long.class, Pageable.class)).setParameter("username", "kruger@test.com").setParameter("afterId", 0L)
+				.setMaxResults(PAGE).getResultList());
+		assertIndexScan(sql, "idx_task_assigned_to_id_id", "kruger@test.com", 0, PAGE);
+	}
+
+	@Test
+	void testProjectsByOwnerUseOwnerIndex() throws Exception {
+		String sql = capture(em -> em.createQuery(query(ProjectRepository.class, "findByUserId", Long.class, Long.class,
+				Pageable.class)).setParameter("userId", 1L).setParameter("afterId", 0L).setMaxResults(PAGE)
+				.getResultList());
+		assertIndexScan(sql, "idx_project_owner_id_id", 1, 0, PAGE);
+	}
+
+	@Test
+	void testUserByEmailUsesEmailIndex() throws Exception {
+		String sql = capture(em -> em.createQuery(query(UserRepository.class, "findIdentityByEmail", String.class))
+				.setParameter("email", "kruger@test.com").getResultList());
+		assertIndexScan(sql, "idx_users_email", "kruger@test.com");
+	}
+
+	@Test
+	void testProjectPurgeChunkUsesProjectIndex() throws Exception {
+		String sql = capture(em -> em.createNativeQuery(query(TaskRepository.class, "deleteChunkByProjectId",
+				Long.class, int.class)).setParameter("projectId", 1L).setParameter("limit", 500).executeUpdate());
+		assertIndexScan(sql, "idx_task_project_id_id", 1, 500);
+	}
+
+	private static String query(Class<?> repository, String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+		return repository.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+	}
+
+	/**
+	 * Runs the query in a transaction that is rolled back and returns the SQL
+	 * Hibernate sent for it.
+	 */
+	private String capture(ThrowingConsumer<EntityManager> query) throws Exception {
+		try (EntityManager em = sessionFactory.createEntityManager()) {
+			em.getTransaction().begin();
+			statements.clear();
+			try {
+				query.accept(em);
+			} finally {
+				em.getTransaction().rollback();
+			}
+		}
+		assertEquals(1, statements.size(), () -> "Expected one statement, got " + statements);
+		return statements.get(0);
+	}
+
+	private void assertIndexScan(String sql, String index, Object... parameters) throws SQLException {
+		String plan = explain(sql, parameters);
+		assertFalse(plan.contains("Seq Scan"), () -> "Sequential scan in plan:\n" + plan);
+		assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+	}
+
+	/**
+	 * Explains the statement with its JDBC placeholders bound, in order, to the
+	 * given values.
+	 */
+	private String explain(String sql, Object... parameters) throws SQLException {
+		StringBuilder numbered = new StringBuilder();
+		int placeholders = 0;
+		for (char c : sql.toCharArray()) {
+			if (c == '?') {
+				numbered.append('$').append(++placeholders);
+			} else {
+				numbered.append(c);
+			}
+		}
+		int bound = placeholders;
+		assertEquals(parameters.length, bound, () -> "Expected " + bound + " parameters for " + sql);
+
+		List<String> values = new ArrayList<>();
+		for (Object parameter : parameters) {
+			values.add(parameter instanceof String text ? "'" + text.replace("'", "''") + "'" : parameter.toString());
+		}
+		StringBuilder plan = new StringBuilder();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("PREPARE plan_check AS " + numbered);
+			try (ResultSet rows = statement.executeQuery("EXPLAIN EXECUTE plan_check(" + String.join(", ", values) + ")")) {
+				while (rows.next()) {
+					plan.append(rows.getString(1)).append('\n');
+				}
+			} finally {
+				statement.execute("DEALLOCATE plan_check");
+			}
+		}
+		return plan.toString();
+	}
+
+	@FunctionalInterface
+	private interface ThrowingConsumer<T> {
+
+		void accept(T value) throws Exception;
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.kruger.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.kruger.backend.entity.User;
+import com.kruger.backend.utils.enums.Role;
+
+class UserImportRepositoryImplTest {
+
+	private static final int INCREMENT = 50;
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final UserImportRepositoryImpl repository = new UserImportRepositoryImpl(jdbcTemplate);
+
+	@Test
+	void testImportedIdsNeverOverlapHibernateIdsOnAFreshSequence() {
+		// users_id_seq as created by V1 and altered by V2, before any id was taken
+		assertDisjoint(new AtomicLong(1), Set.of());
+	}
+
+	@Test
+	void testImportedIdsNeverOverlapHibernateIdsOnASequenceUsedBeforeV2() {
+		// 37 ids handed out one at a time before V2 raised the increment
+		Set<Long> existing = new HashSet<>(LongStream.rangeClosed(1, 37).boxed().toList());
+		assertDisjoint(new AtomicLong(37 + INCREMENT), existing);
+	}
+
+	@Test
+	void testInsertAllReturnsOnlyTheRowsThatWereInserted() {
+		AtomicLong sequence = new AtomicLong(1);
+		stubSequence(sequence);
+		List<User> users = users(3);
+		// the second row lost its email to a concurrent insert, so ON CONFLICT skipped it
+		when(jdbcTemplate.query(eq("SELECT id FROM users WHERE id = ANY (?)"), any(PreparedStatementSetter.class),
+				ArgumentMatchers.<RowMapper<Long>>any())).thenAnswer(call -> List.of(users.get(0).getId(), users.get(2).getId()));
+
+		List<User> inserted = repository.insertAll(users);
+
+		assertEquals(List.of(users.get(0), users.get(2)), inserted);
+	}
+
+	private void assertDisjoint(AtomicLong sequence, Set<Long> existing) {
+		stubSequence(sequence);
+		when(jdbcTemplate.query(eq("SELECT id FROM users WHERE id = ANY (?)"), any(PreparedStatementSetter.class),
+				ArgumentMatchers.<RowMapper<Long>>any())).thenAnswer(call -> List.of());
+		PooledOptimizer hibernate = new PooledOptimizer(Long.class, INCREMENT);
+		AccessCallback callback = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class)
+						.initialize(sequence.getAndAdd(INCREMENT));
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+
+		Set<Long> ids = new HashSet<>(existing);
+		int[] hibernateRuns = { 30, 80, 1, 120 };
+		int[] importRuns = { 120, 10, 50, 49 };
+		for (int run = 0; run < hibernateRuns.length; run++) {
+			for (int i = 0; i < hibernateRuns[run]; i++) {
+				Long id = (Long) hibernate.generate(callback);
+				assertTrue(ids.add(id), "Hibernate reused id " + id);
+			}
+			List<User> users = users(importRuns[run]);
+			repository.insertAll(users);
+			for (User user : users) {
+				assertTrue(user.getId() > 0, "Import assigned id " + user.getId());
+				assertTrue(ids.add(user.getId()), "Import reused id " + user.getId());
+			}
+		}
+	}
+
+	private void stubSequence(AtomicLong sequence) {
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyInt())).thenAnswer(call -> {
+			int count = call.getArgument(2);
+			List<Long> values = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				values.add(sequence.getAndAdd(INCREMENT));
+			}
+			return values;
+		});
+	}
+
+	private static List<User> users(int count) {
+		List<User> users = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			users.add(User.builder().username("user" + i).email("user" + i + "@test.com").password("hash")
+					.role(Role.USER).build());
+		}
+		return users;
+	}
+}
@@ -0,0 +1,143 @@
+package com.kruger.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kruger.backend.dto.WebhookMessage;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the fan-out and claim statements against a migrated local PostgreSQL
+ * database, inside a transaction that is rolled back. Uses the same
+ * PLAN_CHECK_URL, PLAN_CHECK_USER and PLAN_CHECK_PASSWORD as
+ * QueryPlanCheckTest.
+ */
+@EnabledIfEnvironmentVariable(named = "PLAN_CHECK_URL", matches = ".+")
+class WebhookDispatchRepositoryImplTest {
+
+	private static final int LIMIT = 500;
+
+	private final WebhookDispatchRepositoryImpl repository = new WebhookDispatchRepositoryImpl();
+
+	private final LocalDateTime now = LocalDateTime.now();
+
+	private SessionFactory sessionFactory;
+
+	private EntityManager entityManager;
+
+	private Long endpointId;
+
+	@BeforeEach
+	void setUp() {
+		String url = System.getenv("PLAN_CHECK_URL");
+		String user = System.getenv("PLAN_CHECK_USER");
+		String password = System.getenv("PLAN_CHECK_PASSWORD");
+
+		Flyway.configure().dataSource(url, user, password).locations("classpath:db/migration").load().migrate();
+
+		sessionFactory = new Configuration()
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+				.setProperty(AvailableSettings.JAKARTA_JDBC_USER, user)
+				.setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+				.buildSessionFactory();
+		entityManager = sessionFactory.createEntityManager();
+		entityManager.getTransaction().begin();
+		ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+		// events left over in the database go to the endpoints that already exist
+		fanOut();
+
+		endpointId = ((Number) entityManager.createNativeQuery("INSERT INTO webhook_endpoint "
+				+ "(url, max_in_flight, active, created_at) VALUES ('http://127.0.0.1/hook', 4, true, now()) RETURNING id")
+				.getSingleResult()).longValue();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (entityManager != null) {
+			entityManager.getTransaction().rollback();
+			entityManager.close();
+		}
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	@Test
+	void testClaimTakesOnlyTheOldestPendingEventOfEachAggregate() {
+		Long first = record("task", 1L);
+		Long second = record("task", 1L);
+		Long other = record("task", 2L);
+		fanOut();
+
+		assertEquals(List.of(first, other), eventIds(claim(now)));
+
+		// the first event is delivered; the second is next for its task, the other is still leased
+		entityManager.createNativeQuery("DELETE FROM webhook_delivery WHERE endpoint_id = :endpointId AND event_id = :eventId")
+				.setParameter("endpointId", endpointId).setParameter("eventId", first).executeUpdate();
+		assertEquals(List.of(second), eventIds(claim(now)));
+	}
+
+	@Test
+	void testLeasedDeliveryIsClaimedAgainOnceTheLeaseExpires() {
+		Long event = record("project", 3L);
+		fanOut();
+
+		List<WebhookMessage> claimed = claim(now);
+		assertEquals(List.of(event), eventIds(claimed));
+		assertEquals(1, claimed.get(0).getAttempts());
+		assertEquals(List.of(), claim(now.plusSeconds(30)));
+
+		List<WebhookMessage> reclaimed = claim(now.plusMinutes(2));
+		assertEquals(List.of(event), eventIds(reclaimed));
+		assertEquals(claimed.get(0).getDeliveryId(), reclaimed.get(0).getDeliveryId());
+		assertEquals(2, reclaimed.get(0).getAttempts());
+	}
+
+	@Test
+	void testDeadDeliveryNoLongerHoldsBackItsAggregate() {
+		Long dead = record("task", 4L);
+		Long next = record("task", 4L);
+		fanOut();
+
+		WebhookMessage claimed = claim(now).get(0);
+		assertEquals(dead, claimed.getEventId());
+		entityManager.createNativeQuery("UPDATE webhook_delivery SET status = 'DEAD' WHERE id = :id")
+				.setParameter("id", claimed.getDeliveryId()).executeUpdate();
+
+		assertEquals(List.of(next), eventIds(claim(now)));
+	}
+
+	private Long record(String aggregateType, Long aggregateId) {
+		return ((Number) entityManager.createNativeQuery("INSERT INTO outbox_event "
+				+ "(aggregate_type, aggregate_id, event_type, payload) VALUES (:type, :id, 'UPDATED', '{}') RETURNING id")
+				.setParameter("type", aggregateType).setParameter("id", aggregateId).getSingleResult()).longValue();
+	}
+
+	private void fanOut() {
+		int taken;
+		do {
+			taken = repository.fanOut(LIMIT, now);
+		} while (taken == LIMIT);
+	}
+
+	private List<WebhookMessage> claim(LocalDateTime at) {
+		return repository.claim(endpointId, 50, at, at.plusMinutes(1));
+	}
+
+	private static List<Long> eventIds(List<WebhookMessage> messages) {
+		return messages.stream().map(WebhookMessage::getEventId).toList();
+	}
+}
@@ -0,0 +1,85 @@
+package com.kruger.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.entity.Project;
+import com.kruger.backend.entity.User;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+class ChangeFeedServiceImplTest {
+
+	private static final long PROJECT = 10L;
+
+	private ChangeFeedServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		UserIdentityService userIdentityService = mock(UserIdentityService.class);
+		when(userIdentityService.resolve("owner@test.com")).thenReturn(new UserIdentity(1L, "owner", "owner@test.com", Role.USER));
+		when(userIdentityService.resolve("member@test.com")).thenReturn(new UserIdentity(2L, "member", "member@test.com", Role.USER));
+		when(userIdentityService.resolve("admin@test.com")).thenReturn(new UserIdentity(3L, "admin", "admin@test.com", Role.ADMIN));
+		ProjectRepository projectRepository = mock(ProjectRepository.class);
+		Project project = new Project();
+		project.setId(PROJECT);
+		project.setOwner(User.builder().id(1L).build());
+		when(projectRepository.findActiveById(PROJECT)).thenReturn(Optional.of(project));
+		when(projectRepository.findActiveById(11L)).thenReturn(Optional.empty());
+
+		service = new ChangeFeedServiceImpl(userIdentityService, projectRepository, 60000, 16, 5, 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void testOwnerAndAdminWatchEveryTaskOfTheProject() {
+		service.subscribe("owner@test.com", PROJECT, null);
+		service.subscribe("admin@test.com", PROJECT, null);
+
+		assertEquals(2, projectSubscribers().get(PROJECT).size());
+		assertEquals(Set.of(1L, 3L), userSubscribers().keySet());
+	}
+
+	@Test
+	void testOtherUsersOnlyGetTheirOwnStream() {
+		service.subscribe("member@test.com", PROJECT, null);
+
+		assertTrue(projectSubscribers().isEmpty());
+		assertEquals(Set.of(2L), userSubscribers().keySet());
+	}
+
+	@Test
+	void testMissingOrDeletedProjectIsNotFound() {
+		assertThrows(ResourceNotFoundException.class, () -> service.subscribe("admin@test.com", 11L, null));
+		assertTrue(userSubscribers().isEmpty());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, Set<?>> projectSubscribers() {
+		return (Map<Long, Set<?>>) ReflectionTestUtils.getField(service, "byProject");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, Set<?>> userSubscribers() {
+		return (Map<Long, Set<?>>) ReflectionTestUtils.getField(service, "byUser");
+	}
+}
@@ -0,0 +1,87 @@
+package com.kruger.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+class OutboxServiceImplTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final EntityManager entityManager = mock(EntityManager.class);
+
+	private final OutboxServiceImpl service = new OutboxServiceImpl(jdbcTemplate, new ObjectMapper());
+
+	{
+		ReflectionTestUtils.setField(service, "entityManager", entityManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clear();
+		}
+	}
+
+	@Test
+	void testEventsAreInsertedBeforeCommitAfterTheFlush() {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		service.record("task", 1L, "CREATED", Map.of("id", 1));
+		service.record("task", 1L, "UPDATED", Map.of("id", 1));
+		verifyNoInteractions(jdbcTemplate);
+		assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+		InOrder order = inOrder(entityManager, jdbcTemplate);
+		order.verify(entityManager).flush();
+		order.verify(jdbcTemplate).batchUpdate(anyString(),
+				ArgumentMatchers.<Collection<Object>>argThat(rows -> rows.size() == 2), eq(500),
+				ArgumentMatchers.<ParameterizedPreparedStatementSetter<Object>>any());
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+	}
+
+	@Test
+	void testEventIsInsertedAtOnceWithoutATransaction() {
+		service.record("project", 2L, "DELETED", Map.of("projectId", 2));
+
+		verify(jdbcTemplate).batchUpdate(anyString(), ArgumentMatchers.<Collection<Object>>any(), anyInt(), any());
+		verifyNoInteractions(entityManager);
+	}
+
+	@Test
+	void testUnserializableEventFailsTheWrite() {
+		assertThrows(IllegalStateException.class, () -> service.record("task", 1L, "CREATED", new Object()));
+		verifyNoInteractions(jdbcTemplate);
+	}
+}
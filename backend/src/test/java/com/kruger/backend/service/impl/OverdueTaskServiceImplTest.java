@@ -0,0 +1,254 @@
+package com.kruger.backend.service.impl;
+
+import static com.kruger.backend.service.impl.TaskViewFixtures.ids;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kruger.backend.dto.TaskDue;
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskOverdueEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+class OverdueTaskServiceImplTest {
+
+	private static final ZoneId ZONE = ZoneOffset.ofHours(-5);
+
+	private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+	private static final long USER = 7L;
+
+	private static final long PROJECT = 3L;
+
+	private final MutableClock clock = new MutableClock(TODAY.atTime(9, 0).atZone(ZONE).toInstant());
+
+	private final List<Long> published = new ArrayList<>();
+
+	private TaskRepository taskRepository;
+
+	private OverdueTaskServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		taskRepository = TaskViewFixtures.taskRepository();
+		when(taskRepository.streamOpenWithDueDate()).thenReturn(Stream.empty());
+		UserIdentityService userIdentityService = mock(UserIdentityService.class);
+		when(userIdentityService.resolve("user@test.com")).thenReturn(new UserIdentity(USER, "user", "user@test.com", Role.USER));
+		ApplicationEventPublisher eventPublisher = event -> published.add(((TaskOverdueEvent) event).getTaskId());
+
+		// a small wheel so that due dates a few days out already go through the overflow
+		service = new OverdueTaskServiceImpl(taskRepository, userIdentityService, TaskViewFixtures.pagination(),
+				eventPublisher, mock(PlatformTransactionManager.class), clock, 4);
+	}
+
+	@Test
+	void testTaskDueTodayIsOverdueFromTheNextDay() {
+		create(1, TODAY);
+
+		clock.set(TODAY.atTime(23, 59, 59));
+		service.tick();
+		assertEquals(List.of(), overdue());
+
+		clock.set(TODAY.plusDays(1).atStartOfDay());
+		service.tick();
+		assertEquals(List.of(1L), overdue());
+		assertEquals(List.of(1L), published);
+	}
+
+	@Test
+	void testDayStartsInTheConfiguredZone() {
+		create(1, TODAY);
+
+		// already the next day in UTC, still today in the clock's zone
+		clock.set(TODAY.atTime(22, 0));
+		service.tick();
+
+		assertEquals(List.of(), overdue());
+	}
+
+	@Test
+	void testTaskCreatedPastItsDueDateIsOverdueAtOnce() {
+		create(1, TODAY.minusDays(1));
+
+		assertEquals(List.of(1L), overdue());
+		assertEquals(List.of(1L), published);
+	}
+
+	@Test
+	void testEditingAnOverdueTaskDoesNotPublishAgain() {
+		TaskSnapshot task = create(1, TODAY.minusDays(2));
+		update(task, snapshot(1, TODAY.minusDays(1), TaskStatus.IN_PROGRESS));
+
+		assertEquals(List.of(1L), overdue());
+		assertEquals(List.of(1L), published);
+	}
+
+	@Test
+	void testMovingTheDueDateReschedules() {
+		TaskSnapshot task = create(1, TODAY);
+		TaskSnapshot later = update(task, snapshot(1, TODAY.plusDays(2), TaskStatus.PENDING));
+
+		advanceDays(2);
+		assertEquals(List.of(), overdue());
+		advanceDays(1);
+		assertEquals(List.of(1L), overdue());
+
+		// moved back out of the past: no longer overdue
+		update(later, snapshot(1, TODAY.plusDays(10), TaskStatus.PENDING));
+		assertEquals(List.of(), overdue());
+		assertEquals(List.of(1L), published);
+	}
+
+	@Test
+	void testDoneAndDeletedTasksAreForgotten() {
+		TaskSnapshot done = create(1, TODAY.minusDays(1));
+		TaskSnapshot deleted = create(2, TODAY.minusDays(1));
+		TaskSnapshot scheduled = create(3, TODAY.plusDays(1));
+		update(done, snapshot(1, TODAY.minusDays(1), TaskStatus.DONE));
+		service.onTaskChanged(TaskChangedEvent.deleted(deleted));
+		service.onTaskChanged(TaskChangedEvent.deleted(scheduled));
+
+		advanceDays(5);
+		assertEquals(List.of(), overdue());
+		assertEquals(List.of(1L, 2L), published);
+	}
+
+	@Test
+	void testDeletedProjectCancelsItsTasks() {
+		create(1, TODAY.minusDays(1));
+		create(2, TODAY.plusDays(1));
+		create(3, TODAY.plusDays(30));
+		service.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(4L, USER, 99L, TaskStatus.PENDING, "t", null,
+				TODAY.plusDays(1))));
+
+		service.onProjectChanged(new ProjectChangedEvent(ChangeType.DELETED, PROJECT, 1L));
+		advanceDays(40);
+
+		assertEquals(List.of(4L), overdue());
+		assertEquals(List.of(1L, 4L), published);
+	}
+
+	@Test
+	void testDueDatesBeyondTheWheelFireOnTheirDay() {
+		create(1, TODAY.plusDays(3));
+		create(2, TODAY.plusDays(9));
+		create(3, TODAY.plusDays(400));
+
+		List<Integer> days = new ArrayList<>();
+		for (int day = 1; day <= 401; day++) {
+			int before = published.size();
+			advanceDays(1);
+			if (published.size() > before) {
+				days.add(day);
+			}
+		}
+
+		assertEquals(List.of(4, 10, 401), days);
+		assertEquals(List.of(1L, 2L, 3L), overdue());
+	}
+
+	@Test
+	void testRebuildLoadsOpenTasks() {
+		when(taskRepository.streamOpenWithDueDate()).thenReturn(Stream.of(
+				new TaskDue(1L, USER, PROJECT, TODAY.minusDays(3)),
+				new TaskDue(2L, USER, PROJECT, TODAY.minusDays(1)),
+				new TaskDue(3L, USER, PROJECT, TODAY)));
+
+		service.rebuild();
+
+		// overdue before the restart, so not announced again
+		assertEquals(List.of(1L, 2L), overdue());
+		assertEquals(List.of(), published);
+		advanceDays(1);
+		assertEquals(List.of(1L, 2L, 3L), overdue());
+		assertEquals(List.of(3L), published);
+	}
+
+	@Test
+	void testOverduePagesAreOldestFirst() {
+		create(1, TODAY.minusDays(1));
+		create(2, TODAY.minusDays(5));
+		create(3, TODAY.minusDays(3));
+
+		PageResponse<TaskResponse> first = service.overdueForUser("user@test.com", null, 2);
+		PageResponse<TaskResponse> second = service.overdueForUser("user@test.com", first.getNextCursor(), 2);
+
+		assertEquals(List.of(2L, 3L), ids(first));
+		assertEquals(List.of(1L), ids(second));
+		assertNull(second.getNextCursor());
+	}
+
+	private TaskSnapshot create(long id, LocalDate dueDate) {
+		return TaskViewFixtures.create(service::onTaskChanged, snapshot(id, dueDate, TaskStatus.PENDING));
+	}
+
+	private TaskSnapshot update(TaskSnapshot before, TaskSnapshot after) {
+		return TaskViewFixtures.update(service::onTaskChanged, before, after);
+	}
+
+	private void advanceDays(int days) {
+		clock.set(LocalDate.ofInstant(clock.instant(), ZONE).plusDays(days).atTime(9, 0));
+		service.tick();
+	}
+
+	private List<Long> overdue() {
+		return ids(service.overdueForUser("user@test.com", null, 500)).stream().sorted().toList();
+	}
+
+	private static TaskSnapshot snapshot(long id, LocalDate dueDate, TaskStatus status) {
+		return TaskViewFixtures.snapshot(id, USER, PROJECT, status, "task " + id, dueDate);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void set(LocalDateTime time) {
+			now = time.atZone(ZONE).toInstant();
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZONE;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.kruger.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.datasource.ReadWriteRoutingDataSource;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.enums.TaskStatus;
+import com.kruger.backend.utils.etag.ETags;
+import com.kruger.backend.utils.etag.ScopeTag;
+
+class ScopeVersionServiceImplTest {
+
+	private final UserIdentityService userIdentityService = mock(UserIdentityService.class);
+
+	{
+		when(userIdentityService.resolve("reader@test.com"))
+				.thenReturn(new UserIdentity(7L, "reader", "reader@test.com", Role.USER));
+	}
+
+	@Test
+	void testUnchangedScopeIsReadFromTheReplica() {
+		ScopeVersionServiceImpl service = new ScopeVersionServiceImpl(userIdentityService, 60000, true);
+
+		ScopeTag tag = service.userTasksTag("reader@test.com");
+
+		assertFalse(tag.isRecentlyChanged());
+		assertFalse(tag.read(ReadWriteRoutingDataSource::isPinnedToPrimary));
+	}
+
+	@Test
+	void testScopeChangedByAnotherUserIsReadFromThePrimary() {
+		ScopeVersionServiceImpl service = new ScopeVersionServiceImpl(userIdentityService, 60000, true);
+		String before = service.userTasksTag("reader@test.com").getEtag();
+
+		// someone else assigns a task to the reader; the replica may not have it yet
+		service.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(1L, 7L, 3L, TaskStatus.PENDING, "t", null, null)));
+		ScopeTag tag = service.userTasksTag("reader@test.com");
+
+		assertNotEquals(before, tag.getEtag());
+		assertTrue(tag.isRecentlyChanged());
+		assertTrue(tag.read(ReadWriteRoutingDataSource::isPinnedToPrimary));
+		assertFalse(ReadWriteRoutingDataSource.isPinnedToPrimary());
+		assertTrue(service.projectTasksTag(3L).isRecentlyChanged());
+		assertFalse(service.projectTasksTag(4L).isRecentlyChanged());
+	}
+
+	@Test
+	void testChangeOlderThanTheLagWindowIsReadFromTheReplica() {
+		ScopeVersionServiceImpl service = new ScopeVersionServiceImpl(userIdentityService, 0, true);
+		service.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(1L, 7L, 3L, TaskStatus.PENDING, "t", null, null)));
+
+		assertFalse(service.userTasksTag("reader@test.com").isRecentlyChanged());
+	}
+
+	@Test
+	void testDisabledTagsNeverMatch() {
+		ScopeVersionServiceImpl service = new ScopeVersionServiceImpl(userIdentityService, 60000, false);
+		service.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(1L, 7L, 3L, TaskStatus.PENDING, "t", null, null)));
+
+		ScopeTag tag = service.userTasksTag("reader@test.com");
+
+		assertNull(tag.getEtag());
+		assertFalse(tag.isRecentlyChanged());
+		assertFalse(ETags.matches("*", tag.getEtag()));
+		assertNull(service.projectTasksTag(3L).getEtag());
+	}
+}
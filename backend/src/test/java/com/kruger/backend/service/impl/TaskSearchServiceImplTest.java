@@ -0,0 +1,147 @@
+package com.kruger.backend.service.impl;
+
+import static com.kruger.backend.service.impl.TaskViewFixtures.ids;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.enums.TaskStatus;
+import com.kruger.backend.utils.exception.BadRequestException;
+import com.kruger.backend.utils.pagination.CursorPagination;
+
+class TaskSearchServiceImplTest {
+
+	private static final long ASSIGNEE = 1L;
+
+	private static final long OWNER = 2L;
+
+	private static final long STRANGER = 3L;
+
+	private static final long ADMIN = 4L;
+
+	private static final long PROJECT = 10L;
+
+	private static final long OTHER_PROJECT = 11L;
+
+	private TaskSearchServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		UserIdentityService userIdentityService = mock(UserIdentityService.class);
+		when(userIdentityService.resolve("assignee@test.com")).thenReturn(user(ASSIGNEE, Role.USER));
+		when(userIdentityService.resolve("owner@test.com")).thenReturn(user(OWNER, Role.USER));
+		when(userIdentityService.resolve("stranger@test.com")).thenReturn(user(STRANGER, Role.USER));
+		when(userIdentityService.resolve("admin@test.com")).thenReturn(user(ADMIN, Role.ADMIN));
+
+		service = new TaskSearchServiceImpl(TaskViewFixtures.taskRepository(), mock(ProjectRepository.class),
+				userIdentityService, TaskViewFixtures.pagination(), mock(PlatformTransactionManager.class));
+		service.onProjectChanged(new ProjectChangedEvent(ChangeType.CREATED, PROJECT, OWNER));
+		service.onProjectChanged(new ProjectChangedEvent(ChangeType.CREATED, OTHER_PROJECT, STRANGER));
+	}
+
+	@Test
+	void testUsersFindTheirTasksAndTheTasksOfTheirProjects() {
+		create(1, ASSIGNEE, PROJECT, "deploy api");
+		create(2, STRANGER, PROJECT, "deploy web");
+		create(3, STRANGER, OTHER_PROJECT, "deploy db");
+		create(4, ASSIGNEE, null, "deploy docs");
+
+		assertEquals(List.of(1L, 4L), ids(search("assignee@test.com", "deploy", null, null, null)));
+		assertEquals(List.of(1L, 2L), ids(search("owner@test.com", "deploy", null, null, null)));
+		assertEquals(List.of(2L, 3L), ids(search("stranger@test.com", "deploy", null, null, null)));
+		assertEquals(List.of(1L, 2L, 3L, 4L), ids(search("admin@test.com", "deploy", null, null, null)));
+	}
+
+	@Test
+	void testProjectFilterNarrowsTheVisibleTasks() {
+		create(1, ASSIGNEE, PROJECT, "deploy api");
+		create(2, ASSIGNEE, OTHER_PROJECT, "deploy web");
+
+		assertEquals(List.of(2L), ids(search("assignee@test.com", "deploy", OTHER_PROJECT, null, null)));
+		assertEquals(List.of(), ids(search("owner@test.com", "deploy", OTHER_PROJECT, null, null)));
+	}
+
+	@Test
+	void testAccentsAndCaseDoNotMatterInTheQuery() {
+		create(1, ASSIGNEE, PROJECT, "Diseño de la página");
+
+		assertEquals(List.of(1L), ids(search("assignee@test.com", "DISENO PAGINA", null, null, null)));
+	}
+
+	@Test
+	void testPagesFollowTheOffsetCursor() {
+		for (long id = 1; id <= 5; id++) {
+			create(id, ASSIGNEE, PROJECT, "report");
+		}
+
+		PageResponse<TaskResponse> first = search("assignee@test.com", "report", null, null, 2);
+		PageResponse<TaskResponse> second = search("assignee@test.com", "report", null, first.getNextCursor(), 2);
+		PageResponse<TaskResponse> last = search("assignee@test.com", "report", null, second.getNextCursor(), 2);
+
+		assertEquals(List.of(1L, 2L), ids(first));
+		assertEquals(List.of(3L, 4L), ids(second));
+		assertEquals(List.of(5L), ids(last));
+		assertNull(last.getNextCursor());
+		assertEquals(List.of(), ids(search("assignee@test.com", "report", null, CursorPagination.encodeOffset(9), 2)));
+	}
+
+	@Test
+	void testUpdatesAndDeletesLeaveTheIndex() {
+		TaskSnapshot first = create(1, ASSIGNEE, PROJECT, "old title");
+		TaskSnapshot second = create(2, ASSIGNEE, PROJECT, "old notes");
+		service.onTaskChanged(TaskChangedEvent.updated(first, snapshot(1, ASSIGNEE, PROJECT, "new title")));
+		service.onTaskChanged(TaskChangedEvent.deleted(second));
+
+		assertEquals(List.of(), ids(search("assignee@test.com", "old", null, null, null)));
+		assertEquals(List.of(1L), ids(search("assignee@test.com", "new", null, null, null)));
+	}
+
+	@Test
+	void testDeletedProjectTakesItsTasksAlong() {
+		create(1, ASSIGNEE, PROJECT, "deploy api");
+		create(2, ASSIGNEE, OTHER_PROJECT, "deploy web");
+		service.onProjectChanged(new ProjectChangedEvent(ChangeType.DELETED, PROJECT, OWNER));
+
+		assertEquals(List.of(2L), ids(search("admin@test.com", "deploy", null, null, null)));
+		assertEquals(List.of(), ids(search("owner@test.com", "deploy", null, null, null)));
+	}
+
+	@Test
+	void testQueryWithoutWordsIsRejected() {
+		assertThrows(BadRequestException.class, () -> search("assignee@test.com", " - ", null, null, null));
+	}
+
+	private TaskSnapshot create(long id, Long assignee, Long project, String title) {
+		return TaskViewFixtures.create(service::onTaskChanged, snapshot(id, assignee, project, title));
+	}
+
+	private PageResponse<TaskResponse> search(String email, String query, Long projectId, String cursor, Integer size) {
+		return service.search(email, query, projectId, cursor, size);
+	}
+
+	private static TaskSnapshot snapshot(long id, Long assignee, Long project, String title) {
+		return TaskViewFixtures.snapshot(id, assignee, project, TaskStatus.PENDING, title, null);
+	}
+
+	private static UserIdentity user(long id, Role role) {
+		return new UserIdentity(id, "user" + id, "user" + id + "@test.com", role);
+	}
+}
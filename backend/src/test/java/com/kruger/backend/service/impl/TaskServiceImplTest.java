@@ -0,0 +1,139 @@
+package com.kruger.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kruger.backend.dto.request.TaskBulkRequest;
+import com.kruger.backend.entity.Project;
+import com.kruger.backend.entity.Task;
+import com.kruger.backend.repository.ProjectRepository;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.repository.UserRepository;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.exception.ResourceNotFoundException;
+
+class TaskServiceImplTest {
+
+	@InjectMocks
+	private TaskServiceImpl taskService;
+
+	@Mock
+	private TaskRepository taskRepository;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserIdentityService userIdentityService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(taskService, "batchSize", 50);
+		ReflectionTestUtils.setField(taskService, "bulkMaxItems", 100);
+		// project 2 is soft deleted, project 3 never existed
+		when(projectRepository.findActiveIds(anyCollection()))
+				.thenAnswer(call -> call.<Collection<Long>>getArgument(0).stream().filter(id -> id == 1L).toList());
+	}
+
+	@Test
+	void testCreateInDeletedProjectIsNotFound() {
+		ResourceNotFoundException error = assertThrows(ResourceNotFoundException.class,
+				() -> taskService.create(task(2L), "kruger@test.com"));
+
+		assertEquals("Project with ID 2 not found", error.getMessage());
+		verify(taskRepository, never()).save(any());
+	}
+
+	@Test
+	void testBulkCreateInDeletedProjectIsNotFound() {
+		TaskBulkRequest request = new TaskBulkRequest(List.of(task(1L), task(3L), task(1L)), null, null);
+
+		ResourceNotFoundException error = assertThrows(ResourceNotFoundException.class,
+				() -> taskService.bulk(request, "kruger@test.com"));
+
+		assertEquals("Project with ID 3 not found", error.getMessage());
+		verify(taskRepository, never()).saveAll(any());
+	}
+
+	@Test
+	void testUpdateInDeletedProjectIsNotFound() {
+		ResourceNotFoundException error = assertThrows(ResourceNotFoundException.class,
+				() -> taskService.update(task(2L), 5L));
+
+		assertEquals("Task with ID 5 doesn't exist", error.getMessage());
+		verify(taskRepository, never()).saveAndFlush(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	void testDeleteInDeletedProjectIsNotFound() {
+		assertThrows(ResourceNotFoundException.class, () -> taskService.delete(5L));
+
+		verify(taskRepository, never()).delete(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	void testBulkUpdateInDeletedProjectIsNotFound() {
+		// task 6 belongs to a deleted project, so the active lookup only finds task 5
+		when(taskRepository.findAllActiveById(anyCollection())).thenReturn(List.of(existing(5L)));
+		TaskBulkRequest request = new TaskBulkRequest(null, List.of(existing(5L), existing(6L)), null);
+
+		ResourceNotFoundException error = assertThrows(ResourceNotFoundException.class,
+				() -> taskService.bulk(request, "kruger@test.com"));
+
+		assertEquals("Task with ID 6 doesn't exist", error.getMessage());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	void testBulkDeleteInDeletedProjectIsNotFound() {
+		when(taskRepository.findAllActiveById(anyCollection())).thenReturn(List.of(existing(5L)));
+		TaskBulkRequest request = new TaskBulkRequest(null, null, List.of(5L, 6L));
+
+		ResourceNotFoundException error = assertThrows(ResourceNotFoundException.class,
+				() -> taskService.bulk(request, "kruger@test.com"));
+
+		assertEquals("Task with ID 6 doesn't exist", error.getMessage());
+		verify(taskRepository, never()).deleteAllByIdInBatch(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	private static Task existing(Long id) {
+		Task task = task(1L);
+		task.setId(id);
+		return task;
+	}
+
+	private static Task task(Long projectId) {
+		Task task = new Task();
+		task.setTitle("task");
+		Project project = new Project();
+		project.setId(projectId);
+		task.setProject(project);
+		return task;
+	}
+}
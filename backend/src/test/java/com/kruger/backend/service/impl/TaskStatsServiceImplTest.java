@@ -0,0 +1,162 @@
+package com.kruger.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kruger.backend.dto.StatusCount;
+import com.kruger.backend.dto.UserIdentity;
+import com.kruger.backend.event.ProjectChangedEvent;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.service.UserIdentityService;
+import com.kruger.backend.utils.enums.ChangeType;
+import com.kruger.backend.utils.enums.Role;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+class TaskStatsServiceImplTest {
+
+	private static final long USER = 7L;
+
+	private static final long PROJECT = 10L;
+
+	private static final long OTHER_PROJECT = 11L;
+
+	private TaskRepository taskRepository;
+
+	private TaskStatsServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		taskRepository = mock(TaskRepository.class);
+		UserIdentityService userIdentityService = mock(UserIdentityService.class);
+		when(userIdentityService.resolve("user@test.com")).thenReturn(new UserIdentity(USER, "user", "user@test.com", Role.USER));
+
+		service = new TaskStatsServiceImpl(taskRepository, userIdentityService, mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void testCountsFollowTaskWrites() {
+		TaskSnapshot first = create(1, PROJECT, TaskStatus.PENDING);
+		TaskSnapshot second = create(2, PROJECT, TaskStatus.PENDING);
+		create(3, OTHER_PROJECT, TaskStatus.IN_PROGRESS);
+		TaskViewFixtures.update(service::onTaskChanged, first, snapshot(1, PROJECT, TaskStatus.DONE));
+		service.onTaskChanged(TaskChangedEvent.deleted(second));
+
+		assertEquals(Map.of(TaskStatus.PENDING, 0L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.DONE, 1L), userCounts());
+		assertEquals(Map.of(TaskStatus.PENDING, 0L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 1L),
+				service.countsForProject(PROJECT).getCounts());
+		assertEquals(2, service.countsForUser("user@test.com").getTotal());
+	}
+
+	@Test
+	void testDeletedProjectTakesItsCountsOffTheAssignee() {
+		create(1, PROJECT, TaskStatus.PENDING);
+		create(2, OTHER_PROJECT, TaskStatus.PENDING);
+		when(taskRepository.countByAssigneeAndStatusForProject(PROJECT))
+				.thenReturn(List.of(new StatusCount(USER, TaskStatus.PENDING, 1L)));
+
+		service.onProjectChanged(new ProjectChangedEvent(ChangeType.DELETED, PROJECT, 1L));
+
+		assertEquals(1, service.countsForUser("user@test.com").getTotal());
+		assertEquals(0, service.countsForProject(PROJECT).getTotal());
+	}
+
+	@Test
+	void testRebuildLoadsTheGroupedCounts() {
+		create(9, PROJECT, TaskStatus.PENDING);
+		when(taskRepository.countByAssigneeAndStatus()).thenReturn(List.of(new StatusCount(USER, TaskStatus.DONE, 4L)));
+		when(taskRepository.countByProjectAndStatus()).thenReturn(List.of(new StatusCount(PROJECT, TaskStatus.DONE, 3L)));
+
+		service.rebuild();
+
+		assertEquals(Map.of(TaskStatus.PENDING, 0L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 4L), userCounts());
+		assertEquals(3, service.countsForProject(PROJECT).getTotal());
+	}
+
+	@Test
+	void testWriteCommittedAfterTheSnapshotIsReplayed() {
+		// the snapshot still sees task 1 pending; the update commits while the counts are read
+		when(taskRepository.countByAssigneeAndStatus()).thenAnswer(call -> {
+			TaskViewFixtures.update(service::onTaskChanged, snapshot(1, PROJECT, TaskStatus.PENDING),
+					snapshot(1, PROJECT, TaskStatus.DONE));
+			create(2, PROJECT, TaskStatus.PENDING);
+			return List.of(new StatusCount(USER, TaskStatus.PENDING, 1L));
+		});
+		when(taskRepository.countByProjectAndStatus()).thenReturn(List.of(new StatusCount(PROJECT, TaskStatus.PENDING, 1L)));
+		when(taskRepository.findSnapshotsByIds(anyCollection())).thenReturn(List.of(snapshot(1, PROJECT, TaskStatus.PENDING)));
+
+		service.rebuild();
+
+		assertEquals(Map.of(TaskStatus.PENDING, 1L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 1L), userCounts());
+		assertEquals(2, service.countsForProject(PROJECT).getTotal());
+	}
+
+	@Test
+	void testWriteCommittedBeforeTheSnapshotIsNotCountedTwice() {
+		// committed before the snapshot, but its event only arrives once the rebuild started
+		when(taskRepository.countByAssigneeAndStatus()).thenAnswer(call -> {
+			TaskViewFixtures.update(service::onTaskChanged, snapshot(1, PROJECT, TaskStatus.PENDING),
+					snapshot(1, PROJECT, TaskStatus.DONE));
+			return List.of(new StatusCount(USER, TaskStatus.DONE, 1L));
+		});
+		when(taskRepository.countByProjectAndStatus()).thenReturn(List.of(new StatusCount(PROJECT, TaskStatus.DONE, 1L)));
+		when(taskRepository.findSnapshotsByIds(anyCollection())).thenReturn(List.of(snapshot(1, PROJECT, TaskStatus.DONE)));
+
+		service.rebuild();
+
+		assertEquals(Map.of(TaskStatus.PENDING, 0L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 1L), userCounts());
+		assertEquals(1, service.countsForProject(PROJECT).getTotal());
+	}
+
+	@Test
+	void testProjectDeletedDuringTheRebuildIsLeftOut() {
+		when(taskRepository.countByAssigneeAndStatus()).thenAnswer(call -> {
+			service.onProjectChanged(new ProjectChangedEvent(ChangeType.DELETED, PROJECT, 1L));
+			return List.of(new StatusCount(USER, TaskStatus.PENDING, 3L));
+		});
+		when(taskRepository.countByProjectAndStatus()).thenReturn(List.of(new StatusCount(PROJECT, TaskStatus.PENDING, 2L),
+				new StatusCount(OTHER_PROJECT, TaskStatus.PENDING, 1L)));
+		when(taskRepository.countByAssigneeAndStatusForActiveProject(PROJECT))
+				.thenReturn(List.of(new StatusCount(USER, TaskStatus.PENDING, 2L)));
+
+		service.rebuild();
+
+		assertEquals(1, service.countsForUser("user@test.com").getTotal());
+		assertEquals(0, service.countsForProject(PROJECT).getTotal());
+		assertEquals(1, service.countsForProject(OTHER_PROJECT).getTotal());
+	}
+
+	@Test
+	void testWritesAfterTheRebuildApplyToTheNewCounts() {
+		when(taskRepository.countByAssigneeAndStatus()).thenReturn(List.of(new StatusCount(USER, TaskStatus.PENDING, 1L)));
+		when(taskRepository.countByProjectAndStatus()).thenReturn(List.of(new StatusCount(PROJECT, TaskStatus.PENDING, 1L)));
+		service.rebuild();
+
+		create(2, PROJECT, TaskStatus.PENDING);
+
+		assertEquals(2, service.countsForUser("user@test.com").getTotal());
+		assertEquals(2, service.countsForProject(PROJECT).getTotal());
+	}
+
+	private TaskSnapshot create(long id, Long project, TaskStatus status) {
+		return TaskViewFixtures.create(service::onTaskChanged, snapshot(id, project, status));
+	}
+
+	private Map<TaskStatus, Long> userCounts() {
+		return service.countsForUser("user@test.com").getCounts();
+	}
+
+	private static TaskSnapshot snapshot(long id, Long project, TaskStatus status) {
+		return TaskViewFixtures.snapshot(id, USER, project, status, "task " + id, null);
+	}
+}
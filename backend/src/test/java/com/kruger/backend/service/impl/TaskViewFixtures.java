@@ -0,0 +1,65 @@
+package com.kruger.backend.service.impl;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kruger.backend.dto.response.PageResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.event.TaskChangedEvent;
+import com.kruger.backend.event.TaskSnapshot;
+import com.kruger.backend.repository.TaskRepository;
+import com.kruger.backend.utils.enums.TaskStatus;
+import com.kruger.backend.utils.pagination.CursorPagination;
+
+/**
+ * Collaborators and helpers shared by the tests of the in-memory task views,
+ * which follow task events and load their pages by id.
+ */
+final class TaskViewFixtures {
+
+	private TaskViewFixtures() {
+	}
+
+	/** A repository mock that answers every response lookup with a row per id. */
+	static TaskRepository taskRepository() {
+		TaskRepository taskRepository = mock(TaskRepository.class);
+		when(taskRepository.findResponsesByIds(anyCollection())).thenAnswer(call -> call.<Collection<Long>>getArgument(0)
+				.stream().map(id -> new TaskResponse(id, "task " + id, null, TaskStatus.PENDING, null, null, null, null, 0L))
+				.toList());
+		return taskRepository;
+	}
+
+	static CursorPagination pagination() {
+		CursorPagination pagination = new CursorPagination();
+		ReflectionTestUtils.setField(pagination, "defaultSize", 50);
+		ReflectionTestUtils.setField(pagination, "maxSize", 500);
+		return pagination;
+	}
+
+	static TaskSnapshot snapshot(long id, Long assignee, Long project, TaskStatus status, String title,
+			LocalDate dueDate) {
+		return new TaskSnapshot(id, assignee, project, status, title, null, dueDate);
+	}
+
+	static TaskSnapshot create(Consumer<TaskChangedEvent> listener, TaskSnapshot task) {
+		listener.accept(TaskChangedEvent.created(task));
+		return task;
+	}
+
+	static TaskSnapshot update(Consumer<TaskChangedEvent> listener, TaskSnapshot before, TaskSnapshot after) {
+		listener.accept(TaskChangedEvent.updated(before, after));
+		return after;
+	}
+
+	static List<Long> ids(PageResponse<TaskResponse> page) {
+		return page.getItems().stream().map(TaskResponse::getId).toList();
+	}
+}
@@ -0,0 +1,194 @@
+package com.kruger.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kruger.backend.dto.response.UserImportFailure;
+import com.kruger.backend.dto.response.UserImportResponse;
+import com.kruger.backend.entity.User;
+import com.kruger.backend.repository.UserRepository;
+import com.kruger.backend.service.UserIdentityService;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+class UserImportServiceImplTest {
+
+	private UserRepository userRepository;
+
+	private UserImportServiceImpl service;
+
+	// emails another request inserts between the lookup and the insert
+	private final Set<String> takenDuringImport = new HashSet<>();
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		when(userRepository.findExistingEmails(anyCollection())).thenReturn(new HashSet<>());
+		when(userRepository.insertAll(anyList())).thenAnswer(call -> {
+			List<User> users = call.getArgument(0);
+			return users.stream().filter(user -> !takenDuringImport.contains(user.getEmail())).toList();
+		});
+		PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+		when(passwordEncoder.encode(anyString())).thenAnswer(call -> "hashed:" + call.getArgument(0));
+		Validator validator = Validation.byDefaultProvider().configure()
+				.messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getCache()).thenReturn(mock(Cache.class));
+
+		service = new UserImportServiceImpl(userRepository, passwordEncoder, validator, new ObjectMapper(),
+				mock(UserIdentityService.class), entityManagerFactory,
+				mock(PlatformTransactionManager.class), 2, 10);
+		ReflectionTestUtils.setField(service, "chunkSize", 2);
+		ReflectionTestUtils.setField(service, "maxRows", 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void testImportsEveryValidRow() {
+		UserImportResponse response = importUsers(user("a"), user("b"), user("c"));
+
+		assertEquals(3, response.getReceived());
+		assertEquals(3, response.getCreated());
+		assertEquals(0, response.getFailed());
+		assertNull(response.getError());
+		assertEquals(Set.of("a@test.com", "b@test.com", "c@test.com"), inserted());
+	}
+
+	@Test
+	void testDuplicateRowsInTheFileAreReportedAfterTheFirst() {
+		UserImportResponse response = importUsers(user("a"), user("b"), user("a"), user("a"));
+
+		assertEquals(2, response.getCreated());
+		assertEquals(List.of(2, 3), indexes(response));
+		assertTrue(response.getFailures().stream()
+				.allMatch(failure -> failure.getReason().equals("The email appears earlier in the import")));
+	}
+
+	@Test
+	void testTakenEmailsAreReportedAndTheRestImported() {
+		when(userRepository.findExistingEmails(anyCollection())).thenReturn(new HashSet<>(Set.of("b@test.com")));
+		takenDuringImport.add("d@test.com");
+
+		UserImportResponse response = importUsers(user("a"), user("b"), user("c"), user("d"), user("e"));
+
+		assertEquals(3, response.getCreated());
+		assertEquals(List.of(1, 3), indexes(response));
+		assertTrue(response.getFailures().stream()
+				.allMatch(failure -> failure.getReason().equals("A user with this email already exists")));
+	}
+
+	@Test
+	void testInvalidRowsDoNotStopTheImport() {
+		UserImportResponse response = importUsers(user("a"), "{\"username\":\"b\",\"email\":\"not-an-email\","
+				+ "\"password\":\"secret1\",\"role\":\"USER\"}", "42", user("c"));
+
+		assertEquals(4, response.getReceived());
+		assertEquals(2, response.getCreated());
+		assertEquals(List.of(1, 2), indexes(response));
+		assertEquals("The mail must be valid", response.getFailures().get(0).getReason());
+		assertEquals("Expected a user object", response.getFailures().get(1).getReason());
+	}
+
+	@Test
+	void testMalformedJsonMidStreamKeepsTheRowsReadBefore() {
+		String body = "[" + user("a") + "," + user("b") + "," + user("c") + ",{\"username\" \"d\"}," + user("e") + "]";
+
+		UserImportResponse response = service.importUsers(stream(body));
+
+		assertEquals(3, response.getCreated());
+		assertTrue(response.getError().startsWith("Malformed JSON after row 4"), response.getError());
+		assertEquals(Set.of("a@test.com", "b@test.com", "c@test.com"), inserted());
+	}
+
+	@Test
+	void testTruncatedInputKeepsTheRowsReadBefore() {
+		UserImportResponse response = service.importUsers(stream("[" + user("a") + "," + user("b")));
+
+		assertEquals(2, response.getCreated());
+		assertTrue(response.getError().startsWith("Malformed JSON after row 2"), response.getError());
+	}
+
+	@Test
+	void testRowsBeyondMaxRowsAreNotRead() {
+		ReflectionTestUtils.setField(service, "maxRows", 3);
+
+		UserImportResponse response = importUsers(user("a"), user("b"), user("c"), user("d"), user("e"));
+
+		assertEquals(3, response.getReceived());
+		assertEquals(3, response.getCreated());
+		assertEquals("Only the first 3 users of an import are read", response.getError());
+		assertEquals(Set.of("a@test.com", "b@test.com", "c@test.com"), inserted());
+	}
+
+	@Test
+	void testNothingIsInsertedWhenEveryRowFails() {
+		when(userRepository.findExistingEmails(anyCollection())).thenReturn(new HashSet<>(Set.of("a@test.com")));
+
+		UserImportResponse response = importUsers(user("a"), user("a"));
+
+		assertEquals(0, response.getCreated());
+		assertEquals(2, response.getFailed());
+		verify(userRepository, never()).insertAll(any());
+	}
+
+	private UserImportResponse importUsers(String... rows) {
+		return service.importUsers(stream("[" + String.join(",", rows) + "]"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<String> inserted() {
+		ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+		verify(userRepository, atLeastOnce()).insertAll(captor.capture());
+		return captor.getAllValues().stream().flatMap(List::stream).map(User::getEmail).collect(Collectors.toSet());
+	}
+
+	private static List<Integer> indexes(UserImportResponse response) {
+		return response.getFailures().stream().map(UserImportFailure::getIndex).toList();
+	}
+
+	private static String user(String name) {
+		return "{\"username\":\"" + name + "\",\"email\":\"" + name + "@test.com\",\"password\":\"secret1\","
+				+ "\"role\":\"USER\"}";
+	}
+
+	private static ByteArrayInputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
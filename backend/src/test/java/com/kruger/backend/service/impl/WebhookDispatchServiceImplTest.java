@@ -0,0 +1,199 @@
+package com.kruger.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kruger.backend.dto.WebhookMessage;
+import com.kruger.backend.entity.WebhookEndpoint;
+import com.kruger.backend.repository.WebhookDeliveryRepository;
+import com.kruger.backend.repository.WebhookEndpointRepository;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Dispatches claimed batches to a JDK {@link HttpServer} standing in for a
+ * webhook receiver, and checks what is recorded for each result. The claim
+ * query itself is covered by WebhookDispatchRepositoryImplTest.
+ */
+class WebhookDispatchServiceImplTest {
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private static final long LEASE_MS = 60000;
+
+	private static final long BACKOFF_BASE_MS = 1000;
+
+	private static final long WAIT_MS = 5000;
+
+	private HttpServer server;
+
+	private final WebhookEndpointRepository endpointRepository = mock(WebhookEndpointRepository.class);
+
+	private final WebhookDeliveryRepository deliveryRepository = mock(WebhookDeliveryRepository.class);
+
+	private final Queue<List<WebhookMessage>> claims = new ConcurrentLinkedQueue<>();
+
+	private final Queue<String> receivedBodies = new ConcurrentLinkedQueue<>();
+
+	private volatile int responseStatus = 204;
+
+	private volatile String retryAfter;
+
+	private WebhookDispatchServiceImpl service;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/hook", exchange -> {
+			try (InputStream in = exchange.getRequestBody()) {
+				receivedBodies.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			}
+			if (retryAfter != null) {
+				exchange.getResponseHeaders().add("Retry-After", retryAfter);
+			}
+			exchange.sendResponseHeaders(responseStatus, -1);
+			exchange.close();
+		});
+		server.start();
+
+		String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+		when(endpointRepository.findByActiveTrueOrderByIdAsc())
+				.thenReturn(List.of(new WebhookEndpoint(1L, url, null, 1, true, LocalDateTime.now())));
+		// each claim takes the next prepared batch, then finds nothing due
+		when(deliveryRepository.claim(eq(1L), anyInt(), any(), any())).thenAnswer(call -> {
+			List<WebhookMessage> batch = claims.poll();
+			return batch != null ? batch : List.of();
+		});
+
+		service = new WebhookDispatchServiceImpl(endpointRepository, deliveryRepository,
+				mock(PlatformTransactionManager.class), 500, 50, MAX_ATTEMPTS, LEASE_MS, BACKOFF_BASE_MS, 600000,
+				86400000, 2, 2000, 5000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+		server.stop(0);
+	}
+
+	@Test
+	void testDeliveredBatchIsDeletedAndDrainingContinues() {
+		claims.add(List.of(message(100L, 1, 10L, 5L), message(200L, 1, 20L, 5L)));
+
+		service.dispatch();
+
+		verify(deliveryRepository, timeout(WAIT_MS)).deleteAllByIdInBatch(List.of(100L, 200L));
+		// the next claim follows the delivery instead of waiting for the next poll
+		verify(deliveryRepository, timeout(WAIT_MS).times(2)).claim(eq(1L), anyInt(), any(), any());
+		String body = receivedBodies.peek();
+		assertTrue(body.indexOf("\"id\":10,") < body.indexOf("\"id\":20,"), body);
+	}
+
+	@Test
+	void testClaimLeasesTheBatchForTheLeaseTime() {
+		service.dispatch();
+
+		ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+		ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(deliveryRepository).claim(eq(1L), eq(50), now.capture(), leaseUntil.capture());
+		assertEquals(Duration.ofMillis(LEASE_MS), Duration.between(now.getValue(), leaseUntil.getValue()));
+	}
+
+	@Test
+	void testBatchIsClaimedAgainOnceItsLeaseExpires() {
+		// recording the delivery fails, so the rows keep their lease and nothing is written for them
+		claims.add(List.of(message(100L, 1, 10L, 5L)));
+		doThrow(new IllegalStateException("connection lost")).doNothing().when(deliveryRepository)
+				.deleteAllByIdInBatch(List.of(100L));
+
+		service.dispatch();
+		verify(deliveryRepository, timeout(WAIT_MS).times(2)).claim(eq(1L), anyInt(), any(), any());
+		verify(deliveryRepository, never()).reschedule(any(), any(), any());
+
+		// after the lease the claim returns the batch again, one attempt further
+		claims.add(List.of(message(100L, 2, 10L, 5L)));
+		service.dispatch();
+
+		verify(deliveryRepository, timeout(WAIT_MS).times(2)).deleteAllByIdInBatch(List.of(100L));
+		assertEquals(2, receivedBodies.size());
+	}
+
+	@Test
+	void testFailedBatchBacksOffExponentiallyWithJitter() {
+		responseStatus = 503;
+		claims.add(List.of(message(100L, 2, 10L, 5L)));
+		LocalDateTime before = LocalDateTime.now();
+
+		service.dispatch();
+
+		LocalDateTime next = rescheduled(100L);
+		// second attempt: base << 1, half of it fixed
+		assertFalse(next.isBefore(before.plus(Duration.ofMillis(BACKOFF_BASE_MS))), next::toString);
+		assertFalse(next.isAfter(LocalDateTime.now().plus(Duration.ofMillis(2 * BACKOFF_BASE_MS))), next::toString);
+	}
+
+	@Test
+	void testRetryAfterLongerThanTheBackoffIsHonoured() {
+		responseStatus = 503;
+		retryAfter = "120";
+		claims.add(List.of(message(100L, 1, 10L, 5L)));
+		LocalDateTime before = LocalDateTime.now();
+
+		service.dispatch();
+
+		LocalDateTime next = rescheduled(100L);
+		assertFalse(next.isBefore(before.plusSeconds(120)), next::toString);
+		assertFalse(next.isAfter(LocalDateTime.now().plusSeconds(120)), next::toString);
+	}
+
+	@Test
+	void testDeliveryIsDeadAfterTheLastAttempt() {
+		responseStatus = 500;
+		claims.add(List.of(message(100L, MAX_ATTEMPTS, 10L, 5L), message(200L, MAX_ATTEMPTS - 1, 20L, 6L)));
+
+		service.dispatch();
+
+		verify(deliveryRepository, timeout(WAIT_MS)).markDead(100L, "HTTP 500");
+		verify(deliveryRepository, timeout(WAIT_MS)).reschedule(eq(200L), any(), eq("HTTP 500"));
+		verify(deliveryRepository, never()).markDead(eq(200L), anyString());
+		verify(deliveryRepository, never()).deleteAllByIdInBatch(any());
+	}
+
+	private LocalDateTime rescheduled(Long deliveryId) {
+		ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(deliveryRepository, timeout(WAIT_MS)).reschedule(eq(deliveryId), nextAttemptAt.capture(),
+				eq("HTTP 503"));
+		return nextAttemptAt.getValue();
+	}
+
+	private static WebhookMessage message(Long deliveryId, int attempts, Long eventId, Long taskId) {
+		return new WebhookMessage(deliveryId, attempts, eventId, "task", taskId, "UPDATED", "{}",
+				LocalDateTime.of(2026, 1, 1, 12, 0));
+	}
+}
@@ -0,0 +1,104 @@
+package com.kruger.backend.utils.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLimiterTest {
+
+	private static final long MS = 1_000_000L;
+
+	@Test
+	void testAdmitsUpToTheLimitAndShedsWhenTheQueueIsFull() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 10, 0);
+
+		assertEquals(AdaptiveLimiter.Outcome.ADMITTED, limiter.acquire(0, TimeUnit.MILLISECONDS));
+		assertEquals(AdaptiveLimiter.Outcome.ADMITTED, limiter.acquire(0, TimeUnit.MILLISECONDS));
+		assertEquals(AdaptiveLimiter.Outcome.QUEUE_FULL, limiter.acquire(100, TimeUnit.MILLISECONDS));
+		assertEquals(2, limiter.inFlight());
+	}
+
+	@Test
+	void testWaiterGivesUpAtItsDeadline() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 10, 10);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+
+		long start = System.nanoTime();
+		assertEquals(AdaptiveLimiter.Outcome.DEADLINE, limiter.acquire(50, TimeUnit.MILLISECONDS));
+		assertTrue(System.nanoTime() - start >= 50 * MS);
+		assertEquals(0, limiter.queued());
+	}
+
+	@Test
+	void testWaiterIsAdmittedWhenASlotIsReleased() throws Exception {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 10);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+
+		CompletableFuture<AdaptiveLimiter.Outcome> waiter = CompletableFuture.supplyAsync(() -> {
+			try {
+				return limiter.acquire(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		while (limiter.queued() == 0) {
+			Thread.onSpinWait();
+		}
+		limiter.release(MS, false);
+
+		assertEquals(AdaptiveLimiter.Outcome.ADMITTED, waiter.get(5, TimeUnit.SECONDS));
+		assertEquals(1, limiter.inFlight());
+	}
+
+	@Test
+	void testShedsImmediatelyWhenTheExpectedWaitExceedsTheDeadline() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 10);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+		limiter.release(200 * MS, false);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+
+		long start = System.nanoTime();
+		assertEquals(AdaptiveLimiter.Outcome.DEADLINE, limiter.acquire(50, TimeUnit.MILLISECONDS));
+		assertTrue(System.nanoTime() - start < 50 * MS);
+		assertTrue(limiter.retryAfterSeconds() >= 1);
+	}
+
+	@Test
+	void testLimitGrowsWhileLatencyIsStableAndShrinksWhenItRises() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 50, 10);
+		for (int i = 0; i < 100; i++) {
+			saturateAndRelease(limiter, 10 * MS);
+		}
+		int grown = limiter.limit();
+		assertTrue(grown > 4, () -> "limit " + grown);
+
+		for (int i = 0; i < 2; i++) {
+			saturateAndRelease(limiter, 100 * MS);
+		}
+		int shrunk = limiter.limit();
+		assertTrue(shrunk < grown / 2, () -> "limit " + shrunk + " after " + grown);
+	}
+
+	@Test
+	void testDroppedCallsBackOff() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 10, 10);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+		limiter.release(MS, true);
+
+		assertEquals(9, limiter.limit());
+	}
+
+	private void saturateAndRelease(AdaptiveLimiter limiter, long latencyNanos) throws InterruptedException {
+		int slots = limiter.limit();
+		for (int i = 0; i < slots; i++) {
+			limiter.acquire(0, TimeUnit.MILLISECONDS);
+		}
+		for (int i = 0; i < slots; i++) {
+			limiter.release(latencyNanos, false);
+		}
+	}
+}
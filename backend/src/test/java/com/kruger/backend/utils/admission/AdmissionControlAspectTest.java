@@ -0,0 +1,164 @@
+package com.kruger.backend.utils.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.kruger.backend.dto.response.CacheStatsResponse;
+import com.kruger.backend.service.CacheStatsService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdmissionControlAspectTest {
+
+	private AnnotationConfigApplicationContext context;
+
+	private RecordingLimiter limiter;
+
+	private CacheStatsService service;
+
+	@BeforeEach
+	void setUp() {
+		context = new AnnotationConfigApplicationContext(TestConfig.class);
+		limiter = new RecordingLimiter();
+		ReflectionTestUtils.setField(context.getBean(AdmissionControlAspect.class), "readLimiter", limiter);
+		service = context.getBean(CacheStatsService.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+		context.close();
+	}
+
+	@Test
+	void testQueuedCallHoldsNoTransaction() throws Exception {
+		BlockingService blocking = AopTestUtils.getUltimateTargetObject(service);
+		CompletableFuture<CacheStatsResponse> first = CompletableFuture.supplyAsync(() -> inRequest(service));
+		assertTrue(blocking.entered.await(5, TimeUnit.SECONDS));
+
+		CompletableFuture<CacheStatsResponse> second = CompletableFuture.supplyAsync(() -> inRequest(service));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (limiter.queued() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(1, limiter.queued());
+		blocking.release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+
+		assertEquals(List.of(false, false), limiter.transactionActiveOnAcquire);
+		assertEquals(List.of(true, true), blocking.transactionActiveInside);
+	}
+
+	private static CacheStatsResponse inRequest(CacheStatsService service) {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/cache/stats")));
+		try {
+			return service.secondLevelCacheStats();
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Configuration
+	@EnableAspectJAutoProxy(proxyTargetClass = true)
+	@EnableTransactionManagement(proxyTargetClass = true)
+	static class TestConfig {
+
+		@Bean
+		AdmissionControlAspect admissionControlAspect() {
+			return new AdmissionControlAspect(new SimpleMeterRegistry());
+		}
+
+		@Bean
+		BlockingService blockingService() {
+			return new BlockingService();
+		}
+
+		@Bean
+		NoOpTransactionManager transactionManager() {
+			return new NoOpTransactionManager();
+		}
+	}
+
+	static class BlockingService implements CacheStatsService {
+
+		private final CountDownLatch entered = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		private final List<Boolean> transactionActiveInside = new CopyOnWriteArrayList<>();
+
+		@Override
+		@Transactional
+		public CacheStatsResponse secondLevelCacheStats() {
+			transactionActiveInside.add(TransactionSynchronizationManager.isActualTransactionActive());
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}
+	}
+
+	static class RecordingLimiter extends AdaptiveLimiter {
+
+		private final List<Boolean> transactionActiveOnAcquire = new CopyOnWriteArrayList<>();
+
+		RecordingLimiter() {
+			super(1, 1, 1, 10);
+		}
+
+		@Override
+		public Outcome acquire(long maxWait, TimeUnit unit) throws InterruptedException {
+			transactionActiveOnAcquire.add(TransactionSynchronizationManager.isActualTransactionActive());
+			return super.acquire(5, TimeUnit.SECONDS);
+		}
+	}
+
+	static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
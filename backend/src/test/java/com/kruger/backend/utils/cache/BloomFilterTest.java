@@ -0,0 +1,47 @@
+package com.kruger.backend.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void testContainsEveryKeyAdded() {
+		BloomFilter filter = new BloomFilter(1000, 0.01);
+		String[] keys = new String[1000];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = UUID.randomUUID().toString();
+			filter.put(keys[i]);
+		}
+		for (String key : keys) {
+			assertTrue(filter.mightContain(key));
+		}
+	}
+
+	@Test
+	void testFalsePositiveRateStaysNearTheTarget() {
+		BloomFilter filter = new BloomFilter(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.put("revoked-" + i);
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 100000; i++) {
+			if (filter.mightContain("valid-" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 2000, "false positives: " + falsePositives);
+	}
+
+	@Test
+	void testEmptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(0, 0.01);
+		assertFalse(filter.mightContain("anything"));
+		assertTrue(filter.bitSize() >= 64);
+		assertTrue(filter.hashCount() >= 1);
+	}
+}
@@ -0,0 +1,134 @@
+package com.kruger.backend.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+
+	private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+	@Test
+	void testReturnsEntriesUntilTheyExpire() throws Exception {
+		ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+		long now = System.currentTimeMillis();
+		cache.put("short", "a", now + 50);
+		cache.put("long", "b", now + HOUR);
+
+		assertEquals("a", cache.get("short"));
+		Thread.sleep(100);
+
+		assertNull(cache.get("short"));
+		assertEquals("b", cache.get("long"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void testIgnoresEntriesAlreadyExpired() {
+		ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+		cache.put("key", "value", System.currentTimeMillis() - 1);
+
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void testReplacesTheValueAndExpiryOfAKey() {
+		ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+		cache.put("key", "old", System.currentTimeMillis() + HOUR);
+		cache.put("key", "new", System.currentTimeMillis() + HOUR);
+
+		assertEquals("new", cache.get("key"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void testPurgesExpiredEntriesBeforeLiveOnesWhenFull() throws Exception {
+		ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(10);
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < 5; i++) {
+			cache.put(i, i, now + 50);
+		}
+		for (int i = 5; i < 10; i++) {
+			cache.put(i, i, now + HOUR);
+		}
+		Thread.sleep(100);
+
+		cache.put(10, 10, System.currentTimeMillis() + HOUR);
+
+		assertEquals(6, cache.size());
+		for (int i = 5; i <= 10; i++) {
+			assertEquals(i, cache.get(i));
+		}
+	}
+
+	@Test
+	void testDropsATenthOfLiveEntriesWhenFull() {
+		ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(100);
+		long expiresAt = System.currentTimeMillis() + HOUR;
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i, expiresAt);
+		}
+		assertEquals(100, cache.size());
+
+		cache.put(100, 100, expiresAt);
+
+		assertEquals(91, cache.size());
+		assertEquals(100, cache.get(100));
+	}
+
+	@Test
+	void testRejectsANonPositiveSize() {
+		assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(0));
+	}
+
+	@Test
+	void testStaysBoundedUnderConcurrentPutsAndGets() throws Exception {
+		int maxSize = 1000;
+		int threads = 8;
+		ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(maxSize);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int offset = t * 100_000;
+				futures.add(executor.submit(() -> {
+					start.await();
+					long expiresAt = System.currentTimeMillis() + HOUR;
+					for (int i = 0; i < 20_000; i++) {
+						int key = offset + i;
+						cache.put(key, key, expiresAt);
+						Integer value = cache.get(key - 1);
+						if (value != null && value != key - 1) {
+							throw new AssertionError("key " + (key - 1) + " returned " + value);
+						}
+						assertTrue(cache.size() <= maxSize + threads, "size: " + cache.size());
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// threads that see room at the same time may each add one entry past the bound
+		assertTrue(cache.size() <= maxSize + threads, "size: " + cache.size());
+		assertTrue(cache.size() > 0);
+	}
+}
@@ -0,0 +1,99 @@
+package com.kruger.backend.utils.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Starts the application with two local PostgreSQL databases standing in for
+ * the primary and a replica, and checks where transactions land by asking
+ * each connection for its database name. The replica database only needs to
+ * exist; Flyway migrates the primary. Run with ROUTING_PRIMARY_URL (e.g.
+ * jdbc:postgresql://localhost:5432/ktestfulldb), ROUTING_REPLICA_URL (e.g.
+ * jdbc:postgresql://localhost:5432/ktestfullreplica), ROUTING_DB_USER and
+ * ROUTING_DB_PASSWORD set.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "ROUTING_PRIMARY_URL", matches = ".+")
+@EnabledIfEnvironmentVariable(named = "ROUTING_REPLICA_URL", matches = ".+")
+class ReadReplicaRoutingTest {
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> System.getenv("ROUTING_PRIMARY_URL"));
+		registry.add("spring.datasource.username", () -> setting("ROUTING_DB_USER", "ktestfull"));
+		registry.add("spring.datasource.password", () -> setting("ROUTING_DB_PASSWORD", "ktestpassfull"));
+		registry.add("app.datasource.replicas.urls", () -> System.getenv("ROUTING_REPLICA_URL"));
+		registry.add("app.jwt.secret", () -> "RoutingTestSecretKruger12345678901234");
+		registry.add("app.jwt.expiration", () -> "86400000");
+		registry.add("springdoc.swagger.prod.dev", () -> "http://localhost/ktestfull");
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void testReadOnlyTransactionsUseTheReplica() {
+		String primary = database(false);
+		String replica = database(true);
+
+		assertNotEquals(primary, replica);
+		assertEquals(databaseName(System.getenv("ROUTING_REPLICA_URL")), replica);
+		assertEquals(primary, new JdbcTemplate(dataSource).queryForObject("SELECT current_database()", String.class));
+	}
+
+	@Test
+	void testWriterReadsFromThePrimaryRightAfterCommitting() {
+		String replica = database(true);
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken("writer@test.com", null, List.of()));
+		String primary = database(false);
+
+		assertEquals(primary, database(true));
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken("reader@test.com", null, List.of()));
+		assertEquals(replica, database(true));
+	}
+
+	private String database(boolean readOnly) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(
+				status -> new JdbcTemplate(dataSource).queryForObject("SELECT current_database()", String.class));
+	}
+
+	private static String databaseName(String url) {
+		String path = url.substring(url.lastIndexOf('/') + 1);
+		int query = path.indexOf('?');
+		return query >= 0 ? path.substring(0, query) : path;
+	}
+
+	private static String setting(String name, String fallback) {
+		String value = System.getenv(name);
+		return value != null && !value.isBlank() ? value : fallback;
+	}
+}
@@ -0,0 +1,94 @@
+package com.kruger.backend.utils.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+	private final ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(new DriverManagerDataSource(),
+			List.of(new DriverManagerDataSource(), new DriverManagerDataSource()), 60000, 100);
+
+	@AfterEach
+	void tearDown() {
+		endTransaction();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void testUsesThePrimaryOutsideTransactions() {
+		assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void testSpreadsReadOnlyTransactionsOverTheReplicas() {
+		beginTransaction(true);
+		assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+		assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+		assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void testUsesThePrimaryForWrites() {
+		beginTransaction(false);
+		assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void testKeepsAWriterOnThePrimaryAfterTheirCommit() {
+		authenticate("alice@test.com");
+		beginTransaction(false);
+		dataSource.determineCurrentLookupKey();
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		endTransaction();
+
+		beginTransaction(true);
+		assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+
+		authenticate("bob@test.com");
+		assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void testRolledBackWritesDoNotPinTheWriter() {
+		authenticate("alice@test.com");
+		beginTransaction(false);
+		dataSource.determineCurrentLookupKey();
+		endTransaction();
+
+		beginTransaction(true);
+		assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void testOnPrimaryPinsReadOnlyTransactions() {
+		beginTransaction(true);
+		ReadWriteRoutingDataSource.onPrimary(
+				() -> assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey()));
+		assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+	}
+
+	private static void authenticate(String email) {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+	}
+
+	private static void beginTransaction(boolean readOnly) {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+	}
+
+	private static void endTransaction() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clear();
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.kruger.backend.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+class HandlerObservationConventionTest {
+
+	private final HandlerObservationConvention convention = new HandlerObservationConvention();
+
+	@Test
+	void testTagsTheControllerMethod() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+				new HandlerMethod(new SampleController(), SampleController.class.getMethod("list")));
+
+		KeyValues keyValues = convention.getLowCardinalityKeyValues(context(request));
+
+		assertTrue(keyValues.stream().anyMatch(KeyValue.of(HandlerNames.TAG, "SampleController#list")::equals));
+		assertTrue(keyValues.stream().anyMatch(keyValue -> keyValue.getKey().equals("uri")));
+	}
+
+	@Test
+	void testTagsNoneWithoutAHandlerMethod() {
+		KeyValues keyValues = convention.getLowCardinalityKeyValues(context(new MockHttpServletRequest("GET", "/missing")));
+
+		assertTrue(keyValues.stream().anyMatch(KeyValue.of(HandlerNames.TAG, HandlerNames.NONE)::equals));
+	}
+
+	private static ServerRequestObservationContext context(MockHttpServletRequest request) {
+		return new ServerRequestObservationContext(request, new MockHttpServletResponse());
+	}
+
+	static class SampleController {
+
+		public String list() {
+			return "";
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.kruger.backend.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HibernateRequestCounterTest {
+
+	private final HibernateRequestCounter counter = new HibernateRequestCounter();
+
+	@AfterEach
+	void tearDown() {
+		HibernateRequestCounter.end();
+	}
+
+	@Test
+	void testCountsStatementsAndLoadsBetweenBeginAndEnd() {
+		HibernateRequestCounter.begin();
+		assertEquals("select 1", counter.inspect("select 1"));
+		counter.inspect("select 2");
+		counter.onPostLoad(null);
+		counter.onPostLoad(null);
+		counter.onPostLoad(null);
+
+		HibernateRequestCounter.Counts counts = HibernateRequestCounter.end();
+
+		assertEquals(2, counts.getStatements());
+		assertEquals(3, counts.getEntityLoads());
+		assertNull(HibernateRequestCounter.end());
+	}
+
+	@Test
+	void testIgnoresThreadsWithoutAnOpenCount() throws Exception {
+		HibernateRequestCounter.begin();
+		CompletableFuture.runAsync(() -> {
+			counter.inspect("select 1");
+			counter.onPostLoad(null);
+		}).get(5, TimeUnit.SECONDS);
+		counter.inspect("select 2");
+
+		HibernateRequestCounter.Counts counts = HibernateRequestCounter.end();
+
+		assertEquals(1, counts.getStatements());
+		assertEquals(0, counts.getEntityLoads());
+	}
+
+	@Test
+	void testBeginResetsTheCount() {
+		HibernateRequestCounter.begin();
+		counter.inspect("select 1");
+		HibernateRequestCounter.begin();
+
+		assertEquals(0, HibernateRequestCounter.end().getStatements());
+	}
+}
@@ -0,0 +1,74 @@
+package com.kruger.backend.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestQueryMetricsFilterTest {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final RequestQueryMetricsFilter filter = new RequestQueryMetricsFilter(registry);
+
+	private final HibernateRequestCounter counter = new HibernateRequestCounter();
+
+	@Test
+	void testRecordsStatementsAndLoadsPerHandler() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler());
+			counter.inspect("select 1");
+			counter.inspect("select 2");
+			counter.onPostLoad(null);
+		});
+
+		DistributionSummary statements = summary("hibernate.request.statements", "SampleController#list");
+		assertEquals(1, statements.count());
+		assertEquals(2, statements.totalAmount());
+		assertEquals(1, summary("hibernate.request.entity.loads", "SampleController#list").totalAmount());
+		assertNull(HibernateRequestCounter.end());
+	}
+
+	@Test
+	void testRecordsWhenTheChainFails() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+
+		assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			counter.inspect("select 1");
+			throw new IllegalStateException("boom");
+		}));
+
+		assertEquals(1, summary("hibernate.request.statements", HandlerNames.NONE).totalAmount());
+		assertNull(HibernateRequestCounter.end());
+	}
+
+	private DistributionSummary summary(String name, String handler) {
+		return registry.get(name).tag(HandlerNames.TAG, handler).summary();
+	}
+
+	private static HandlerMethod handler() {
+		try {
+			return new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static class SampleController {
+
+		public String list() {
+			return "";
+		}
+	}
+}
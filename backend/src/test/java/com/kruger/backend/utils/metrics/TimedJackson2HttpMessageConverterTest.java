@@ -0,0 +1,61 @@
+package com.kruger.backend.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimedJackson2HttpMessageConverterTest {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final TimedJackson2HttpMessageConverter converter = new TimedJackson2HttpMessageConverter(new ObjectMapper(),
+			registry);
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void testTimesTheWriteForTheHandlingController() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+				new HandlerMethod(new SampleController(), SampleController.class.getMethod("list")));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+		converter.write(Map.of("id", 1), MediaType.APPLICATION_JSON, output);
+
+		assertEquals("{\"id\":1}", output.getBodyAsString());
+		assertEquals(1, registry.get("http.json.write").tag(HandlerNames.TAG, "SampleController#list").timer().count());
+	}
+
+	@Test
+	void testTimesWritesOutsideARequestAsNone() throws Exception {
+		converter.write(Map.of("id", 1), MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+		assertEquals(1, registry.get("http.json.write").tag(HandlerNames.TAG, HandlerNames.NONE).timer().count());
+	}
+
+	static class SampleController {
+
+		public String list() {
+			return "";
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.kruger.backend.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	private final RateLimitRule rule = new RateLimitRule("GET", "/tasks/**", 10, 3);
+
+	@Test
+	void testAllowsTheBurstThenRefusesUntilATokenRefills() {
+		RateLimiter limiter = new RateLimiter(100, 0);
+		long now = 10 * SECOND;
+
+		assertEquals(2, limiter.tryAcquire(rule, "user:a", now).getRemaining());
+		assertEquals(1, limiter.tryAcquire(rule, "user:a", now).getRemaining());
+		assertEquals(0, limiter.tryAcquire(rule, "user:a", now).getRemaining());
+
+		RateLimitDecision refused = limiter.tryAcquire(rule, "user:a", now);
+		assertFalse(refused.isAllowed());
+		assertEquals(SECOND / 10, refused.getRetryAfterNanos());
+		assertEquals(3 * SECOND / 10, refused.getResetNanos());
+
+		assertTrue(limiter.tryAcquire(rule, "user:a", now + SECOND / 10).isAllowed());
+	}
+
+	@Test
+	void testKeysHaveSeparateBuckets() {
+		RateLimiter limiter = new RateLimiter(100, 0);
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire(rule, "user:a", SECOND);
+		}
+
+		assertFalse(limiter.tryAcquire(rule, "user:a", SECOND).isAllowed());
+		assertTrue(limiter.tryAcquire(rule, "user:b", SECOND).isAllowed());
+	}
+
+	@Test
+	void testEvictsOnlyRefilledBuckets() {
+		RateLimiter limiter = new RateLimiter(100, 0);
+		limiter.tryAcquire(rule, "user:a", SECOND);
+		limiter.tryAcquire(rule, "user:b", 2 * SECOND);
+
+		assertEquals(1, limiter.evictIdle(SECOND + SECOND / 2));
+		assertEquals(1, limiter.size());
+	}
+
+	@Test
+	void testKeysPastTheCapShareOneBucket() {
+		RateLimiter limiter = new RateLimiter(1, 0);
+		limiter.tryAcquire(rule, "user:a", SECOND);
+		for (int i = 0; i < 3; i++) {
+			assertTrue(limiter.tryAcquire(rule, "user:new-" + i, SECOND).isAllowed());
+		}
+
+		assertFalse(limiter.tryAcquire(rule, "user:another", SECOND).isAllowed());
+		assertEquals(1, limiter.size());
+	}
+
+	@Test
+	void testParsesRules() {
+		List<RateLimitRule> rules = RateLimitRule.parse("/auth/**=2:10, GET /tasks/**=20:60");
+
+		assertEquals(2, rules.size());
+		assertTrue(rules.get(0).matches("POST", "/auth/login"));
+		assertTrue(rules.get(1).matches("GET", "/tasks"));
+		assertFalse(rules.get(1).matches("POST", "/tasks"));
+		assertEquals(SECOND / 20, rules.get(1).getIntervalNanos());
+		assertThrows(IllegalArgumentException.class, () -> RateLimitRule.parse("/tasks/**=20"));
+		assertNull(RateLimitRule.parse("").stream().findFirst().orElse(null));
+	}
+}
@@ -0,0 +1,68 @@
+package com.kruger.backend.utils.rebuild;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class StreamingRebuildTest {
+
+	private final StreamingRebuild rebuild = new StreamingRebuild(mock(PlatformTransactionManager.class));
+
+	@Test
+	void testHandsOverEveryRowInBatchesAndClosesTheStream() {
+		AtomicBoolean closed = new AtomicBoolean();
+		List<Integer> sizes = new ArrayList<>();
+		List<Long> loaded = new ArrayList<>();
+
+		rebuild.stream(() -> LongStream.rangeClosed(1, 1201).boxed().onClose(() -> closed.set(true)), batch -> {
+			sizes.add(batch.size());
+			loaded.addAll(batch);
+		});
+
+		assertEquals(List.of(500, 500, 201), sizes);
+		assertEquals(1201, loaded.size());
+		assertEquals(1201L, loaded.get(1200));
+		assertTrue(closed.get());
+	}
+
+	@Test
+	void testTasksWrittenDuringTheBuildAreStale() {
+		rebuild.touch(1L);
+		rebuild.begin();
+		rebuild.touch(2L);
+		List<Boolean> stale = new ArrayList<>();
+
+		rebuild.stream(() -> Stream.of(1L, 2L, 3L), batch -> {
+			rebuild.touch(3L);
+			batch.forEach(id -> stale.add(rebuild.isStale(id)));
+		});
+
+		// writes before begin are already reflected in the streamed rows
+		assertEquals(List.of(false, true, true), stale);
+		assertFalse(rebuild.isStale(2L));
+	}
+
+	@Test
+	void testStopsTrackingWhenTheStreamFails() {
+		rebuild.begin();
+		rebuild.touch(1L);
+
+		assertThrows(IllegalStateException.class, () -> rebuild.stream(() -> {
+			throw new IllegalStateException("connection lost");
+		}, batch -> {
+		}));
+
+		assertFalse(rebuild.isStale(1L));
+	}
+}
@@ -0,0 +1,102 @@
+package com.kruger.backend.utils.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	@Test
+	void testEveryTermMustMatch() {
+		put(1, "login page", "");
+		put(2, "login api", "");
+		put(3, "landing page", "");
+
+		assertArrayEquals(new long[] { 1 }, search("login page"));
+		assertArrayEquals(new long[] { 1, 2 }, search("login"));
+		assertArrayEquals(new long[0], search("login missing"));
+	}
+
+	@Test
+	void testRepeatedQueryTermsCountOnce() {
+		put(1, "login", "");
+
+		assertArrayEquals(new long[] { 1 }, search("login login LOGIN"));
+	}
+
+	@Test
+	void testBetterMatchesRankFirstAndTiesByAscendingId() {
+		put(1, "deploy", "");
+		put(2, "other", "deploy");
+		put(3, "deploy", "deploy deploy");
+		put(4, "deploy", "");
+
+		assertArrayEquals(new long[] { 3, 1, 4, 2 }, search("deploy"));
+	}
+
+	@Test
+	void testRareTermsWeighMoreThanCommonOnes() {
+		put(1, "bug bug", "crash");
+		put(2, "bug", "crash crash");
+		put(3, "bug", "");
+		put(4, "bug", "");
+
+		// "crash" is in two of four documents, "bug" in all of them
+		assertArrayEquals(new long[] { 2, 1 }, search("bug crash"));
+	}
+
+	@Test
+	void testUpdateReplacesTheTermsOfADocument() {
+		put(1, "old title", "");
+		put(1, "new title", "");
+
+		assertArrayEquals(new long[0], search("old"));
+		assertArrayEquals(new long[] { 1 }, search("new"));
+		assertEquals(1, index.size());
+		assertEquals(2, index.terms());
+	}
+
+	@Test
+	void testRemoveDropsTheDocumentAndItsUnusedTerms() {
+		put(1, "shared only1", "");
+		put(2, "shared", "");
+		index.remove(1);
+		index.remove(42);
+
+		assertArrayEquals(new long[0], search("only1"));
+		assertArrayEquals(new long[] { 2 }, search("shared"));
+		assertEquals(1, index.size());
+		assertEquals(1, index.terms());
+	}
+
+	@Test
+	void testDocumentWithoutTermsIsNotIndexed() {
+		put(1, "title", "");
+		put(1, "", "");
+
+		assertEquals(0, index.size());
+		assertEquals(0, index.terms());
+	}
+
+	@Test
+	void testFilterIsAppliedToMatches() {
+		for (long id = 1; id <= 6; id++) {
+			put(id, "task", "");
+		}
+
+		assertArrayEquals(new long[] { 2, 4, 6 }, index.search(List.of("task"), id -> id % 2 == 0));
+	}
+
+	private void put(long id, String title, String description) {
+		index.put(id, Tokenizer.frequencies(title, 3, description));
+	}
+
+	private long[] search(String query) {
+		return index.search(Tokenizer.terms(query), id -> true);
+	}
+}
@@ -0,0 +1,79 @@
+package com.kruger.backend.utils.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class PostingListTest {
+
+	@Test
+	void testIdsStayAscendingWhateverTheInsertOrder() {
+		PostingList list = new PostingList();
+		for (long id : new long[] { 5, 1, 9, 3, 7, 2, 8 }) {
+			list.put(id, (int) id * 10);
+		}
+
+		assertArrayEquals(new long[] { 1, 2, 3, 5, 7, 8, 9 }, ids(list));
+		for (int i = 0; i < list.size(); i++) {
+			assertEquals(list.idAt(i) * 10, list.weightAt(i));
+		}
+	}
+
+	@Test
+	void testPutReplacesTheWeightOfAnExistingId() {
+		PostingList list = new PostingList();
+		list.put(1, 1);
+		list.put(2, 1);
+		list.put(1, 4);
+
+		assertEquals(2, list.size());
+		assertEquals(4, list.weightOf(1));
+	}
+
+	@Test
+	void testWeightOfAbsentIdIsZero() {
+		PostingList list = new PostingList();
+		list.put(2, 3);
+
+		assertEquals(0, list.weightOf(1));
+		assertEquals(0, list.weightOf(3));
+		assertEquals(0, new PostingList().weightOf(1));
+	}
+
+	@Test
+	void testRemoveKeepsTheRestInOrder() {
+		PostingList list = new PostingList();
+		for (long id = 1; id <= 6; id++) {
+			list.put(id, (int) id);
+		}
+		list.remove(1);
+		list.remove(4);
+		list.remove(6);
+		list.remove(42);
+
+		assertArrayEquals(new long[] { 2, 3, 5 }, ids(list));
+		assertEquals(5, list.weightOf(5));
+		assertEquals(0, list.weightOf(4));
+	}
+
+	@Test
+	void testGrowsPastItsInitialCapacity() {
+		PostingList list = new PostingList();
+		for (long id = 1000; id > 0; id--) {
+			list.put(id, 1);
+		}
+
+		assertEquals(1000, list.size());
+		assertEquals(1, list.idAt(0));
+		assertEquals(1000, list.idAt(999));
+	}
+
+	private static long[] ids(PostingList list) {
+		long[] ids = new long[list.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = list.idAt(i);
+		}
+		return ids;
+	}
+}
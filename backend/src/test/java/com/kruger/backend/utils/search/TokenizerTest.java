@@ -0,0 +1,45 @@
+package com.kruger.backend.utils.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TokenizerTest {
+
+	@Test
+	void testTermsAreLowerCasedAndAccentFree() {
+		assertEquals(List.of("diseno", "de", "canon", "avion"), Tokenizer.terms("Diseño DE Cañón, AVIÓN"));
+		assertEquals(Tokenizer.terms("diseno"), Tokenizer.terms("DISEÑO"));
+	}
+
+	@Test
+	void testSplitsOnAnythingButLettersAndDigits() {
+		assertEquals(List.of("api", "v2", "login", "fix", "2024"), Tokenizer.terms("api/v2 login-fix (2024)!"));
+	}
+
+	@Test
+	void testDropsSingleCharacterTerms() {
+		assertEquals(List.of("to", "do"), Tokenizer.terms("a to-do y 1"));
+	}
+
+	@Test
+	void testBlankTextHasNoTerms() {
+		assertTrue(Tokenizer.terms(null).isEmpty());
+		assertTrue(Tokenizer.terms("  ").isEmpty());
+		assertTrue(Tokenizer.terms("- ¿? -").isEmpty());
+	}
+
+	@Test
+	void testFrequenciesWeightTitleTerms() {
+		Map<String, Integer> frequencies = Tokenizer.frequencies("Revisar login", 3, "login falla en el login");
+
+		assertEquals(3, frequencies.get("revisar"));
+		assertEquals(5, frequencies.get("login"));
+		assertEquals(1, frequencies.get("falla"));
+		assertEquals(List.of("revisar", "login", "falla", "en", "el"), List.copyOf(frequencies.keySet()));
+	}
+}
@@ -0,0 +1,147 @@
+package com.kruger.backend.utils.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+	private final List<String> fired = new ArrayList<>();
+
+	@Test
+	void testFiresOnTheDeadlineTickAndNotBefore() {
+		TimingWheel<String> wheel = new TimingWheel<>(8, 100);
+		wheel.schedule(1, 103, "a");
+
+		wheel.advanceTo(102, fired::add);
+		assertEquals(List.of(), fired);
+
+		wheel.advanceTo(103, fired::add);
+		assertEquals(List.of("a"), fired);
+		assertFalse(wheel.contains(1));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void testPastOrCurrentDeadlinesAreNotScheduled() {
+		TimingWheel<String> wheel = new TimingWheel<>(8, 100);
+
+		assertFalse(wheel.schedule(1, 100, "now"));
+		assertFalse(wheel.schedule(2, 99, "past"));
+		assertTrue(wheel.schedule(3, 101, "next"));
+		assertEquals(1, wheel.size());
+	}
+
+	@Test
+	void testRescheduleReplacesTheEarlierDeadline() {
+		TimingWheel<String> wheel = new TimingWheel<>(8, 0);
+		wheel.schedule(1, 2, "early");
+		wheel.schedule(1, 5, "late");
+
+		wheel.advanceTo(4, fired::add);
+		assertEquals(List.of(), fired);
+		wheel.advanceTo(5, fired::add);
+		assertEquals(List.of("late"), fired);
+	}
+
+	@Test
+	void testRescheduleIntoThePastCancels() {
+		TimingWheel<String> wheel = new TimingWheel<>(8, 10);
+		wheel.schedule(1, 12, "a");
+
+		assertFalse(wheel.schedule(1, 9, "a"));
+		assertFalse(wheel.contains(1));
+	}
+
+	@Test
+	void testCancelledEntriesNeverFire() {
+		TimingWheel<String> wheel = new TimingWheel<>(8, 0);
+		wheel.schedule(1, 3, "a");
+		wheel.schedule(2, 3, "b");
+		wheel.schedule(3, 3, "c");
+
+		assertEquals("b", wheel.cancel(2));
+		assertNull(wheel.cancel(2));
+		wheel.advanceTo(3, fired::add);
+
+		assertEquals(List.of("a", "c"), fired.stream().sorted().toList());
+	}
+
+	@Test
+	void testCancelIfMatchesPayloadsInTheWheelAndOverflow() {
+		TimingWheel<String> wheel = new TimingWheel<>(4, 0);
+		wheel.schedule(1, 2, "p1");
+		wheel.schedule(2, 3, "p2");
+		wheel.schedule(3, 50, "p1");
+		wheel.schedule(4, 60, "p2");
+
+		assertEquals(List.of("p1", "p1"), wheel.cancelIf("p1"::equals));
+		wheel.advanceTo(100, fired::add);
+
+		assertEquals(List.of("p2", "p2"), fired);
+	}
+
+	@Test
+	void testDeadlinesBeyondTheWheelFireOnTime() {
+		TimingWheel<String> wheel = new TimingWheel<>(4, 0);
+		wheel.schedule(1, 4, "edge");
+		wheel.schedule(2, 9, "overflow");
+		wheel.schedule(3, 9, "overflow too");
+		wheel.schedule(4, 1000, "far");
+
+		List<Long> ticks = new ArrayList<>();
+		for (long tick = 1; tick <= 1000; tick++) {
+			int before = fired.size();
+			wheel.advanceTo(tick, fired::add);
+			if (fired.size() > before) {
+				ticks.add(tick);
+			}
+		}
+
+		assertEquals(List.of(4L, 9L, 1000L), ticks);
+		assertEquals(4, fired.size());
+	}
+
+	@Test
+	void testSlotsAreReusedOnEveryLap() {
+		TimingWheel<String> wheel = new TimingWheel<>(4, 0);
+		// the same slot on three laps of the wheel
+		wheel.schedule(1, 1, "lap 0");
+		wheel.schedule(2, 5, "lap 1");
+		wheel.schedule(3, 9, "lap 2");
+
+		wheel.advanceTo(1, fired::add);
+		assertEquals(List.of("lap 0"), fired);
+		wheel.advanceTo(8, fired::add);
+		assertEquals(List.of("lap 0", "lap 1"), fired);
+		wheel.advanceTo(9, fired::add);
+		assertEquals(List.of("lap 0", "lap 1", "lap 2"), fired);
+	}
+
+	@Test
+	void testLongJumpFiresEverythingInBetween() {
+		TimingWheel<String> wheel = new TimingWheel<>(8, 0);
+		for (long id = 1; id <= 40; id++) {
+			wheel.schedule(id, id, "t" + id);
+		}
+
+		wheel.advanceTo(25, fired::add);
+
+		assertEquals(25, fired.size());
+		assertEquals(15, wheel.size());
+		assertEquals(25, wheel.currentTick());
+	}
+
+	@Test
+	void testSizeMustBeAPowerOfTwo() {
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(6, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(1, 0));
+	}
+}
@@ -0,0 +1,135 @@
+package com.kruger.backend.utils.webhook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kruger.backend.dto.WebhookMessage;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the client against a JDK {@link HttpServer} standing in for a webhook
+ * receiver on a random local port.
+ */
+class WebhookClientTest {
+
+	private HttpServer server;
+
+	private ExecutorService executor;
+
+	private WebhookClient client;
+
+	private final AtomicReference<String> receivedBody = new AtomicReference<>();
+
+	private final AtomicReference<String> receivedSignature = new AtomicReference<>();
+
+	private volatile int responseStatus = 204;
+
+	private volatile String retryAfter;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/hook", exchange -> {
+			try (InputStream in = exchange.getRequestBody()) {
+				receivedBody.set(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			}
+			receivedSignature.set(exchange.getRequestHeaders().getFirst(WebhookClient.SIGNATURE_HEADER));
+			if (retryAfter != null) {
+				exchange.getResponseHeaders().add("Retry-After", retryAfter);
+			}
+			exchange.sendResponseHeaders(responseStatus, -1);
+			exchange.close();
+		});
+		server.start();
+		executor = Executors.newFixedThreadPool(2);
+		client = new WebhookClient(executor, Duration.ofSeconds(2), Duration.ofSeconds(5));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testDeliversSignedBatch() throws Exception {
+		List<WebhookMessage> batch = List.of(
+				message(10L, "task", 5L, "UPDATED", "{\"type\":\"UPDATED\"}"),
+				message(11L, "project", 2L, "DELETED", "{\"projectId\":2}"));
+
+		WebhookResult result = client.send(url(), "s3cret", batch).get(5, TimeUnit.SECONDS);
+
+		assertTrue(result.isSuccess());
+		assertEquals(204, result.getStatus());
+		String body = receivedBody.get();
+		assertTrue(body.startsWith("[{\"id\":10,\"aggregateType\":\"task\",\"aggregateId\":5,\"type\":\"UPDATED\""));
+		assertTrue(body.contains("\"payload\":{\"projectId\":2}}]"));
+		assertEquals("sha256=" + WebhookClient.sign("s3cret", body), receivedSignature.get());
+	}
+
+	@Test
+	void testUnsignedWithoutSecret() throws Exception {
+		WebhookResult result = client.send(url(), null, List.of(message(1L, "task", 1L, "CREATED", "{}")))
+				.get(5, TimeUnit.SECONDS);
+
+		assertTrue(result.isSuccess());
+		assertNull(receivedSignature.get());
+	}
+
+	@Test
+	void testServerErrorKeepsRetryAfter() throws Exception {
+		responseStatus = 503;
+		retryAfter = "120";
+
+		WebhookResult result = client.send(url(), null, List.of(message(1L, "task", 1L, "CREATED", "{}")))
+				.get(5, TimeUnit.SECONDS);
+
+		assertFalse(result.isSuccess());
+		assertEquals(503, result.getStatus());
+		assertEquals("HTTP 503", result.getError());
+		assertEquals(Duration.ofSeconds(120), result.getRetryAfter());
+	}
+
+	@Test
+	void testUnreachableEndpointIsAFailedResult() throws Exception {
+		int closedPort;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			closedPort = socket.getLocalPort();
+		}
+
+		WebhookResult result = client.send("http://127.0.0.1:" + closedPort + "/hook", null,
+				List.of(message(1L, "task", 1L, "CREATED", "{}"))).get(5, TimeUnit.SECONDS);
+
+		assertFalse(result.isSuccess());
+		assertEquals(0, result.getStatus());
+	}
+
+	private String url() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+	}
+
+	private static WebhookMessage message(Long eventId, String aggregateType, Long aggregateId, String type,
+			String payload) {
+		return new WebhookMessage(eventId * 100, 1, eventId, aggregateType, aggregateId, type, payload,
+				LocalDateTime.of(2026, 1, 1, 12, 0));
+	}
+}
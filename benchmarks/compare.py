@@ -0,0 +1,41 @@
+#!/usr/bin/env python3
+"""Compares two JMH JSON result files, e.g. results/abc123.json results/def456.json.
+
+Prints the score of every benchmark and parameter combination found in both
+files and the relative change. Changes within the combined error margins are
+marked with '~' because they are not distinguishable from noise.
+"""
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        runs = json.load(f)
+    results = {}
+    for run in runs:
+        params = ",".join(f"{k}={v}" for k, v in sorted((run.get("params") or {}).items()))
+        name = run["benchmark"].rsplit(".", 2)
+        key = (".".join(name[-2:]), params, run["mode"])
+        results[key] = run["primaryMetric"]
+    return results
+
+
+def main():
+    if len(sys.argv) != 3:
+        sys.exit("usage: compare.py <base.json> <head.json>")
+    base, head = load(sys.argv[1]), load(sys.argv[2])
+    print(f"{'benchmark':<55} {'params':<22} {'base':>14} {'head':>14} {'change':>9}")
+    for key in sorted(base.keys() & head.keys()):
+        b, h = base[key], head[key]
+        unit = h["scoreUnit"]
+        change = (h["score"] - b["score"]) / b["score"] * 100 if b["score"] else 0.0
+        noise = abs(h["score"] - b["score"]) <= (b["scoreError"] or 0) + (h["scoreError"] or 0)
+        print(f"{key[0]:<55} {key[1]:<22} {b['score']:>14.3f} {h['score']:>14.3f} "
+              f"{change:>+8.1f}%{' ~' if noise else ''}  {unit}")
+    for key in sorted(base.keys() ^ head.keys()):
+        print(f"{key[0]:<55} {key[1]:<22} only in {'base' if key in base else 'head'}")
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,17 @@
+#!/usr/bin/env sh
+# Builds the backend and the benchmarks, then runs JMH and writes the results
+# as JSON to results/<commit>.json. Extra arguments go to JMH, e.g.
+#   ./run.sh JwtProviderBenchmark -f 2
+set -e
+cd "$(dirname "$0")"
+
+commit=$(git rev-parse --short HEAD)
+if [ -n "$(git status --porcelain -- ../backend/src ../benchmarks/src)" ]; then
+	commit="$commit-dirty"
+fi
+
+(cd ../backend && sh ./mvnw -q -B install -DskipTests && sh ./mvnw -q -B -f ../benchmarks/pom.xml package)
+
+mkdir -p results
+java -jar target/benchmarks.jar -rf json -rff "results/$commit.json" "$@"
+echo "Results written to results/$commit.json"
@@ -0,0 +1,116 @@
+package com.kruger.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import com.kruger.backend.entity.User;
+import com.kruger.backend.security.JwtProvider;
+import com.kruger.backend.utils.enums.Role;
+
+/**
+ * Token issue and verification. Verification runs with the verified-token
+ * cache disabled ({@code cacheTtlMs=0}, full parse and HMAC check on every
+ * call) and enabled (digest and map lookup only), over a pool of distinct
+ * tokens so the cold case never hits a previous result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtProviderBenchmark {
+
+	private static final int TOKENS = 1024;
+
+	private JwtProvider issuer;
+
+	private User user;
+
+	@State(Scope.Thread)
+	public static class Verification {
+
+		@Param({ "0", "300000" })
+		public long cacheTtlMs;
+
+		private JwtProvider provider;
+
+		private String[] tokens;
+
+		private int next;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			provider = provider(cacheTtlMs);
+			tokens = new String[TOKENS];
+			for (int i = 0; i < TOKENS; i++) {
+				tokens[i] = provider.createToken(user("user" + i + "@test.com"));
+			}
+		}
+
+		String nextToken() {
+			next = (next + 1) & (TOKENS - 1);
+			return tokens[next];
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		issuer = provider(300_000L);
+		user = user("bench@test.com");
+	}
+
+	@Benchmark
+	public String createToken() {
+		return issuer.createToken(user);
+	}
+
+	@Benchmark
+	public boolean validateToken(Verification verification) {
+		return verification.provider.validateToken(verification.nextToken());
+	}
+
+	@Benchmark
+	public String getUsernameFromToken(Verification verification) {
+		return verification.provider.getUsernameFromToken(verification.nextToken());
+	}
+
+	static JwtProvider provider(long cacheTtlMs) {
+		// configured the way Spring would: @Value fields, then the @PostConstruct init
+		JwtProvider provider = new JwtProvider();
+		set(provider, "jwtSecret", "EvaluacionTecnicaKruger1234567890-benchmarks");
+		set(provider, "jwtExpirationMs", 3_600_000L);
+		set(provider, "cacheMaxSize", 10_000);
+		set(provider, "cacheTtlMs", cacheTtlMs);
+		Method init = ReflectionUtils.findMethod(JwtProvider.class, "init");
+		ReflectionUtils.makeAccessible(init);
+		ReflectionUtils.invokeMethod(init, provider);
+		return provider;
+	}
+
+	static User user(String email) {
+		return User.builder().id(1L).username("bench").email(email).password("").role(Role.USER).build();
+	}
+
+	private static void set(Object target, String name, Object value) {
+		Field field = ReflectionUtils.findField(target.getClass(), name);
+		ReflectionUtils.makeAccessible(field);
+		ReflectionUtils.setField(field, target, value);
+	}
+
+}
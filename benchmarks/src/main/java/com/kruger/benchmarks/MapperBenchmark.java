@@ -0,0 +1,87 @@
+package com.kruger.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kruger.backend.dto.response.ProjectResponse;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.dto.response.UserResponse;
+import com.kruger.backend.entity.Project;
+import com.kruger.backend.entity.Task;
+import com.kruger.backend.entity.User;
+import com.kruger.backend.mapper.ProjectMapper;
+import com.kruger.backend.mapper.TaskMapper;
+import com.kruger.backend.mapper.UserMapper;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+/**
+ * Entity to response DTO mapping, on detached entities with their
+ * associations already loaded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+	private User user;
+
+	private Project project;
+
+	private Task task;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		user = JwtProviderBenchmark.user("bench@test.com");
+
+		project = new Project();
+		project.setId(10L);
+		project.setName("Benchmark project");
+		project.setDescription("Project used by the mapper benchmarks");
+		project.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0));
+		project.setOwner(user);
+		project.setVersion(3L);
+
+		task = new Task();
+		task.setId(100L);
+		task.setTitle("Benchmark task");
+		task.setDescription("Task used by the mapper benchmarks");
+		task.setStatus(TaskStatus.IN_PROGRESS);
+		task.setAssignedTo(user);
+		task.setProject(project);
+		task.setDueDate(LocalDate.of(2026, 2, 1));
+		task.setCreatedAt(LocalDateTime.of(2026, 1, 2, 9, 0));
+		task.setVersion(5L);
+	}
+
+	@Benchmark
+	public TaskResponse taskToResponse() {
+		return TaskMapper.toResponse(task);
+	}
+
+	@Benchmark
+	public ProjectResponse projectToResponse() {
+		return ProjectMapper.toResponse(project);
+	}
+
+	@Benchmark
+	public UserResponse userToResponse() {
+		return UserMapper.toResponse(user);
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.kruger.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.kruger.backend.dto.response.TaskResponse;
+import com.kruger.backend.utils.enums.TaskStatus;
+
+/**
+ * Jackson serialization of a task list, configured like Spring Boot's
+ * ObjectMapper (java.time module, ISO dates) and written to a discarding
+ * stream the way the HTTP message converter writes the response body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskListSerializationBenchmark {
+
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	private ObjectWriter writer;
+
+	private List<TaskResponse> tasks;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		writer = JsonMapper.builder()
+				.findAndAddModules()
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build()
+				.writerFor(new TypeReference<List<TaskResponse>>() {
+				});
+
+		TaskStatus[] statuses = TaskStatus.values();
+		tasks = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			tasks.add(new TaskResponse((long) i, "Task " + i, "Description of task number " + i,
+					statuses[i % statuses.length], "user" + (i % 50), (long) (i % 200),
+					LocalDate.of(2026, 1, 1).plusDays(i % 365), LocalDateTime.of(2025, 12, 1, 8, 0).plusMinutes(i),
+					(long) (i % 7)));
+		}
+	}
+
+	@Benchmark
+	public void writeList() throws IOException {
+		writer.writeValue(OutputStream.nullOutputStream(), tasks);
+	}
+
+}
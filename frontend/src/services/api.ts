@@ -1,9 +1,12 @@
-import { ApiError, ApiResponse } from '@/types';
+import { ApiError, ApiResponse, LoginResponse } from '@/types';
 import axios from 'axios';
 
 class ApiService {
     private api: ReturnType<typeof axios.create>;
 
+    // Refresh in progress, shared by every request that failed meanwhile
+    private refreshing: Promise<string | null> | null = null;
+
     constructor() {
         this.api = axios.create({
             baseURL: process.env.NEXT_PUBLIC_API_URL || 'http://192.168.0.115:8080/kfulltest',
@@ -40,8 +43,26 @@ class ApiService {
             },
             async (error: unknown) => {
                 if (error && typeof error === 'object' && 'response' in error) {
-                    const err = error as { response?: { status?: number } };
-                    if (err.response?.status === 401) {
+                    const err = error as {
+                        response?: { status?: number };
+                        config?: { url?: string; headers?: Record<string, string>; _retried?: boolean };
+                    };
+                    const status = err.response?.status;
+                    const config = err.config;
+                    if (status === 401 && config && !config._retried
+                        && !config.url?.startsWith('/auth/') && this.getRefreshToken()) {
+                        // Access token expired: renew it once and replay the request
+                        config._retried = true;
+                        const stored = localStorage.getItem('authToken');
+                        const sent = config.headers?.Authorization;
+                        // Another tab may already have renewed it
+                        const token = stored && sent !== `Bearer ${stored}` ? stored : await this.refreshTokens();
+                        if (token) {
+                            config.headers = { ...config.headers, Authorization: `Bearer ${token}` };
+                            return this.api.request(config);
+                        }
+                        this.handleAuthFailure();
+                    } else if (status === 401) {
                         // Token expired or invalid
                         this.handleAuthFailure();
                     }
@@ -79,8 +100,38 @@ class ApiService {
         return apiError;
     }
 
+    private refreshTokens(): Promise<string | null> {
+        if (!this.refreshing) {
+            const expired = this.getRefreshToken();
+            // Refresh tokens are single use, so tabs take turns: a tab that waited
+            // picks up the tokens the previous one stored instead of replaying its own
+            const refresh = (): Promise<string | null> => {
+                const current = this.getRefreshToken();
+                if (current !== expired) {
+                    return Promise.resolve(current ? localStorage.getItem('authToken') : null);
+                }
+                return this.api
+                    .post('/auth/refresh', { refreshToken: current })
+                    .then((response) => {
+                        const data = response.data as LoginResponse;
+                        this.setAuthToken(data.token);
+                        this.setRefreshToken(data.refreshToken);
+                        return data.token;
+                    })
+                    .catch(() => null);
+            };
+            const locks = typeof navigator !== 'undefined' ? navigator.locks : undefined;
+            this.refreshing = (locks ? locks.request('auth-refresh', refresh) : refresh())
+                .finally(() => {
+                    this.refreshing = null;
+                });
+        }
+        return this.refreshing;
+    }
+
     private handleAuthFailure(): void {
         localStorage.removeItem('authToken');
+        localStorage.removeItem('refreshToken');
         if (typeof window !== 'undefined') {
             window.location.href = '/login';
         }
@@ -95,6 +146,19 @@ class ApiService {
         }
     }
 
+    public setRefreshToken(token: string | null): void {
+        if (token) {
+            localStorage.setItem('refreshToken', token);
+        } else {
+            localStorage.removeItem('refreshToken');
+        }
+    }
+
+    public getRefreshToken(): string | null {
+        if (typeof window === 'undefined') return null;
+        return localStorage.getItem('refreshToken');
+    }
+
     // Generic API methods
     async get<T>(url: string): Promise<ApiResponse<T>> {
         try {
@@ -108,6 +172,28 @@ class ApiService {
         }
     }
 
+    // Follows X-Next-Cursor until the last page of a paginated list
+    async getAll<T>(url: string, pageSize = 500): Promise<ApiResponse<T[]>> {
+        try {
+            const items: T[] = [];
+            let cursor: string | null = null;
+            do {
+                const params = new URLSearchParams({ size: String(pageSize) });
+                if (cursor) params.append('cursor', cursor);
+                const separator = url.includes('?') ? '&' : '?';
+                const response = await this.api.get(`${url}${separator}${params.toString()}`);
+                items.push(...(response.data as T[]));
+                cursor = (response.headers['x-next-cursor'] as string | undefined) || null;
+            } while (cursor);
+            return {
+                success: true,
+                data: items,
+            };
+        } catch (error) {
+            throw error;
+        }
+    }
+
     async post<T>(url: string, data?: unknown): Promise<ApiResponse<T>> {
         try {
             console.log('API POST Request:', { url, data }); // Debug log
@@ -8,8 +8,9 @@ export class AuthService {
             const response = await apiService.post<LoginResponse>('/auth/login', credentials);
 
             if (response.success && response.data?.token) {
-                // Store the token in localStorage and axios instance
+                // Store the tokens in localStorage and axios instance
                 this.setToken(response.data.token);
+                apiService.setRefreshToken(response.data.refreshToken);
             }
 
             return response;
@@ -29,8 +30,8 @@ export class AuthService {
 
     async logout(): Promise<void> {
         try {
-            // Since there's no logout endpoint in the API, we just clear local storage
-            this.clearToken();
+            // Revokes the access token and the refresh token on the server
+            await apiService.post<void>('/auth/logout', { refreshToken: apiService.getRefreshToken() });
         } catch (error) {
             console.error('Logout error:', error);
         } finally {
@@ -47,6 +48,7 @@ export class AuthService {
     private clearToken(): void {
         localStorage.removeItem('authToken');
         apiService.setAuthToken(null);
+        apiService.setRefreshToken(null);
     }
 
     getToken(): string | null {
@@ -58,8 +60,8 @@ export class AuthService {
         const token = this.getToken();
         if (!token) return false;
 
-        // Check if token is expired
-        return !isTokenExpired(token);
+        // An expired access token is renewed on the next request while a refresh token is stored
+        return !isTokenExpired(token) || !!apiService.getRefreshToken();
     }
 
     // Get user info from token
@@ -5,7 +5,7 @@ export class ProjectService {
     // Get all projects for current user
     async getUserProjects(): Promise<ApiResponse<ProjectResponse[]>> {
         try {
-            return await apiService.get<ProjectResponse[]>('/projects');
+            return await apiService.getAll<ProjectResponse>('/projects');
         } catch (error) {
             throw error;
         }
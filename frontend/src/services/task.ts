@@ -12,7 +12,7 @@ export class TaskService {
             const queryString = params.toString();
             const url = queryString ? `/tasks?${queryString}` : '/tasks';
 
-            return await apiService.get<TaskResponse[]>(url);
+            return await apiService.getAll<TaskResponse>(url);
         } catch (error) {
             throw error;
         }
@@ -21,7 +21,7 @@ export class TaskService {
     // Get tasks by project ID
     async getTasksByProject(projectId: number): Promise<ApiResponse<TaskResponse[]>> {
         try {
-            return await apiService.get<TaskResponse[]>(`/tasks/project/${projectId}`);
+            return await apiService.getAll<TaskResponse>(`/tasks/project/${projectId}`);
         } catch (error) {
             throw error;
         }
@@ -92,7 +92,7 @@ export class TaskService {
     // Get all users (for task assignment)
     async getAllUsers(): Promise<ApiResponse<UserResponse[]>> {
         try {
-            return await apiService.get<UserResponse[]>('/users');
+            return await apiService.getAll<UserResponse>('/users');
         } catch (error) {
             throw error;
         }
@@ -22,6 +22,8 @@ export interface RegisterCredentials {
 
 export interface LoginResponse {
     token: string;
+    refreshToken: string;
+    expiresIn: number;
 }
 
 export interface UserResponse {